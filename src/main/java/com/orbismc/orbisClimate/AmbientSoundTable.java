@@ -0,0 +1,243 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.logging.Logger;
+
+/**
+ * Compiled ambient soundscape
+ * The dynamic_sounds.ambient entries are expanded once, at load, into one weighted table per
+ * (zone, season, weather, hour band, indoors) combination with cumulative weights. A player's
+ * update is then a single index calculation and one binary search over a few floats.
+ *
+ * Weights are chances in percent per update; whatever a table leaves below 100 is silence.
+ * Immutable once built, replaced as a whole on reload.
+ */
+public class AmbientSoundTable {
+
+    public enum HourBand { NIGHT, DAWN, DAY, DUSK }
+
+    private static final ClimateZoneManager.ClimateZone[] ZONES = ClimateZoneManager.ClimateZone.values();
+    private static final WeatherForecast.WeatherType[] WEATHERS = WeatherForecast.WeatherType.values();
+    private static final HourBand[] BANDS = HourBand.values();
+    // Index 0 is "no season" (RealisticSeasons missing)
+    private static final String[] SEASONS = {null, "SPRING", "SUMMER", "FALL", "WINTER"};
+    private static final float FULL_WEIGHT = 100.0f;
+
+    /**
+     * One playable ambient sound
+     */
+    public static final class AmbientSound {
+        private final Sound sound;
+        private final SoundMixer.Category category;
+        private final float volume;
+        private final float pitch;
+
+        AmbientSound(Sound sound, SoundMixer.Category category, float volume, float pitch) {
+            this.sound = sound;
+            this.category = category;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+
+        public Sound getSound() { return sound; }
+        public SoundMixer.Category getCategory() { return category; }
+        public float getVolume() { return volume; }
+        public float getPitch() { return pitch; }
+    }
+
+    private final AmbientSound[][] sounds;
+    private final float[][] cumulative;
+    private final float[] totals;
+
+    /**
+     * Compile dynamic_sounds.ambient, honouring the seasonal_sounds and time_sounds switches
+     */
+    public AmbientSoundTable(OrbisClimate plugin) {
+        Logger logger = plugin.getLogger();
+        ConfigurationSection root = plugin.getConfig().getConfigurationSection("dynamic_sounds");
+        ConfigurationSection section = root != null ? root.getConfigurationSection("ambient") : null;
+
+        boolean seasonalEnabled = root == null || root.getBoolean("seasonal_sounds.enabled", true);
+        float seasonalVolume = root != null ? (float) root.getDouble("seasonal_sounds.volume_multiplier", 1.0) : 1.0f;
+        boolean timeEnabled = root == null || root.getBoolean("time_sounds.enabled", true);
+        boolean[] bandEnabled = new boolean[BANDS.length];
+        bandEnabled[HourBand.NIGHT.ordinal()] = root == null || root.getBoolean("time_sounds.night_sounds", true);
+        bandEnabled[HourBand.DAWN.ordinal()] = root == null || root.getBoolean("time_sounds.dawn_sounds", true);
+        bandEnabled[HourBand.DAY.ordinal()] = true;
+        bandEnabled[HourBand.DUSK.ordinal()] = root == null || root.getBoolean("time_sounds.dusk_sounds", true);
+
+        int tableCount = ZONES.length * SEASONS.length * WEATHERS.length * BANDS.length * 2;
+        List<List<AmbientSound>> tableSounds = new ArrayList<>(tableCount);
+        List<List<Float>> tableWeights = new ArrayList<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            tableSounds.add(new ArrayList<>());
+            tableWeights.add(new ArrayList<>());
+        }
+
+        if (section != null) {
+            for (String id : section.getKeys(false)) {
+                ConfigurationSection entry = section.getConfigurationSection(id);
+                if (entry == null) continue;
+
+                Sound sound;
+                SoundMixer.Category category;
+                try {
+                    sound = Sound.valueOf(entry.getString("sound", "").toUpperCase(Locale.ROOT));
+                    category = SoundMixer.Category.valueOf(entry.getString("category", "AMBIENT").toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    logger.warning("Invalid sound or category in dynamic_sounds.ambient." + id);
+                    continue;
+                }
+
+                float weight = (float) entry.getDouble("weight", 0.0);
+                if (weight <= 0) continue;
+
+                boolean[] zones = readFilter(entry, "zones", ZONES, id, logger);
+                boolean[] weathers = readFilter(entry, "weather", WEATHERS, id, logger);
+                boolean[] bands = readFilter(entry, "hours", BANDS, id, logger);
+                boolean[] seasons = readSeasons(entry, id, logger);
+                boolean seasonal = entry.isList("seasons");
+                boolean timed = entry.isList("hours");
+                boolean indoors = entry.getBoolean("indoors", false);
+
+                if (seasonal && !seasonalEnabled) continue;
+                if (timed && !timeEnabled) continue;
+
+                float volume = (float) entry.getDouble("volume", 0.2) * (seasonal ? seasonalVolume : 1.0f);
+                AmbientSound ambientSound = new AmbientSound(sound, category, volume, (float) entry.getDouble("pitch", 1.0));
+
+                for (int zone = 0; zone < ZONES.length; zone++) {
+                    if (!zones[zone]) continue;
+                    for (int season = 0; season < SEASONS.length; season++) {
+                        if (!seasons[season]) continue;
+                        for (int weather = 0; weather < WEATHERS.length; weather++) {
+                            if (!weathers[weather]) continue;
+                            for (int band = 0; band < BANDS.length; band++) {
+                                if (!bands[band] || (timed && !bandEnabled[band])) continue;
+
+                                int index = index(zone, season, weather, band, indoors);
+                                tableSounds.get(index).add(ambientSound);
+                                tableWeights.get(index).add(weight);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        sounds = new AmbientSound[tableCount][];
+        cumulative = new float[tableCount][];
+        totals = new float[tableCount];
+        for (int i = 0; i < tableCount; i++) {
+            List<AmbientSound> entries = tableSounds.get(i);
+            List<Float> weights = tableWeights.get(i);
+            sounds[i] = entries.toArray(new AmbientSound[0]);
+            cumulative[i] = new float[entries.size()];
+
+            float sum = 0;
+            for (int j = 0; j < entries.size(); j++) {
+                sum += weights.get(j);
+                cumulative[i][j] = sum;
+            }
+            // Silence fills the table up to 100; crowded tables always play something
+            totals[i] = Math.max(sum, FULL_WEIGHT);
+        }
+    }
+
+    /**
+     * Pick this update's ambient sound, or null for silence
+     */
+    public AmbientSound sample(ClimateZoneManager.ClimateZone zone, String season, WeatherForecast.WeatherType weather,
+                               HourBand band, boolean indoors, Random random) {
+        int index = index(zone.ordinal(), seasonIndex(season), weather.ordinal(), band.ordinal(), indoors);
+        float[] weights = cumulative[index];
+        if (weights.length == 0) return null;
+
+        float roll = random.nextFloat() * totals[index];
+        if (roll >= weights[weights.length - 1]) return null;
+
+        // First cumulative weight above the roll
+        int low = 0;
+        int high = weights.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (weights[mid] > roll) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return sounds[index][low];
+    }
+
+    /**
+     * Hour band for a world time, matching the Minecraft clock (0 ticks = 6 AM)
+     */
+    public static HourBand bandForTime(long time) {
+        int hour = (int) (((time + 6000) % 24000) / 1000);
+        if (hour >= 20 || hour <= 6) return HourBand.NIGHT;
+        if (hour <= 10) return HourBand.DAWN;
+        if (hour >= 18) return HourBand.DUSK;
+        return HourBand.DAY;
+    }
+
+    private static int index(int zone, int season, int weather, int band, boolean indoors) {
+        return (((zone * SEASONS.length + season) * WEATHERS.length + weather) * BANDS.length + band) * 2 + (indoors ? 1 : 0);
+    }
+
+    private static int seasonIndex(String season) {
+        if (season == null) return 0;
+        for (int i = 1; i < SEASONS.length; i++) {
+            if (SEASONS[i].equalsIgnoreCase(season)) return i;
+        }
+        return 0;
+    }
+
+    private static <E extends Enum<E>> boolean[] readFilter(ConfigurationSection entry, String key, E[] values,
+                                                           String id, Logger logger) {
+        boolean[] allowed = new boolean[values.length];
+        if (!entry.isList(key)) {
+            Arrays.fill(allowed, true);
+            return allowed;
+        }
+
+        for (String name : entry.getStringList(key)) {
+            boolean found = false;
+            for (E value : values) {
+                if (value.name().equalsIgnoreCase(name)) {
+                    allowed[value.ordinal()] = true;
+                    found = true;
+                }
+            }
+            if (!found) {
+                logger.warning("Invalid " + key + " value in dynamic_sounds.ambient." + id + ": " + name);
+            }
+        }
+        return allowed;
+    }
+
+    private static boolean[] readSeasons(ConfigurationSection entry, String id, Logger logger) {
+        boolean[] allowed = new boolean[SEASONS.length];
+        if (!entry.isList("seasons")) {
+            Arrays.fill(allowed, true);
+            return allowed;
+        }
+
+        for (String name : entry.getStringList("seasons")) {
+            int index = seasonIndex(name);
+            if (index == 0) {
+                logger.warning("Invalid season in dynamic_sounds.ambient." + id + ": " + name);
+                continue;
+            }
+            allowed[index] = true;
+        }
+        return allowed;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,283 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Biome to climate zone lookup tables
+ * The climate_zones section of config.yml is compiled once per world into flat arrays indexed
+ * by biome, holding the zone, its temperature modifier and per-biome flags. Every manager asks
+ * this table instead of keeping its own biome switch. Datapack biomes are listed by namespaced
+ * key and resolved by key, since the Bukkit biome enum reports them all as CUSTOM.
+ * Tables are immutable once built and swapped on reload, so lookups are safe from async tasks.
+ */
+public class BiomeZoneTable {
+
+    // Biome flags
+    public static final int SNOWY = 1;      // Blizzards can form
+    public static final int SANDY = 1 << 1; // Sandstorms can form
+    public static final int NO_RAIN = 1 << 2;
+
+    private static final String DEFAULT_WORLD_SECTION = "world";
+    private static final ClimateZoneManager.ClimateZone DEFAULT_ZONE = ClimateZoneManager.ClimateZone.TEMPERATE;
+    private static final ClimateZoneManager.ClimateZone[] ZONES = ClimateZoneManager.ClimateZone.values();
+    private static final Biome[] BIOMES = Biome.values();
+
+    private final OrbisClimate plugin;
+
+    // Runtime data
+    private volatile Map<String, Compiled> worldTables = new HashMap<>();
+    private volatile Compiled defaultTable;
+
+    public BiomeZoneTable(OrbisClimate plugin) {
+        this.plugin = plugin;
+        loadConfig();
+    }
+
+    private void loadConfig() {
+        ConfigurationSection zonesSection = plugin.getConfig().getConfigurationSection("climate_zones");
+        List<String> extraSnowyBiomes = plugin.getConfig().getStringList("blizzard.extra_biomes");
+
+        Map<String, Compiled> tables = new HashMap<>();
+        Compiled fallback = null;
+
+        if (zonesSection != null) {
+            for (String worldName : zonesSection.getKeys(false)) {
+                ConfigurationSection worldSection = zonesSection.getConfigurationSection(worldName);
+                if (worldSection == null) continue;
+
+                Compiled table = compile(worldName, worldSection, extraSnowyBiomes);
+                tables.put(worldName, table);
+                if (DEFAULT_WORLD_SECTION.equals(worldName)) {
+                    fallback = table;
+                }
+            }
+        }
+
+        if (fallback == null) {
+            fallback = compile(DEFAULT_WORLD_SECTION, null, extraSnowyBiomes);
+        }
+
+        this.defaultTable = fallback;
+        this.worldTables = tables;
+    }
+
+    private Compiled compile(String worldName, ConfigurationSection worldSection, List<String> extraSnowyBiomes) {
+        Compiled table = new Compiled();
+
+        // Unlisted biomes belong to the temperate zone
+        double defaultModifier = worldSection != null
+                ? worldSection.getDouble("temperate.temperature_modifier", 1.0) : 1.0;
+        Arrays.fill(table.zones, (byte) DEFAULT_ZONE.ordinal());
+        Arrays.fill(table.temperatureModifiers, (float) defaultModifier);
+        table.defaultEntry = new Entry(DEFAULT_ZONE, (float) defaultModifier, 0);
+        for (ClimateZoneManager.ClimateZone zone : ZONES) {
+            table.zoneFlags[zone.ordinal()] = zoneFlags(zone);
+        }
+
+        if (worldSection != null) {
+            for (ClimateZoneManager.ClimateZone zone : ZONES) {
+                ConfigurationSection zoneSection = worldSection.getConfigurationSection(zone.name().toLowerCase(Locale.ROOT));
+                if (zoneSection == null || !zoneSection.getBoolean("enabled", true)) continue;
+
+                float modifier = (float) zoneSection.getDouble("temperature_modifier", 1.0);
+                int flags = zoneFlags(zone);
+                if (zoneSection.getBoolean("disable_rain", false)) {
+                    flags |= NO_RAIN;
+                }
+                table.zoneFlags[zone.ordinal()] = flags;
+
+                for (String name : zoneSection.getStringList("biomes")) {
+                    NamespacedKey key = parseKey(name);
+                    if (key == null) {
+                        plugin.getLogger().warning("Invalid biome '" + name + "' in climate_zones." + worldName + "." +
+                                zoneSection.getName());
+                        continue;
+                    }
+                    table.put(key, new Entry(zone, modifier, flags));
+                }
+            }
+        }
+
+        // Biomes outside the arctic zone that still get blizzards
+        for (String name : extraSnowyBiomes) {
+            NamespacedKey key = parseKey(name);
+            if (key != null) {
+                table.addFlags(key, SNOWY);
+            }
+        }
+
+        return table;
+    }
+
+    private static int zoneFlags(ClimateZoneManager.ClimateZone zone) {
+        switch (zone) {
+            case ARCTIC:
+                return SNOWY;
+            case DESERT:
+            case ARID:
+                return SANDY;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Accepts plain enum names (SNOWY_PLAINS) as well as namespaced keys (terralith:volcanic_peaks)
+     */
+    private static NamespacedKey parseKey(String name) {
+        if (name == null || name.isEmpty()) return null;
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        return normalized.indexOf(':') >= 0 ? NamespacedKey.fromString(normalized) : NamespacedKey.minecraft(normalized);
+    }
+
+    private Compiled tableFor(World world) {
+        Compiled table = worldTables.get(world.getName());
+        return table != null ? table : defaultTable;
+    }
+
+    // Lookups by biome - datapack biomes resolve to the default entry here
+
+    public ClimateZoneManager.ClimateZone getZone(World world, Biome biome) {
+        return ZONES[tableFor(world).zones[biome.ordinal()]];
+    }
+
+    public float getTemperatureModifier(World world, Biome biome) {
+        return tableFor(world).temperatureModifiers[biome.ordinal()];
+    }
+
+    public boolean hasFlag(World world, Biome biome, int flag) {
+        return (tableFor(world).flags[biome.ordinal()] & flag) != 0;
+    }
+
+    /**
+     * Flags of a zone as a whole, for locations whose zone comes from a coordinate region
+     */
+    public boolean hasZoneFlag(World world, ClimateZoneManager.ClimateZone zone, int flag) {
+        return (tableFor(world).zoneFlags[zone.ordinal()] & flag) != 0;
+    }
+
+    /**
+     * Whether a biome needs a lookup by key to be classified (datapack biomes)
+     */
+    public boolean isCustom(Biome biome) {
+        return isDatapackBiome(biome);
+    }
+
+    private static boolean isDatapackBiome(Biome biome) {
+        return biome == Biome.CUSTOM || !NamespacedKey.MINECRAFT.equals(biome.getKey().getNamespace());
+    }
+
+    // Lookups by location - also resolve datapack biomes by key
+
+    public ClimateZoneManager.ClimateZone getZone(Location location) {
+        Biome biome = location.getBlock().getBiome();
+        return isCustom(biome) ? customEntry(location, biome).zone : getZone(location.getWorld(), biome);
+    }
+
+    public float getTemperatureModifier(Location location) {
+        Biome biome = location.getBlock().getBiome();
+        return isCustom(biome) ? customEntry(location, biome).temperatureModifier : getTemperatureModifier(location.getWorld(), biome);
+    }
+
+    public boolean hasFlag(Location location, int flag) {
+        Biome biome = location.getBlock().getBiome();
+        return isCustom(biome) ? (customEntry(location, biome).flags & flag) != 0 : hasFlag(location.getWorld(), biome, flag);
+    }
+
+    private Entry customEntry(Location location, Biome biome) {
+        Compiled table = tableFor(location.getWorld());
+        NamespacedKey key = customBiomeKey(location, biome);
+        Entry entry = key != null ? table.customEntries.get(key) : null;
+        return entry != null ? entry : table.defaultEntry;
+    }
+
+    /**
+     * Registry key of a datapack biome. Servers that register datapack biomes in the biome registry
+     * hand them out as biomes of their own; only the CUSTOM placeholder still needs the key read
+     * from the chunk.
+     */
+    @SuppressWarnings("deprecation")
+    private static NamespacedKey customBiomeKey(Location location, Biome biome) {
+        if (biome != Biome.CUSTOM) return biome.getKey();
+
+        return Bukkit.getUnsafe().getBiomeKey(location.getWorld(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Hash of a world's zone mapping, used to invalidate persisted zone data
+     */
+    public int getMappingHash(World world) {
+        Compiled table = tableFor(world);
+        int hash = Arrays.hashCode(table.zones);
+        for (Map.Entry<NamespacedKey, Entry> entry : table.customEntries.entrySet()) {
+            hash += entry.getKey().hashCode() ^ entry.getValue().zone.ordinal();
+        }
+        return hash;
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        loadConfig();
+    }
+
+    public void shutdown() {
+        worldTables = new HashMap<>();
+    }
+
+    private static final class Entry {
+        private final ClimateZoneManager.ClimateZone zone;
+        private final float temperatureModifier;
+        private final int flags;
+
+        Entry(ClimateZoneManager.ClimateZone zone, float temperatureModifier, int flags) {
+            this.zone = zone;
+            this.temperatureModifier = temperatureModifier;
+            this.flags = flags;
+        }
+    }
+
+    // One world's compiled table
+    private static final class Compiled {
+        private final byte[] zones = new byte[BIOMES.length];
+        private final float[] temperatureModifiers = new float[BIOMES.length];
+        private final byte[] flags = new byte[BIOMES.length];
+        private final int[] zoneFlags = new int[ZONES.length];
+        private final Map<NamespacedKey, Entry> customEntries = new HashMap<>();
+        private Entry defaultEntry;
+
+        void put(NamespacedKey key, Entry entry) {
+            Biome biome = Registry.BIOME.get(key);
+            if (biome == null || isDatapackBiome(biome)) {
+                customEntries.put(key, entry);
+                return;
+            }
+            int index = biome.ordinal();
+            zones[index] = (byte) entry.zone.ordinal();
+            temperatureModifiers[index] = entry.temperatureModifier;
+            flags[index] = (byte) entry.flags;
+        }
+
+        void addFlags(NamespacedKey key, int extra) {
+            Biome biome = Registry.BIOME.get(key);
+            if (biome == null || isDatapackBiome(biome)) {
+                Entry entry = customEntries.getOrDefault(key, defaultEntry);
+                customEntries.put(key, new Entry(entry.zone, entry.temperatureModifier, entry.flags | extra));
+                return;
+            }
+            flags[biome.ordinal()] |= (byte) extra;
+        }
+    }
+}
\ No newline at end of file
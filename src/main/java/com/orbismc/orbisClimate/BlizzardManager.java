@@ -25,6 +25,7 @@ public class BlizzardManager {
     private final OrbisClimate plugin;
     private final WeatherForecast weatherForecast;
     private final WindManager windManager;
+    private final ClimateZoneManager climateZoneManager;
     private final Random random;
     private SeasonsAPI seasonsAPI;
     private boolean realisticSeasonsEnabled;
@@ -53,6 +54,7 @@ public class BlizzardManager {
         this.plugin = plugin;
         this.weatherForecast = weatherForecast;
         this.windManager = windManager;
+        this.climateZoneManager = plugin.getClimateZoneManager();
         this.random = new Random();
 
         // Check for RealisticSeasons
@@ -66,6 +68,13 @@ public class BlizzardManager {
         }
 
         loadConfig();
+
+        // Start and stop blizzards when the arctic zone's forecast weather changes
+        plugin.getEventBus().subscribe(ClimateEventBus.ZoneWeatherChangedEvent.class, event -> {
+            if (event.getZone() == ClimateZoneManager.ClimateZone.ARCTIC) {
+                checkWorldBlizzard(event.getWorld(), event.getTo());
+            }
+        });
     }
 
     private void loadConfig() {
@@ -84,6 +93,7 @@ public class BlizzardManager {
         if (!blizzardsEnabled || activeWorldBlizzards.contains(world)) return;
 
         activeWorldBlizzards.add(world);
+        plugin.getHistoryArchive().recordStorm(world, WeatherForecast.WeatherType.BLIZZARD, true);
 
         // Force storm weather
         world.setStorm(true);
@@ -105,7 +115,7 @@ public class BlizzardManager {
         }
 
         // Task to manage player blizzards
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("blizzard_tick", () -> {
             // Check for new players entering cold areas
             for (Player player : world.getPlayers()) {
                 if (shouldPlayerHaveBlizzard(player) && !activePlayerBlizzards.containsKey(player)) {
@@ -131,12 +141,12 @@ public class BlizzardManager {
 
                 processPlayerBlizzardEffects(player, data);
             }
-        }, 0L, 20L); // Every second
+        }), 0L, 20L); // Every second
 
         blizzardTasks.put(world, task);
 
         // Separate async task for particles only
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, plugin.getProfiler().wrap("blizzard_particles", () -> {
             if (!activeWorldBlizzards.contains(world)) return;
             
             // Process particles for active player blizzards
@@ -157,22 +167,22 @@ public class BlizzardManager {
                 
                 generateLocalizedBlizzardParticles(player);
             }
-        }, 0L, 1L); // Every tick for particles, but rate limited per player
+        }), 0L, 1L); // Every tick for particles, but rate limited per player
     }
 
     private void startWorldBlizzard(World world) {
         // Original world-wide blizzard system
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("blizzard_tick", () -> {
             processBlizzardEffects(world);
-        }, 0L, 20L);
+        }), 0L, 20L);
 
         blizzardTasks.put(world, task);
 
         // Async particle task
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, plugin.getProfiler().wrap("blizzard_particles", () -> {
             if (!activeWorldBlizzards.contains(world)) return;
             processBlizzardParticles(world);
-        }, 0L, 2L);
+        }), 0L, 2L);
     }
 
     private boolean shouldPlayerHaveBlizzard(Player player) {
@@ -182,7 +192,7 @@ public class BlizzardManager {
         if (loc.getBlockY() < minFreezingHeight) return false;
 
         // Biome check - only snowy biomes can have blizzards
-        if (!isSnowyBiome(loc.getBlock().getBiome())) return false;
+        if (!isSnowyBiome(loc)) return false;
 
         // Temperature check
         if (!isLocationColdEnough(loc, player)) return false;
@@ -224,6 +234,11 @@ public class BlizzardManager {
     }
 
     private void generateLocalizedBlizzardParticles(Player player) {
+        // Display entity mode draws the storm wall instead of per-frame particles
+        if (plugin.getDisplayWeatherRenderer().render(player, DisplayWeatherRenderer.Layer.BLIZZARD_WALL)) {
+            return;
+        }
+
         Location playerLoc = player.getLocation();
         
         // Performance optimization - get performance multiplier
@@ -248,7 +263,7 @@ public class BlizzardManager {
                 Location b = temp.getWorld().getHighestBlockAt(temp).getLocation();
                 
                 // Temperature and biome checks
-                if (!isLocationColdEnough(b, player) || !isSnowyBiome(b.getBlock().getBiome())) {
+                if (!isLocationColdEnough(b, player) || !isSnowyBiome(b)) {
                     continue;
                 }
                 
@@ -289,7 +304,7 @@ public class BlizzardManager {
         
         // Play localized sound
         if (random.nextInt(80) == 0) {
-            player.playSound(playerLoc, Sound.WEATHER_RAIN_ABOVE, 0.75f, 0.5f);
+            plugin.getSoundMixer().play(player, playerLoc, Sound.WEATHER_RAIN_ABOVE, SoundMixer.Category.STORM, 0.75f, 0.5f);
         }
     }
 
@@ -297,6 +312,7 @@ public class BlizzardManager {
         if (!activeWorldBlizzards.contains(world)) return;
 
         activeWorldBlizzards.remove(world);
+        plugin.getHistoryArchive().recordStorm(world, WeatherForecast.WeatherType.BLIZZARD, false);
 
         // Stop world task
         BukkitTask task = blizzardTasks.remove(world);
@@ -325,7 +341,7 @@ public class BlizzardManager {
             if (loc.getBlockY() < minFreezingHeight) continue;
 
             // Biome check
-            if (!isSnowyBiome(loc.getBlock().getBiome())) continue;
+            if (!isSnowyBiome(loc)) continue;
 
             // Temperature check
             if (!isLocationColdEnough(loc, entity)) continue;
@@ -373,6 +389,11 @@ public class BlizzardManager {
 
     private void generateBlizzardParticles(Player player) {
         Location playerLoc = player.getLocation();
+
+        if (isSnowyBiome(playerLoc) &&
+                plugin.getDisplayWeatherRenderer().render(player, DisplayWeatherRenderer.Layer.BLIZZARD_WALL)) {
+            return;
+        }
         
         // Performance optimization
         int nearbyPlayers = (int) player.getWorld().getPlayers().stream()
@@ -397,7 +418,7 @@ public class BlizzardManager {
                 int yDiff = Math.abs(particleLoc.getBlockY() - playerLoc.getBlockY());
                 if (yDiff > particleYRange) continue;
 
-                if (!isLocationColdEnough(particleLoc, player) || !isSnowyBiome(particleLoc.getBlock().getBiome())) continue;
+                if (!isLocationColdEnough(particleLoc, player) || !isSnowyBiome(particleLoc)) continue;
 
                 // Generate particles at different heights
                 for (int i = 0; i < 2; i++) { // Reduced from 3 to 2
@@ -428,31 +449,13 @@ public class BlizzardManager {
         if (random.nextInt(100) == 0) { // Reduced frequency
             float pitch = 0.3f + random.nextFloat() * 0.2f;
             float volume = 0.6f + random.nextFloat() * 0.4f;
-            player.playSound(playerLoc, Sound.WEATHER_RAIN_ABOVE, volume, pitch);
+            plugin.getSoundMixer().play(player, playerLoc, Sound.WEATHER_RAIN_ABOVE, SoundMixer.Category.STORM, volume, pitch);
         }
     }
 
     // Helper methods remain the same but simplified
-    private boolean isSnowyBiome(org.bukkit.block.Biome biome) {
-        switch (biome) {
-            case SNOWY_PLAINS:
-            case SNOWY_TAIGA:
-            case SNOWY_SLOPES:
-            case SNOWY_BEACH:
-            case FROZEN_RIVER:
-            case FROZEN_OCEAN:
-            case DEEP_FROZEN_OCEAN:
-            case ICE_SPIKES:
-            case GROVE:
-            case JAGGED_PEAKS:
-            case FROZEN_PEAKS:
-            case TAIGA:
-            case OLD_GROWTH_SPRUCE_TAIGA:
-            case OLD_GROWTH_PINE_TAIGA:
-                return true;
-            default:
-                return false;
-        }
+    private boolean isSnowyBiome(Location location) {
+        return climateZoneManager.hasClimateFlag(location, BiomeZoneTable.SNOWY);
     }
 
     private boolean isLocationColdEnough(Location loc, LivingEntity entity) {
@@ -503,7 +506,7 @@ public class BlizzardManager {
                         block.setType(Material.AIR);
                         ItemStack stick = new ItemStack(Material.STICK, 1);
                         block.getWorld().dropItemNaturally(block.getLocation().add(0.5, 0.5, 0.5), stick);
-                        player.playSound(block.getLocation(), Sound.BLOCK_FIRE_EXTINGUISH, 0.5f, 1.0f);
+                        plugin.getSoundMixer().play(player, block.getLocation(), Sound.BLOCK_FIRE_EXTINGUISH, SoundMixer.Category.EFFECT, 0.5f, 1.0f);
                     }
                 }
             }
@@ -545,20 +548,16 @@ public class BlizzardManager {
         return activePlayerBlizzards.containsKey(player);
     }
 
-    public void checkForBlizzards() {
+    private void checkWorldBlizzard(World world, WeatherForecast.WeatherType currentWeather) {
         if (!blizzardsEnabled) return;
-        
-        for (World world : Bukkit.getWorlds()) {
-            WeatherForecast.WeatherType currentWeather = weatherForecast.getCurrentWeather(world);
 
-            if (currentWeather == WeatherForecast.WeatherType.BLIZZARD) {
-                if (!isBlizzardActive(world)) {
-                    startBlizzard(world);
-                }
-            } else {
-                if (isBlizzardActive(world)) {
-                    stopBlizzard(world);
-                }
+        if (currentWeather == WeatherForecast.WeatherType.BLIZZARD) {
+            if (!isBlizzardActive(world)) {
+                startBlizzard(world);
+            }
+        } else {
+            if (isBlizzardActive(world)) {
+                stopBlizzard(world);
             }
         }
     }
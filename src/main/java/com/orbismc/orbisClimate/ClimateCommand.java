@@ -42,6 +42,7 @@ public class ClimateCommand implements CommandExecutor, TabCompleter {
         subCommands.put("regenerate", new RegenerateCommand(plugin));
         subCommands.put("debug", new DebugCommand(plugin));
         subCommands.put("snow", new SnowClearCommand(plugin));
+        subCommands.put("history", new HistoryCommand(plugin));
     }
 
     @Override
@@ -80,7 +81,7 @@ public class ClimateCommand implements CommandExecutor, TabCompleter {
             Style.style(TextDecoration.BOLD)));
 
         showCommandHelp(sender, "info", "Show climate information", "/climate info");
-        showCommandHelp(sender, "forecast", "Show weather forecast", "/climate forecast [detailed]");
+        showCommandHelp(sender, "forecast", "Show weather forecast", "/climate forecast [detailed|week]");
         showCommandHelp(sender, "temperature", "Show temperature info", "/climate temperature");
         showCommandHelp(sender, "zone", "Show climate zone info", "/climate zone");
         showCommandHelp(sender, "toggle", "Toggle particles", "/climate toggle [on|off]");
@@ -94,10 +95,11 @@ public class ClimateCommand implements CommandExecutor, TabCompleter {
 
             showCommandHelp(sender, "reload", "Reload configuration", "/climate reload");
             showCommandHelp(sender, "weather", "Weather control", "/climate weather <set|clear|info>");
-            showCommandHelp(sender, "performance", "Performance monitoring", "/climate performance <report|mode>");
+            showCommandHelp(sender, "performance", "Performance monitoring", "/climate performance <report|profile|mode>");
             showCommandHelp(sender, "regenerate", "Regenerate forecast", "/climate regenerate");
             showCommandHelp(sender, "debug", "Debug information", "/climate debug");
             showCommandHelp(sender, "snow", "Clear snow blocks", "/climate snow <area|world|radius>");
+            showCommandHelp(sender, "history", "Weather history", "/climate history [export] [hours]");
         }
 
         // Footer with tips
@@ -0,0 +1,162 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.World;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Internal push-based event bus for climate state changes
+ * WeatherForecast publishes typed events when its state actually changes, and managers
+ * subscribe to them instead of polling getCurrentWeather on timers.
+ * Events are delivered synchronously on the publishing (main) thread.
+ */
+public class ClimateEventBus {
+
+    /**
+     * Base type for all climate events
+     */
+    public interface ClimateEvent {
+        World getWorld();
+    }
+
+    /**
+     * A new daily forecast was generated (new day, season change or forced regeneration)
+     */
+    public static final class ForecastGeneratedEvent implements ClimateEvent {
+        private final World world;
+        private final WeatherForecast.DetailedForecast forecast;
+
+        public ForecastGeneratedEvent(World world, WeatherForecast.DetailedForecast forecast) {
+            this.world = world;
+            this.forecast = forecast;
+        }
+
+        public World getWorld() { return world; }
+        public WeatherForecast.DetailedForecast getForecast() { return forecast; }
+    }
+
+    /**
+     * The active world weather changed
+     */
+    public static final class WeatherChangedEvent implements ClimateEvent {
+        private final World world;
+        private final WeatherForecast.WeatherType from;
+        private final WeatherForecast.WeatherType to;
+        private final boolean transitionHour;
+
+        public WeatherChangedEvent(World world, WeatherForecast.WeatherType from,
+                                   WeatherForecast.WeatherType to, boolean transitionHour) {
+            this.world = world;
+            this.from = from;
+            this.to = to;
+            this.transitionHour = transitionHour;
+        }
+
+        public World getWorld() { return world; }
+        public WeatherForecast.WeatherType getFrom() { return from; }
+        public WeatherForecast.WeatherType getTo() { return to; }
+        public boolean isTransitionHour() { return transitionHour; }
+    }
+
+    /**
+     * The weather of one climate zone changed. Zones follow their own forecasts, so this fires
+     * independently of the world weather.
+     */
+    public static final class ZoneWeatherChangedEvent implements ClimateEvent {
+        private final World world;
+        private final ClimateZoneManager.ClimateZone zone;
+        private final WeatherForecast.WeatherType from;
+        private final WeatherForecast.WeatherType to;
+
+        public ZoneWeatherChangedEvent(World world, ClimateZoneManager.ClimateZone zone,
+                                       WeatherForecast.WeatherType from, WeatherForecast.WeatherType to) {
+            this.world = world;
+            this.zone = zone;
+            this.from = from;
+            this.to = to;
+        }
+
+        public World getWorld() { return world; }
+        public ClimateZoneManager.ClimateZone getZone() { return zone; }
+        public WeatherForecast.WeatherType getFrom() { return from; }
+        public WeatherForecast.WeatherType getTo() { return to; }
+    }
+
+    /**
+     * A transition in one climate zone's forecast lies a few hours ahead. Published once per forecast hour.
+     */
+    public static final class TransitionUpcomingEvent implements ClimateEvent {
+        private final World world;
+        private final ClimateZoneManager.ClimateZone zone;
+        private final WeatherForecast.WeatherType upcoming;
+        private final int hoursAhead;
+
+        public TransitionUpcomingEvent(World world, ClimateZoneManager.ClimateZone zone,
+                                       WeatherForecast.WeatherType upcoming, int hoursAhead) {
+            this.world = world;
+            this.zone = zone;
+            this.upcoming = upcoming;
+            this.hoursAhead = hoursAhead;
+        }
+
+        public World getWorld() { return world; }
+        public ClimateZoneManager.ClimateZone getZone() { return zone; }
+        public WeatherForecast.WeatherType getUpcoming() { return upcoming; }
+        public int getHoursAhead() { return hoursAhead; }
+    }
+
+    /**
+     * An admin weather lock was set or cleared
+     */
+    public static final class WeatherLockEvent implements ClimateEvent {
+        private final World world;
+        private final WeatherForecast.WeatherType weather;
+        private final boolean locked;
+
+        public WeatherLockEvent(World world, WeatherForecast.WeatherType weather, boolean locked) {
+            this.world = world;
+            this.weather = weather;
+            this.locked = locked;
+        }
+
+        public World getWorld() { return world; }
+        public WeatherForecast.WeatherType getWeather() { return weather; }
+        public boolean isLocked() { return locked; }
+    }
+
+    private final OrbisClimate plugin;
+    private final Map<Class<? extends ClimateEvent>, List<Consumer<ClimateEvent>>> subscribers = new ConcurrentHashMap<>();
+
+    public ClimateEventBus(OrbisClimate plugin) {
+        this.plugin = plugin;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends ClimateEvent> void subscribe(Class<T> type, Consumer<? super T> listener) {
+        subscribers.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>())
+                .add((Consumer<ClimateEvent>) listener);
+    }
+
+    public void publish(ClimateEvent event) {
+        List<Consumer<ClimateEvent>> listeners = subscribers.get(event.getClass());
+        if (listeners == null) return;
+
+        for (Consumer<ClimateEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                // One failing subscriber must not stop the others
+                plugin.getLogger().warning("Error handling " + event.getClass().getSimpleName() +
+                        " for world " + event.getWorld().getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public void shutdown() {
+        subscribers.clear();
+    }
+}
\ No newline at end of file
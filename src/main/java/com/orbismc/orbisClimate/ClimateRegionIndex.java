@@ -0,0 +1,360 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Coordinate-based climate regions
+ * Zones with use_coordinates: true define rectangle, circle or polygon regions that override
+ * the biome-based zone. Each world's regions are packed into a static R-tree (Sort-Tile-Recursive)
+ * when the config loads, so a point query only visits the few nodes whose bounds contain it.
+ * Trees are immutable and swapped on reload, so queries are safe from worker threads.
+ *
+ * Where regions overlap the highest priority wins; outside every region the biome decides.
+ */
+public class ClimateRegionIndex {
+
+    // Children per R-tree node
+    private static final int NODE_CAPACITY = 8;
+    private static final ClimateZoneManager.ClimateZone[] ZONES = ClimateZoneManager.ClimateZone.values();
+
+    private final OrbisClimate plugin;
+
+    // Runtime data
+    private volatile Map<String, RegionTree> worldTrees = new HashMap<>();
+
+    public ClimateRegionIndex(OrbisClimate plugin) {
+        this.plugin = plugin;
+        loadConfig();
+    }
+
+    private void loadConfig() {
+        Map<String, RegionTree> trees = new HashMap<>();
+        ConfigurationSection zonesSection = plugin.getConfig().getConfigurationSection("climate_zones");
+
+        if (zonesSection != null) {
+            for (String worldName : zonesSection.getKeys(false)) {
+                ConfigurationSection worldSection = zonesSection.getConfigurationSection(worldName);
+                if (worldSection == null) continue;
+
+                List<Region> regions = loadRegions(worldName, worldSection);
+                if (!regions.isEmpty()) {
+                    trees.put(worldName, new RegionTree(regions));
+                }
+            }
+        }
+
+        this.worldTrees = trees;
+    }
+
+    private List<Region> loadRegions(String worldName, ConfigurationSection worldSection) {
+        List<Region> regions = new ArrayList<>();
+
+        for (ClimateZoneManager.ClimateZone zone : ZONES) {
+            ConfigurationSection zoneSection = worldSection.getConfigurationSection(zone.name().toLowerCase(Locale.ROOT));
+            if (zoneSection == null || !zoneSection.getBoolean("enabled", true) ||
+                    !zoneSection.getBoolean("use_coordinates", false)) {
+                continue;
+            }
+
+            ConfigurationSection regionsSection = zoneSection.getConfigurationSection("regions");
+            if (regionsSection == null) continue;
+
+            for (String name : regionsSection.getKeys(false)) {
+                ConfigurationSection regionSection = regionsSection.getConfigurationSection(name);
+                if (regionSection == null) continue;
+
+                try {
+                    regions.add(parseRegion(name, zone, regionSection));
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Invalid climate region " + worldName + "." + name + ": " + e.getMessage());
+                }
+            }
+        }
+
+        return regions;
+    }
+
+    private Region parseRegion(String name, ClimateZoneManager.ClimateZone zone, ConfigurationSection section) {
+        int priority = section.getInt("priority", 0);
+        String shape = section.getString("shape", "rect").toLowerCase(Locale.ROOT);
+
+        switch (shape) {
+            case "rect":
+            case "rectangle":
+                // Omitted bounds are open, so a single bound makes a band or half-plane
+                return new RectRegion(name, zone, priority,
+                        section.getDouble("min_x", Double.NEGATIVE_INFINITY),
+                        section.getDouble("min_z", Double.NEGATIVE_INFINITY),
+                        section.getDouble("max_x", Double.POSITIVE_INFINITY),
+                        section.getDouble("max_z", Double.POSITIVE_INFINITY));
+            case "circle":
+                double radius = section.getDouble("radius", 0);
+                if (radius <= 0) throw new IllegalArgumentException("radius must be positive");
+                return new CircleRegion(name, zone, priority,
+                        section.getDouble("center_x", 0), section.getDouble("center_z", 0), radius);
+            case "polygon":
+                return new PolygonRegion(name, zone, priority, parsePoints(section.getList("points")));
+            default:
+                throw new IllegalArgumentException("unknown shape '" + shape + "'");
+        }
+    }
+
+    private static double[] parsePoints(List<?> points) {
+        if (points == null || points.size() < 3) {
+            throw new IllegalArgumentException("a polygon needs at least 3 points");
+        }
+
+        double[] coords = new double[points.size() * 2];
+        for (int i = 0; i < points.size(); i++) {
+            Object point = points.get(i);
+            if (!(point instanceof List) || ((List<?>) point).size() != 2 ||
+                    !(((List<?>) point).get(0) instanceof Number) || !(((List<?>) point).get(1) instanceof Number)) {
+                throw new IllegalArgumentException("points must be [x, z] pairs");
+            }
+            coords[i * 2] = ((Number) ((List<?>) point).get(0)).doubleValue();
+            coords[i * 2 + 1] = ((Number) ((List<?>) point).get(1)).doubleValue();
+        }
+        return coords;
+    }
+
+    /**
+     * Zone of the highest priority region containing the column, or null if no region does
+     */
+    public ClimateZoneManager.ClimateZone getZone(World world, double x, double z) {
+        RegionTree tree = worldTrees.get(world.getName());
+        if (tree == null) return null;
+
+        Region region = tree.find(x, z);
+        return region != null ? region.zone : null;
+    }
+
+    /**
+     * Name of the region containing the column, for /climate zone
+     */
+    public String getRegionName(World world, double x, double z) {
+        RegionTree tree = worldTrees.get(world.getName());
+        if (tree == null) return null;
+
+        Region region = tree.find(x, z);
+        return region != null ? region.name : null;
+    }
+
+    public int getRegionCount(World world) {
+        RegionTree tree = worldTrees.get(world.getName());
+        return tree != null ? tree.regions.length : 0;
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        loadConfig();
+    }
+
+    public void shutdown() {
+        worldTrees = new HashMap<>();
+    }
+
+    // Region shapes
+
+    /**
+     * Axis-aligned bounds shared by regions and tree nodes
+     */
+    private abstract static class Bounds {
+        double minX, minZ, maxX, maxZ;
+        int maxPriority;
+
+        boolean boundsContain(double x, double z) {
+            return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+        }
+
+        // Finite centre for sorting; open bounds fall back to the closed side
+        double centreX() { return centre(minX, maxX); }
+        double centreZ() { return centre(minZ, maxZ); }
+
+        private static double centre(double min, double max) {
+            boolean minOpen = Double.isInfinite(min);
+            boolean maxOpen = Double.isInfinite(max);
+            if (minOpen && maxOpen) return 0;
+            if (minOpen) return max;
+            if (maxOpen) return min;
+            return (min + max) / 2;
+        }
+    }
+
+    private abstract static class Region extends Bounds {
+        final String name;
+        final ClimateZoneManager.ClimateZone zone;
+        final int priority;
+
+        Region(String name, ClimateZoneManager.ClimateZone zone, int priority) {
+            this.name = name;
+            this.zone = zone;
+            this.priority = priority;
+            this.maxPriority = priority;
+        }
+
+        abstract boolean contains(double x, double z);
+    }
+
+    private static final class RectRegion extends Region {
+        RectRegion(String name, ClimateZoneManager.ClimateZone zone, int priority,
+                   double minX, double minZ, double maxX, double maxZ) {
+            super(name, zone, priority);
+            if (minX > maxX || minZ > maxZ) throw new IllegalArgumentException("min is greater than max");
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+        }
+
+        @Override
+        boolean contains(double x, double z) {
+            // The bounds are the region
+            return true;
+        }
+    }
+
+    private static final class CircleRegion extends Region {
+        private final double centerX;
+        private final double centerZ;
+        private final double radiusSquared;
+
+        CircleRegion(String name, ClimateZoneManager.ClimateZone zone, int priority,
+                     double centerX, double centerZ, double radius) {
+            super(name, zone, priority);
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.radiusSquared = radius * radius;
+            this.minX = centerX - radius;
+            this.minZ = centerZ - radius;
+            this.maxX = centerX + radius;
+            this.maxZ = centerZ + radius;
+        }
+
+        @Override
+        boolean contains(double x, double z) {
+            double dx = x - centerX;
+            double dz = z - centerZ;
+            return dx * dx + dz * dz <= radiusSquared;
+        }
+    }
+
+    private static final class PolygonRegion extends Region {
+        private final double[] coords;
+
+        PolygonRegion(String name, ClimateZoneManager.ClimateZone zone, int priority, double[] coords) {
+            super(name, zone, priority);
+            this.coords = coords;
+            minX = minZ = Double.POSITIVE_INFINITY;
+            maxX = maxZ = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < coords.length; i += 2) {
+                minX = Math.min(minX, coords[i]);
+                maxX = Math.max(maxX, coords[i]);
+                minZ = Math.min(minZ, coords[i + 1]);
+                maxZ = Math.max(maxZ, coords[i + 1]);
+            }
+        }
+
+        @Override
+        boolean contains(double x, double z) {
+            // Even-odd ray cast along +x
+            boolean inside = false;
+            int n = coords.length;
+            for (int i = 0, j = n - 2; i < n; j = i, i += 2) {
+                double zi = coords[i + 1];
+                double zj = coords[j + 1];
+                if ((zi > z) != (zj > z)) {
+                    double crossX = coords[i] + (z - zi) * (coords[j] - coords[i]) / (zj - zi);
+                    if (x < crossX) inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+
+    private static final class Node extends Bounds {
+        final Bounds[] children;
+        final boolean leaf;
+
+        Node(List<? extends Bounds> children, boolean leaf) {
+            this.children = children.toArray(new Bounds[0]);
+            this.leaf = leaf;
+            minX = minZ = Double.POSITIVE_INFINITY;
+            maxX = maxZ = Double.NEGATIVE_INFINITY;
+            maxPriority = Integer.MIN_VALUE;
+            for (Bounds child : this.children) {
+                minX = Math.min(minX, child.minX);
+                minZ = Math.min(minZ, child.minZ);
+                maxX = Math.max(maxX, child.maxX);
+                maxZ = Math.max(maxZ, child.maxZ);
+                maxPriority = Math.max(maxPriority, child.maxPriority);
+            }
+        }
+    }
+
+    /**
+     * Static R-tree packed bottom-up with Sort-Tile-Recursive: each level is cut into vertical
+     * slices by x centre, each slice sorted by z centre and chunked into nodes.
+     */
+    private static final class RegionTree {
+        private final Region[] regions;
+        private final Node root;
+
+        RegionTree(List<Region> input) {
+            this.regions = input.toArray(new Region[0]);
+
+            List<Node> level = pack(input, true);
+            while (level.size() > 1) {
+                level = pack(level, false);
+            }
+            this.root = level.get(0);
+        }
+
+        private static List<Node> pack(List<? extends Bounds> items, boolean leafLevel) {
+            List<Bounds> sorted = new ArrayList<>(items);
+            sorted.sort(Comparator.comparingDouble(Bounds::centreX));
+
+            int nodeCount = (sorted.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+            int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+            int sliceSize = sliceCount * NODE_CAPACITY;
+
+            List<Node> nodes = new ArrayList<>(nodeCount);
+            for (int sliceStart = 0; sliceStart < sorted.size(); sliceStart += sliceSize) {
+                List<Bounds> slice = new ArrayList<>(sorted.subList(sliceStart, Math.min(sliceStart + sliceSize, sorted.size())));
+                slice.sort(Comparator.comparingDouble(Bounds::centreZ));
+
+                for (int start = 0; start < slice.size(); start += NODE_CAPACITY) {
+                    nodes.add(new Node(slice.subList(start, Math.min(start + NODE_CAPACITY, slice.size())), leafLevel));
+                }
+            }
+            return nodes;
+        }
+
+        Region find(double x, double z) {
+            return search(root, x, z, null);
+        }
+
+        private static Region search(Node node, double x, double z, Region best) {
+            for (Bounds child : node.children) {
+                // Nothing below can beat the current match
+                if (best != null && child.maxPriority <= best.priority) continue;
+                if (!child.boundsContain(x, z)) continue;
+
+                if (node.leaf) {
+                    Region region = (Region) child;
+                    if (region.contains(x, z)) best = region;
+                } else {
+                    best = search((Node) child, x, z, best);
+                }
+            }
+            return best;
+        }
+    }
+}
\ No newline at end of file
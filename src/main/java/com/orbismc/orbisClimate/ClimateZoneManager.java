@@ -6,10 +6,8 @@ import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
-import org.bukkit.block.Biome;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.Color;
 
 import java.util.*;
 
@@ -44,6 +42,11 @@ public class ClimateZoneManager {
         private long lastDroughtCheck;
         private double currentTemperature;
         private long lastTemperatureUpdate;
+        private boolean dirty;
+
+        // Days that passed while the server was offline, applied on first access
+        private int pendingDays;
+        private WeatherForecast.WeatherType pendingWeather;
 
         public ZoneWeatherData(ClimateZone zone) {
             this.zone = zone;
@@ -59,27 +62,70 @@ public class ClimateZoneManager {
         public ClimateZone getZone() { return zone; }
         public WeatherForecast.WeatherType getCurrentWeather() { return currentWeather; }
         public void setCurrentWeather(WeatherForecast.WeatherType weather) { this.currentWeather = weather; }
-        public int getConsecutiveClearDays() { return consecutiveClearDays; }
-        public void setConsecutiveClearDays(int days) { this.consecutiveClearDays = days; }
-        public boolean isDroughtActive() { return isDroughtActive; }
-        public void setDroughtActive(boolean active) { this.isDroughtActive = active; }
+        public int getConsecutiveClearDays() { settlePendingDays(); return consecutiveClearDays; }
+        public void setConsecutiveClearDays(int days) { settlePendingDays(); this.consecutiveClearDays = days; dirty = true; }
+        public boolean isDroughtActive() { settlePendingDays(); return isDroughtActive; }
+        public void setDroughtActive(boolean active) { settlePendingDays(); this.isDroughtActive = active; dirty = true; }
         public double getCurrentTemperature() { return currentTemperature; }
-        public void setCurrentTemperature(double temp) { this.currentTemperature = temp; }
+        public void setCurrentTemperature(double temp) { this.currentTemperature = temp; dirty = true; }
         public long getLastDroughtCheck() { return lastDroughtCheck; }
         public void setLastDroughtCheck(long time) { this.lastDroughtCheck = time; }
         public long getLastTemperatureUpdate() { return lastTemperatureUpdate; }
         public void setLastTemperatureUpdate(long time) { this.lastTemperatureUpdate = time; }
+
+        /**
+         * Restore persisted state. Days missed while offline are only simulated when first needed.
+         */
+        public void restore(ZoneStateJournal.ZoneState state, long missedDays) {
+            this.consecutiveClearDays = state.getConsecutiveClearDays();
+            this.isDroughtActive = state.isDroughtActive();
+            this.currentTemperature = state.getTemperature();
+            this.pendingDays = (int) Math.min(Integer.MAX_VALUE, Math.max(0, missedDays));
+            this.pendingWeather = state.getWeather();
+        }
+
+        private void settlePendingDays() {
+            if (pendingDays == 0) return;
+
+            // The last known weather is assumed to have held over the missed days
+            if (pendingWeather == WeatherForecast.WeatherType.CLEAR) {
+                consecutiveClearDays += pendingDays;
+            } else {
+                consecutiveClearDays = 0;
+            }
+            pendingDays = 0;
+            dirty = true;
+        }
+
+        void markDirty() {
+            dirty = true;
+        }
+
+        boolean consumeDirty() {
+            boolean wasDirty = dirty;
+            dirty = false;
+            return wasDirty;
+        }
     }
 
     private final OrbisClimate plugin;
     private final WeatherForecast weatherForecast;
     private final WindManager windManager;
+    private final EffectEngine effectEngine;
+    private final BiomeZoneTable biomeTable;
     private final Random random;
 
+    // Configuration
+    private boolean perPlayerWeather;
+
     // Runtime data
     private final Map<String, Map<ClimateZone, ZoneWeatherData>> worldZoneData = new HashMap<>();
-    private final Map<Player, ClimateZone> playerZoneCache = new HashMap<>();
     private final Map<String, Long> worldDayTracker = new HashMap<>();
+    private final Map<Player, org.bukkit.WeatherType> playerClientWeather = new HashMap<>();
+    private final ZoneRasterStore zoneRaster;
+    private final ClimateRegionIndex regionIndex;
+    private final ZoneBlendField zoneBlend;
+    private final ZoneStateJournal stateJournal;
     
     // Tasks
     private BukkitTask climateTask;
@@ -89,235 +135,125 @@ public class ClimateZoneManager {
         this.plugin = plugin;
         this.weatherForecast = weatherForecast;
         this.windManager = windManager;
+        this.effectEngine = plugin.getEffectEngine();
         this.random = new Random();
+        this.biomeTable = plugin.getBiomeZoneTable();
+        this.zoneRaster = new ZoneRasterStore(plugin, biomeTable);
+        this.regionIndex = new ClimateRegionIndex(plugin);
+        this.zoneBlend = new ZoneBlendField(plugin, this, zoneRaster, regionIndex);
+        this.stateJournal = new ZoneStateJournal(plugin);
 
+        loadConfig();
         initializeWorldData();
         startClimateTasks();
+
+        // Each zone follows its own forecast; the forecast pushes changes as its hours come up
+        plugin.getEventBus().subscribe(ClimateEventBus.ZoneWeatherChangedEvent.class,
+                event -> onZoneWeatherChanged(event.getWorld(), event.getZone(), event.getTo()));
+    }
+
+    private void loadConfig() {
+        perPlayerWeather = plugin.getConfig().getBoolean("weather_control.per_player_weather", true);
     }
 
     private void initializeWorldData() {
         for (World world : Bukkit.getWorlds()) {
+            long currentDay = getCurrentDay(world);
+            Map<ClimateZone, ZoneStateJournal.ZoneState> savedStates = stateJournal.recover(world);
+
             Map<ClimateZone, ZoneWeatherData> zoneData = new HashMap<>();
             for (ClimateZone zone : ClimateZone.values()) {
-                zoneData.put(zone, new ZoneWeatherData(zone));
+                ZoneWeatherData data = new ZoneWeatherData(zone);
+                ZoneStateJournal.ZoneState saved = savedStates.get(zone);
+                if (saved != null) {
+                    data.restore(saved, currentDay - saved.getDay());
+                }
+                zoneData.put(zone, data);
             }
             worldZoneData.put(world.getName(), zoneData);
-            worldDayTracker.put(world.getName(), getCurrentDay(world));
+            worldDayTracker.put(world.getName(), currentDay);
+            for (ZoneWeatherData data : zoneData.values()) {
+                data.setCurrentWeather(weatherForecast.getZoneWeather(world, data.getZone()));
+            }
         }
     }
 
     private void startClimateTasks() {
         // Main climate effects task
-        climateTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        climateTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("zone_tick", () -> {
             for (World world : Bukkit.getWorlds()) {
-                updateWorldClimate(world);
                 processPlayerClimateEffects(world);
             }
-        }, 0L, 20L); // Every second
+        }), 0L, 20L); // Every second
 
         // Temperature update task (less frequent)
-        temperatureTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        temperatureTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("zone_update", () -> {
             for (World world : Bukkit.getWorlds()) {
+                checkDayChange(world);
                 updateWorldTemperatures(world);
                 checkForDroughts(world);
+                persistZoneState(world);
             }
-        }, 0L, 1200L); // Every minute
+        }), 0L, 1200L); // Every minute
     }
 
     public ClimateZone getPlayerClimateZone(Player player) {
-        // Check cache first
-        ClimateZone cached = playerZoneCache.get(player);
-        if (cached != null) {
-            return cached;
-        }
+        return getClimateZone(player.getLocation());
+    }
 
-        Location loc = player.getLocation();
-        Biome biome = loc.getBlock().getBiome();
-        
-        // Simple biome-based detection only
-        ClimateZone zone;
-        if (isArcticBiome(biome)) {
-            zone = ClimateZone.ARCTIC;
-        } else if (isDesertBiome(biome)) {
-            zone = ClimateZone.DESERT;
-        } else if (isAridBiome(biome)) {
-            zone = ClimateZone.ARID;
-        } else {
-            zone = ClimateZone.TEMPERATE;
-        }
-        
-        playerZoneCache.put(player, zone);
-        return zone;
-    }
-
-    private boolean isArcticBiome(Biome biome) {
-        switch (biome) {
-            case SNOWY_PLAINS:
-            case SNOWY_TAIGA:
-            case SNOWY_SLOPES:
-            case SNOWY_BEACH:
-            case FROZEN_RIVER:
-            case FROZEN_OCEAN:
-            case DEEP_FROZEN_OCEAN:
-            case ICE_SPIKES:
-            case GROVE:
-            case JAGGED_PEAKS:
-            case FROZEN_PEAKS:
-            case TAIGA:
-                return true;
-            default:
-                return false;
-        }
-    }
-
-    private boolean isDesertBiome(Biome biome) {
-        switch (biome) {
-            case DESERT:
-                return true;
-            default:
-                return false;
-        }
+    /**
+     * Zone at any location - configured coordinate regions first, then the precomputed zone raster
+     */
+    public ClimateZone getClimateZone(Location location) {
+        ClimateZone regionZone = regionIndex.getZone(location.getWorld(), location.getX(), location.getZ());
+        return regionZone != null ? regionZone : zoneRaster.getZone(location);
     }
 
-    private boolean isAridBiome(Biome biome) {
-        switch (biome) {
-            case BADLANDS:
-            case ERODED_BADLANDS:
-            case WOODED_BADLANDS:
-                return true;
-            default:
-                return false;
-        }
+    /**
+     * Biome table flag at a location. Inside a coordinate region the flags come from the region's
+     * zone, so an arctic region over plains gets blizzards and a desert region over forest no rain.
+     */
+    public boolean hasClimateFlag(Location location, int flag) {
+        ClimateZone regionZone = regionIndex.getZone(location.getWorld(), location.getX(), location.getZ());
+        return regionZone != null ? biomeTable.hasZoneFlag(location.getWorld(), regionZone, flag)
+                : biomeTable.hasFlag(location, flag);
+    }
+
+    /**
+     * Per-zone value (indexed by zone ordinal) blended across nearby zone borders
+     */
+    public double blendZoneValues(Location location, double[] zoneValues) {
+        return zoneBlend.blend(location, zoneValues);
+    }
+
+    /**
+     * Name of the coordinate region at a location, or null where the biome decides the zone
+     */
+    public String getClimateRegionName(Location location) {
+        return regionIndex.getRegionName(location.getWorld(), location.getX(), location.getZ());
     }
 
-    private void updateWorldClimate(World world) {
-        WeatherForecast.WeatherType worldWeather = weatherForecast.getCurrentWeather(world);
+    private void onZoneWeatherChanged(World world, ClimateZone zone, WeatherForecast.WeatherType weather) {
         Map<ClimateZone, ZoneWeatherData> zoneData = worldZoneData.get(world.getName());
-        
         if (zoneData == null) return;
 
-        // Update each zone's weather based on world weather state
-        for (Map.Entry<ClimateZone, ZoneWeatherData> entry : zoneData.entrySet()) {
-            ClimateZone zone = entry.getKey();
-            ZoneWeatherData data = entry.getValue();
-            
-            WeatherForecast.WeatherType zoneWeather = translateWorldWeatherToZone(worldWeather, zone, world);
-            data.setCurrentWeather(zoneWeather);
+        ZoneWeatherData data = zoneData.get(zone);
+        if (data != null) {
+            data.setCurrentWeather(weather);
         }
+    }
 
+    private void checkDayChange(World world) {
         // Check for day changes and update drought tracking
         long currentDay = getCurrentDay(world);
         Long lastDay = worldDayTracker.get(world.getName());
         
         if (lastDay == null || currentDay != lastDay) {
-            updateDayTracking(world, worldWeather);
+            updateDayTracking(world, weatherForecast.getCurrentWeather(world));
             worldDayTracker.put(world.getName(), currentDay);
         }
     }
 
-    private WeatherForecast.WeatherType translateWorldWeatherToZone(WeatherForecast.WeatherType worldWeather, 
-                                                                  ClimateZone zone, World world) {
-        Season currentSeason = weatherForecast.getCurrentSeason(world);
-        
-        switch (worldWeather) {
-            case CLEAR:
-                return translateClearWeather(zone, currentSeason, world);
-            case LIGHT_RAIN:
-            case HEAVY_RAIN:
-                return translateStormWeather(zone, currentSeason, false);
-            case THUNDERSTORM:
-                return translateStormWeather(zone, currentSeason, true);
-            case SNOW:
-                return translateSnowWeather(zone, currentSeason);
-            case BLIZZARD:
-                return translateBlizzardWeather(zone, currentSeason);
-            case SANDSTORM:
-                return translateSandstormWeather(zone, currentSeason);
-            default:
-                return worldWeather;
-        }
-    }
-
-    private WeatherForecast.WeatherType translateClearWeather(ClimateZone zone, Season season, World world) {
-        Map<ClimateZone, ZoneWeatherData> zoneData = worldZoneData.get(world.getName());
-        ZoneWeatherData data = zoneData.get(zone);
-        
-        switch (zone) {
-            case ARCTIC:
-                // Arctic: Wind-blown snow, Aurora at night
-                if (world.getTime() > 13000 && world.getTime() < 23000) {
-                    // Night time - potential aurora
-                    return WeatherForecast.WeatherType.CLEAR; // Will show aurora effects
-                }
-                return WeatherForecast.WeatherType.CLEAR; // Will show wind-blown snow
-                
-            case DESERT:
-            case ARID:
-                // Desert/Arid: Heat mirages, potential drought
-                if (data.isDroughtActive()) {
-                    return WeatherForecast.WeatherType.CLEAR; // Will show drought/heat effects
-                }
-                return WeatherForecast.WeatherType.CLEAR;
-                
-            case TEMPERATE:
-            default:
-                return WeatherForecast.WeatherType.CLEAR;
-        }
-    }
-
-    private WeatherForecast.WeatherType translateStormWeather(ClimateZone zone, Season season, boolean hasThunder) {
-        switch (zone) {
-            case ARCTIC:
-                return hasThunder ? WeatherForecast.WeatherType.BLIZZARD : WeatherForecast.WeatherType.SNOW;
-            case DESERT:
-            case ARID:
-                // No rain in arid zones
-                return WeatherForecast.WeatherType.CLEAR;
-            case TEMPERATE:
-            default:
-                return hasThunder ? WeatherForecast.WeatherType.THUNDERSTORM : WeatherForecast.WeatherType.LIGHT_RAIN;
-        }
-    }
-
-    private WeatherForecast.WeatherType translateSnowWeather(ClimateZone zone, Season season) {
-        switch (zone) {
-            case ARCTIC:
-                return WeatherForecast.WeatherType.SNOW;
-            case DESERT:
-            case ARID:
-                return WeatherForecast.WeatherType.CLEAR; // Deserts/Arid don't get snow
-            case TEMPERATE:
-            default:
-                return season == Season.WINTER ? WeatherForecast.WeatherType.SNOW : WeatherForecast.WeatherType.LIGHT_RAIN;
-        }
-    }
-
-    private WeatherForecast.WeatherType translateBlizzardWeather(ClimateZone zone, Season season) {
-        switch (zone) {
-            case ARCTIC:
-                return WeatherForecast.WeatherType.BLIZZARD;
-            case DESERT:
-            case ARID:
-                return WeatherForecast.WeatherType.SANDSTORM; // Desert equivalent
-            case TEMPERATE:
-            default:
-                return WeatherForecast.WeatherType.HEAVY_RAIN; // Hurricane-like effects
-        }
-    }
-
-    private WeatherForecast.WeatherType translateSandstormWeather(ClimateZone zone, Season season) {
-        switch (zone) {
-            case ARCTIC:
-                return WeatherForecast.WeatherType.BLIZZARD; // Arctic equivalent
-            case DESERT:
-            case ARID:
-                return WeatherForecast.WeatherType.SANDSTORM;
-            case TEMPERATE:
-            default:
-                return WeatherForecast.WeatherType.HEAVY_RAIN; // Severe storm
-        }
-    }
-
     private void processPlayerClimateEffects(World world) {
         for (Player player : world.getPlayers()) {
             ClimateZone playerZone = getPlayerClimateZone(player);
@@ -325,11 +261,39 @@ public class ClimateZoneManager {
             
             if (zoneData == null) continue;
 
+            if (perPlayerWeather) {
+                updatePlayerWeather(player, zoneData.getCurrentWeather(),
+                        !hasClimateFlag(player.getLocation(), BiomeZoneTable.NO_RAIN));
+            }
+
             // Apply zone-specific effects
             applyZoneEffects(player, playerZone, zoneData, world);
         }
     }
 
+    /**
+     * Show the player their zone's precipitation instead of the world storm state.
+     * Only sends an update when the client weather actually changes.
+     */
+    private void updatePlayerWeather(Player player, WeatherForecast.WeatherType zoneWeather, boolean rainAllowed) {
+        org.bukkit.WeatherType clientWeather = rainAllowed && zoneWeather != null && zoneWeather.getRainIntensity() > 0
+                ? org.bukkit.WeatherType.DOWNFALL
+                : org.bukkit.WeatherType.CLEAR;
+
+        if (playerClientWeather.put(player, clientWeather) != clientWeather) {
+            player.setPlayerWeather(clientWeather);
+        }
+    }
+
+    private void resetPlayerWeather() {
+        for (Player player : playerClientWeather.keySet()) {
+            if (player.isOnline()) {
+                player.resetPlayerWeather();
+            }
+        }
+        playerClientWeather.clear();
+    }
+
     private void applyZoneEffects(Player player, ClimateZone zone, ZoneWeatherData zoneData, World world) {
         WeatherForecast.WeatherType zoneWeather = zoneData.getCurrentWeather();
         
@@ -418,77 +382,25 @@ public class ClimateZoneManager {
         }
         
         if (random.nextInt(3) == 0) {
-            player.playSound(loc, Sound.WEATHER_RAIN, 0.3f, 0.5f);
+            plugin.getSoundMixer().play(player, loc, Sound.WEATHER_RAIN, SoundMixer.Category.WEATHER, 0.3f, 0.5f);
         }
     }
 
     private void createAuroraEffects(Player player) {
-        Location loc = player.getLocation().add(0, 30, 0);
-        
-        // Create colorful aurora particles
-        Color[] auroraColors = {
-            Color.fromRGB(0, 255, 100),   // Green
-            Color.fromRGB(0, 100, 255),   // Blue  
-            Color.fromRGB(255, 0, 255),   // Purple
-            Color.fromRGB(0, 255, 255)    // Cyan
-        };
-        
-        for (int i = 0; i < 30; i++) {
-            double angle = (System.currentTimeMillis() / 100.0 + i * 12) % 360;
-            double radians = Math.toRadians(angle);
-            double radius = 15 + Math.sin(System.currentTimeMillis() / 1000.0 + i) * 5;
-            
-            Location auroraLoc = loc.clone().add(
-                Math.cos(radians) * radius,
-                Math.sin(System.currentTimeMillis() / 800.0 + i) * 3,
-                Math.sin(radians) * radius
-            );
-            
-            Color color = auroraColors[random.nextInt(auroraColors.length)];
-            Particle.DustOptions dustOptions = new Particle.DustOptions(color, 2.0f);
-            
-            player.spawnParticle(Particle.DUST, auroraLoc, 1, 0.1, 0.1, 0.1, 0, dustOptions);
+        if (plugin.getDisplayWeatherRenderer().render(player, DisplayWeatherRenderer.Layer.AURORA)) {
+            return;
         }
+        effectEngine.play("aurora", player);
     }
 
     private void createHeatMirageEffects(Player player) {
-        Location loc = player.getLocation();
-        
         // Create shimmering effects on the horizon
-        for (int i = 0; i < 20; i++) {
-            Location mirageLoc = loc.clone().add(
-                (random.nextDouble() - 0.5) * 30,
-                0.5,
-                (random.nextDouble() - 0.5) * 30
-            );
-            
-            // Make it shimmer by varying Y position
-            mirageLoc.add(0, Math.sin(System.currentTimeMillis() / 200.0 + i) * 0.3, 0);
-            
-            player.spawnParticle(Particle.DUST_COLOR_TRANSITION, mirageLoc, 1,
-                0.2, 0.1, 0.2, 0,
-                new Particle.DustTransition(
-                    Color.fromRGB(255, 255, 200), // Light yellow
-                    Color.fromRGB(255, 200, 100), // Orange
-                    1.0f
-                ));
-        }
+        effectEngine.play("heat_mirage", player);
     }
 
     private void createDroughtEffects(Player player) {
-        Location loc = player.getLocation();
-        
         // Dust and heat particles
-        for (int i = 0; i < 10; i++) {
-            Location dustLoc = loc.clone().add(
-                (random.nextDouble() - 0.5) * 15,
-                random.nextDouble() * 2,
-                (random.nextDouble() - 0.5) * 15
-            );
-            
-            player.spawnParticle(Particle.ASH, dustLoc, 1,
-                0.3, 0.1, 0.3, 0.02);
-        }
+        effectEngine.play("drought_dust", player);
         
         // Heat exhaustion message occasionally
         if (random.nextInt(200) == 0) {
@@ -497,24 +409,11 @@ public class ClimateZoneManager {
     }
 
     private void createHurricaneEffects(Player player) {
-        Location loc = player.getLocation();
-        
         // Strong wind particles
-        for (int i = 0; i < 25; i++) {
-            Location windLoc = loc.clone().add(
-                (random.nextDouble() - 0.5) * 25,
-                random.nextDouble() * 8,
-                (random.nextDouble() - 0.5) * 25
-            );
-            
-            player.spawnParticle(Particle.CLOUD, windLoc, 1,
-                1.0, 0.5, 1.0, 0.2);
-            player.spawnParticle(Particle.RAIN, windLoc, 1,
-                0.8, 0.3, 0.8, 0.1);
-        }
+        effectEngine.play("hurricane", player);
         
         if (random.nextInt(5) == 0) {
-            player.playSound(loc, Sound.WEATHER_RAIN, 0.8f, 0.6f);
+            plugin.getSoundMixer().play(player, player.getLocation(), Sound.WEATHER_RAIN, SoundMixer.Category.WEATHER, 0.8f, 0.6f);
         }
     }
 
@@ -527,8 +426,10 @@ public class ClimateZoneManager {
         Map<ClimateZone, ZoneWeatherData> zoneData = worldZoneData.get(world.getName());
         if (zoneData == null) return;
 
+        WeatherHistoryArchive archive = plugin.getHistoryArchive();
         for (ZoneWeatherData data : zoneData.values()) {
             updateZoneTemperature(data, world);
+            archive.recordTemperature(world, data.getZone(), data.getCurrentWeather(), data.getCurrentTemperature());
         }
     }
 
@@ -594,6 +495,7 @@ public class ClimateZoneManager {
         if (zoneData.getConsecutiveClearDays() >= 5 && !zoneData.isDroughtActive()) {
             zoneData.setDroughtActive(true);
             zoneData.setLastDroughtCheck(System.currentTimeMillis());
+            plugin.getHistoryArchive().recordDrought(world, zone, true, zoneData.getConsecutiveClearDays());
             
             // Notify players in this zone
             for (Player player : world.getPlayers()) {
@@ -607,6 +509,7 @@ public class ClimateZoneManager {
                    zoneData.isDroughtActive()) {
             // End drought if weather changes
             zoneData.setDroughtActive(false);
+            plugin.getHistoryArchive().recordDrought(world, zone, false, zoneData.getConsecutiveClearDays());
             zoneData.setConsecutiveClearDays(0);
             
             for (Player player : world.getPlayers()) {
@@ -631,6 +534,21 @@ public class ClimateZoneManager {
         }
     }
 
+    /**
+     * Journal zones whose persisted state changed since the last write
+     */
+    private void persistZoneState(World world) {
+        Map<ClimateZone, ZoneWeatherData> zoneData = worldZoneData.get(world.getName());
+        Long day = worldDayTracker.get(world.getName());
+        if (zoneData == null || day == null) return;
+
+        for (ZoneWeatherData data : zoneData.values()) {
+            if (data.consumeDirty()) {
+                stateJournal.append(world, data, day);
+            }
+        }
+    }
+
     private long getCurrentDay(World world) {
         if (weatherForecast.isRealisticSeasonsEnabled()) {
             // Use RealisticSeasons day tracking
@@ -666,16 +584,33 @@ public class ClimateZoneManager {
 
     // Cache management
     public void clearPlayerCache(Player player) {
-        playerZoneCache.remove(player);
+        playerClientWeather.remove(player);
     }
 
     public void clearPlayerCache() {
-        playerZoneCache.clear();
+        // Zones come from the raster; only the client weather cache is per player
+        playerClientWeather.clear();
     }
 
     // Configuration reload
     public void reloadConfig() {
         clearPlayerCache(); // Clear cache when config changes
+        loadConfig();
+        regionIndex.reloadConfig();
+        zoneRaster.reload();
+        zoneBlend.reloadConfig();
+        if (stateJournal.reloadConfig()) {
+            // Switched on by this reload - journal every zone at the next persist
+            for (Map<ClimateZone, ZoneWeatherData> zoneData : worldZoneData.values()) {
+                for (ZoneWeatherData data : zoneData.values()) {
+                    data.markDirty();
+                }
+            }
+        }
+
+        if (!perPlayerWeather) {
+            resetPlayerWeather();
+        }
     }
 
     // Shutdown
@@ -687,8 +622,15 @@ public class ClimateZoneManager {
             temperatureTask.cancel();
         }
         
+        resetPlayerWeather();
+        for (World world : Bukkit.getWorlds()) {
+            persistZoneState(world);
+        }
+        stateJournal.shutdown();
+        zoneRaster.shutdown();
+        regionIndex.shutdown();
+        zoneBlend.shutdown();
         worldZoneData.clear();
-        playerZoneCache.clear();
         worldDayTracker.clear();
     }
 }
\ No newline at end of file
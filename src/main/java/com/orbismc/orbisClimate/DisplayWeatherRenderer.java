@@ -0,0 +1,334 @@
+package com.orbismc.orbisClimate;
+
+import com.orbismc.orbisClimate.utils.PatternLibrary;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.BlockDisplay;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Transformation;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Display entity rendering for sustained weather effects
+ * Instead of resending particles every frame, each player gets a few pooled BlockDisplay
+ * panels that only they can see. The panels are moved every few seconds and the client
+ * interpolates between positions.
+ *
+ * Managers call render() from their particle paths (sync or async). It only records a
+ * keep-alive; all entity work happens in the update task on the main thread.
+ */
+public class DisplayWeatherRenderer {
+
+    /**
+     * Sustained effects that can be drawn with display entities
+     */
+    public enum Layer {
+        // panels, ring radius, height above player, panel size (w, h, d), keep-alive ticks, spin steps per update
+        BLIZZARD_WALL(8, 9.0f, -1.0f, 7.0f, 9.0f, 0.1f, 40, 24, Material.WHITE_STAINED_GLASS),
+        SANDSTORM_HAZE(8, 8.0f, -1.0f, 6.5f, 7.0f, 0.1f, 40, 32, Material.YELLOW_STAINED_GLASS),
+        STORM_CLOUDS(6, 12.0f, 22.0f, 12.0f, 1.5f, 12.0f, 600, 8, Material.GRAY_STAINED_GLASS),
+        AURORA(6, 18.0f, 26.0f, 16.0f, 8.0f, 0.1f, 600, 12, Material.LIME_STAINED_GLASS, Material.CYAN_STAINED_GLASS, Material.MAGENTA_STAINED_GLASS);
+
+        private final int panels;
+        private final float radius;
+        private final float yOffset;
+        private final float width;
+        private final float height;
+        private final float depth;
+        private final int keepAliveTicks;
+        private final int spinSteps;
+        private final Material[] materials;
+
+        Layer(int panels, float radius, float yOffset, float width, float height, float depth,
+              int keepAliveTicks, int spinSteps, Material... materials) {
+            this.panels = panels;
+            this.radius = radius;
+            this.yOffset = yOffset;
+            this.width = width;
+            this.height = height;
+            this.depth = depth;
+            this.keepAliveTicks = keepAliveTicks;
+            this.spinSteps = spinSteps;
+            this.materials = materials;
+        }
+
+        public int getPanels() { return panels; }
+        public int getKeepAliveTicks() { return keepAliveTicks; }
+    }
+
+    private static final Layer[] LAYERS = Layer.values();
+
+    private final OrbisClimate plugin;
+
+    // Configuration
+    private boolean enabled;
+    private int updateIntervalTicks;
+    private int interpolationTicks;
+    private int maxPooledEntities;
+    private float viewRange;
+
+    // Runtime data
+    private final Map<UUID, PlayerDisplays> playerDisplays = new ConcurrentHashMap<>();
+    private final Map<World, ArrayDeque<BlockDisplay>> pool = new HashMap<>();
+    private BukkitTask updateTask;
+    private int updateCount = 0;
+
+    public DisplayWeatherRenderer(OrbisClimate plugin) {
+        this.plugin = plugin;
+        loadConfig();
+
+        if (enabled) {
+            startUpdateTask();
+        }
+    }
+
+    private void loadConfig() {
+        enabled = "display_entities".equalsIgnoreCase(plugin.getConfig().getString("rendering.mode", "particles"));
+        updateIntervalTicks = Math.max(1, plugin.getConfig().getInt("rendering.display_entities.update_interval_ticks", 40));
+        interpolationTicks = Math.max(0, plugin.getConfig().getInt("rendering.display_entities.interpolation_ticks", 40));
+        maxPooledEntities = plugin.getConfig().getInt("rendering.display_entities.max_pooled_entities", 128);
+        viewRange = (float) plugin.getConfig().getDouble("rendering.display_entities.view_range", 1.5);
+    }
+
+    private void startUpdateTask() {
+        updateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateDisplays, 1L, updateIntervalTicks);
+    }
+
+    /**
+     * Request a sustained layer for a player. Returns false when particles should be used instead.
+     * Safe to call from async particle tasks.
+     */
+    public boolean render(Player player, Layer layer) {
+        if (!enabled) return false;
+
+        PlayerDisplays displays = playerDisplays.computeIfAbsent(player.getUniqueId(), id -> new PlayerDisplays());
+        displays.keepAlive(layer, Bukkit.getCurrentTick() + layer.getKeepAliveTicks());
+        return true;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void updateDisplays() {
+        int now = Bukkit.getCurrentTick();
+        updateCount++;
+
+        Iterator<Map.Entry<UUID, PlayerDisplays>> iterator = playerDisplays.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PlayerDisplays> entry = iterator.next();
+            PlayerDisplays displays = entry.getValue();
+            Player player = Bukkit.getPlayer(entry.getKey());
+
+            if (player == null || !player.isOnline()) {
+                displays.releaseAll(null);
+                iterator.remove();
+                continue;
+            }
+
+            boolean anyActive = false;
+            for (Layer layer : LAYERS) {
+                List<BlockDisplay> entities = displays.leased.get(layer);
+
+                if (!displays.isWanted(layer, now)) {
+                    if (entities != null) {
+                        release(player, entities);
+                        displays.leased.remove(layer);
+                    }
+                    continue;
+                }
+
+                anyActive = true;
+                Location anchor = player.getLocation().add(0, layer.yOffset, 0);
+                anchor.setYaw(0);
+                anchor.setPitch(0);
+
+                // Re-lease after world changes or if the chunk holding a panel unloaded
+                if (entities != null && !isUsable(entities, anchor.getWorld())) {
+                    release(player, entities);
+                    entities = null;
+                }
+                if (entities == null) {
+                    entities = lease(player, layer, anchor);
+                    displays.leased.put(layer, entities);
+                }
+
+                position(layer, entities, anchor);
+            }
+
+            if (!anyActive) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean isUsable(List<BlockDisplay> entities, World world) {
+        for (BlockDisplay display : entities) {
+            if (!display.isValid() || !display.getWorld().equals(world)) return false;
+        }
+        return true;
+    }
+
+    private List<BlockDisplay> lease(Player player, Layer layer, Location anchor) {
+        List<BlockDisplay> entities = new ArrayList<>(layer.panels);
+        ArrayDeque<BlockDisplay> free = pool.computeIfAbsent(anchor.getWorld(), w -> new ArrayDeque<>());
+
+        for (int i = 0; i < layer.panels; i++) {
+            BlockDisplay display = free.poll();
+            while (display != null && !display.isValid()) {
+                display = free.poll();
+            }
+
+            if (display == null) {
+                display = anchor.getWorld().spawn(anchor, BlockDisplay.class, this::configureNewDisplay);
+            } else {
+                display.setTeleportDuration(0);
+                display.teleport(anchor);
+            }
+
+            display.setBlock(layer.materials[i % layer.materials.length].createBlockData());
+            player.showEntity(plugin, display);
+            entities.add(display);
+        }
+        return entities;
+    }
+
+    private void configureNewDisplay(BlockDisplay display) {
+        display.setPersistent(false);
+        display.setVisibleByDefault(false);
+        display.setBrightness(new Display.Brightness(15, 15));
+        display.setShadowRadius(0);
+        display.setViewRange(viewRange);
+    }
+
+    private void release(Player player, List<BlockDisplay> entities) {
+        for (BlockDisplay display : entities) {
+            if (!display.isValid()) continue;
+
+            if (player != null) {
+                player.hideEntity(plugin, display);
+            }
+
+            ArrayDeque<BlockDisplay> free = pool.computeIfAbsent(display.getWorld(), w -> new ArrayDeque<>());
+            if (player != null && free.size() < maxPooledEntities) {
+                free.offer(display);
+            } else {
+                display.remove();
+            }
+        }
+    }
+
+    /**
+     * Arrange a layer's panels in a slowly turning ring around the anchor
+     */
+    private void position(Layer layer, List<BlockDisplay> entities, Location anchor) {
+        int spin = updateCount * layer.spinSteps;
+        Vector3f scale = new Vector3f(layer.width, layer.height, layer.depth);
+
+        for (int i = 0; i < entities.size(); i++) {
+            BlockDisplay display = entities.get(i);
+            int angle = (i * PatternLibrary.TABLE_SIZE) / entities.size() + spin;
+
+            // Face the panel towards the player: its normal (local Z) points along the ring radius
+            float yaw = (float) (Math.PI / 2 - (angle & PatternLibrary.TABLE_MASK) * (2 * Math.PI / PatternLibrary.TABLE_SIZE));
+            Quaternionf rotation = new Quaternionf().rotationY(yaw);
+
+            // Block models grow from their corner, so shift by half the rotated footprint to centre them
+            Vector3f translation = new Vector3f(
+                    (float) PatternLibrary.cos(angle) * layer.radius,
+                    0,
+                    (float) PatternLibrary.sin(angle) * layer.radius);
+            translation.add(rotation.transform(new Vector3f(-layer.width / 2, 0, -layer.depth / 2)));
+
+            display.setTeleportDuration(Math.min(interpolationTicks, 59));
+            display.teleport(anchor);
+            display.setInterpolationDelay(0);
+            display.setInterpolationDuration(interpolationTicks);
+            display.setTransformation(new Transformation(translation, rotation, scale, new Quaternionf()));
+        }
+    }
+
+    /**
+     * Release everything a player is currently shown
+     */
+    public void clearPlayer(Player player) {
+        PlayerDisplays displays = playerDisplays.remove(player.getUniqueId());
+        if (displays != null) {
+            displays.releaseAll(player);
+        }
+    }
+
+    private void removeAll() {
+        for (PlayerDisplays displays : playerDisplays.values()) {
+            displays.releaseAll(null);
+        }
+        playerDisplays.clear();
+
+        for (ArrayDeque<BlockDisplay> free : pool.values()) {
+            for (BlockDisplay display : free) {
+                if (display.isValid()) display.remove();
+            }
+        }
+        pool.clear();
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        if (updateTask != null) {
+            updateTask.cancel();
+            updateTask = null;
+        }
+
+        loadConfig();
+
+        if (enabled) {
+            startUpdateTask();
+        } else {
+            removeAll();
+        }
+    }
+
+    public void shutdown() {
+        if (updateTask != null) {
+            updateTask.cancel();
+        }
+        removeAll();
+    }
+
+    // Per-player leases and keep-alive deadlines
+    private class PlayerDisplays {
+        private final AtomicIntegerArray expiresAt = new AtomicIntegerArray(LAYERS.length);
+        private final Map<Layer, List<BlockDisplay>> leased = new EnumMap<>(Layer.class);
+
+        void keepAlive(Layer layer, int untilTick) {
+            expiresAt.set(layer.ordinal(), untilTick);
+        }
+
+        boolean isWanted(Layer layer, int now) {
+            return expiresAt.get(layer.ordinal()) > now;
+        }
+
+        void releaseAll(Player player) {
+            for (List<BlockDisplay> entities : leased.values()) {
+                release(player, entities);
+            }
+            leased.clear();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,501 @@
+package com.orbismc.orbisClimate;
+
+import com.orbismc.orbisClimate.utils.PatternLibrary;
+import me.casperge.realisticseasons.season.Season;
+import org.bukkit.Bukkit;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Data-driven particle effects
+ * Loads effect definitions from effects.yml, compiles them into EffectPrograms and runs
+ * every program through the same interpreter loop. Reloading swaps the compiled set
+ * atomically, so effects can be tuned with /climate reload.
+ */
+public class EffectEngine {
+
+    private static final String EFFECTS_FILE = "effects.yml";
+    private static final String[] SEASONS = {"SPRING", "SUMMER", "FALL", "WINTER"};
+
+    private final OrbisClimate plugin;
+    private final PerformanceMonitor performanceMonitor;
+
+    // Runtime data - replaced as a whole on reload, safe to read from async particle tasks
+    private volatile Map<String, EffectProgram> programs = Collections.emptyMap();
+
+    public EffectEngine(OrbisClimate plugin) {
+        this.plugin = plugin;
+        this.performanceMonitor = plugin.getPerformanceMonitor();
+        loadEffects();
+    }
+
+    private void loadEffects() {
+        File file = new File(plugin.getDataFolder(), EFFECTS_FILE);
+        if (!file.exists()) {
+            plugin.saveResource(EFFECTS_FILE, false);
+        }
+
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+
+        // Bundled definitions fill in effects missing from an older effects.yml.
+        // An effect present in the file is taken whole from the file, never merged layer by layer.
+        ConfigurationSection bundledEffects = null;
+        InputStream bundled = plugin.getResource(EFFECTS_FILE);
+        if (bundled != null) {
+            bundledEffects = YamlConfiguration.loadConfiguration(
+                    new InputStreamReader(bundled, StandardCharsets.UTF_8)).getConfigurationSection("effects");
+        }
+
+        ConfigurationSection effects = config.getConfigurationSection("effects");
+        Set<String> ids = new LinkedHashSet<>();
+        if (effects != null) ids.addAll(effects.getKeys(false));
+        if (bundledEffects != null) ids.addAll(bundledEffects.getKeys(false));
+
+        Map<String, EffectProgram> compiled = new HashMap<>();
+        for (String id : ids) {
+            ConfigurationSection section = effects != null && effects.contains(id) ?
+                    effects.getConfigurationSection(id) : bundledEffects.getConfigurationSection(id);
+            if (section == null || !section.getBoolean("enabled", true)) {
+                continue;
+            }
+
+            EffectProgram program = compile(id, section);
+            if (program != null) {
+                compiled.put(id, program);
+            }
+        }
+
+        programs = compiled;
+        plugin.getLogger().info("Compiled " + compiled.size() + " particle effect programs");
+    }
+
+    /**
+     * Compile one effect definition into a flat instruction stream
+     */
+    private EffectProgram compile(String id, ConfigurationSection section) {
+        ConfigurationSection layers = section.getConfigurationSection("layers");
+        if (layers == null || layers.getKeys(false).isEmpty()) {
+            plugin.getLogger().warning("Effect '" + id + "' has no layers - skipping");
+            return null;
+        }
+
+        int capacity = layers.getKeys(false).size();
+        byte[] opcodes = new byte[capacity];
+        int[] points = new int[capacity];
+        int[] counts = new int[capacity];
+        boolean[] scaled = new boolean[capacity];
+        double[] operands = new double[capacity * EffectProgram.STRIDE];
+        Particle[] particles = new Particle[capacity];
+        PatternLibrary.Pattern[] patterns = new PatternLibrary.Pattern[capacity];
+        Object[][] palettes = new Object[capacity][];
+
+        int pc = 0;
+        for (String layerName : layers.getKeys(false)) {
+            ConfigurationSection layer = layers.getConfigurationSection(layerName);
+            if (layer == null) continue;
+
+            String where = id + "." + layerName;
+            Particle particle = parseParticle(layer.getString("particle", ""), where);
+            if (particle == null) continue;
+
+            Object[] palette = compilePalette(particle, layer, where);
+            if (palette == null) continue;
+
+            String shape = layer.getString("shape", "scatter").toLowerCase();
+            int layerPoints = Math.max(1, layer.getInt("points", 1));
+            byte opcode;
+            PatternLibrary.Pattern pattern = null;
+            switch (shape) {
+                case "point":
+                    opcode = EffectProgram.OP_POINT;
+                    break;
+                case "scatter":
+                    opcode = EffectProgram.OP_SCATTER;
+                    break;
+                case "ring":
+                    opcode = EffectProgram.OP_RING;
+                    pattern = PatternLibrary.ring(layerPoints);
+                    break;
+                case "spiral":
+                    opcode = EffectProgram.OP_SPIRAL;
+                    pattern = PatternLibrary.spiral(layerPoints, layer.getDouble("turns", 2.0));
+                    break;
+                case "curtain":
+                    opcode = EffectProgram.OP_CURTAIN;
+                    pattern = PatternLibrary.curtain(layerPoints, Math.max(1, layer.getInt("rows", 1)));
+                    break;
+                default:
+                    plugin.getLogger().warning("Unknown shape '" + shape + "' in effect " + where + " - skipping layer");
+                    continue;
+            }
+
+            opcodes[pc] = opcode;
+            points[pc] = layerPoints;
+            counts[pc] = Math.max(1, layer.getInt("count", 1));
+            scaled[pc] = layer.getBoolean("scale_with_performance", true);
+            particles[pc] = particle;
+            patterns[pc] = pattern;
+            palettes[pc] = palette;
+
+            int o = pc * EffectProgram.STRIDE;
+            readVector(layer, "origin", operands, o + EffectProgram.ORIGIN_X);
+            readVector(layer, "spread", operands, o + EffectProgram.SPREAD_X);
+            readVector(layer, "offset", operands, o + EffectProgram.OFFSET_X);
+            operands[o + EffectProgram.RADIUS] = layer.getDouble("radius", 1.0);
+            operands[o + EffectProgram.HEIGHT] = layer.getDouble("height", 0.0);
+            operands[o + EffectProgram.PULSE_AMPLITUDE] = layer.getDouble("radius_pulse.amplitude", 0.0);
+            operands[o + EffectProgram.PULSE_SPEED] = layer.getDouble("radius_pulse.speed", 0.0);
+            operands[o + EffectProgram.WAVE_AMPLITUDE] = layer.getDouble("wave.amplitude", 0.0);
+            operands[o + EffectProgram.WAVE_SPEED] = layer.getDouble("wave.speed", 0.0);
+            operands[o + EffectProgram.ROTATION_SPEED] = layer.getDouble("rotation_speed", 0.0);
+            operands[o + EffectProgram.EXTRA] = layer.getDouble("extra", 0.0);
+            operands[o + EffectProgram.CHANCE] = layer.getDouble("chance", 1.0);
+            pc++;
+        }
+
+        if (pc == 0) {
+            plugin.getLogger().warning("Effect '" + id + "' has no valid layers - skipping");
+            return null;
+        }
+
+        // Trim to the layers that compiled
+        if (pc < capacity) {
+            opcodes = Arrays.copyOf(opcodes, pc);
+            points = Arrays.copyOf(points, pc);
+            counts = Arrays.copyOf(counts, pc);
+            scaled = Arrays.copyOf(scaled, pc);
+            operands = Arrays.copyOf(operands, pc * EffectProgram.STRIDE);
+            particles = Arrays.copyOf(particles, pc);
+            patterns = Arrays.copyOf(patterns, pc);
+            palettes = Arrays.copyOf(palettes, pc);
+        }
+
+        ConfigurationSection conditions = section.getConfigurationSection("conditions");
+        int timeFrom = -1;
+        int timeTo = -1;
+        if (conditions != null && conditions.isList("time")) {
+            List<Integer> window = conditions.getIntegerList("time");
+            if (window.size() == 2) {
+                timeFrom = Math.floorMod(window.get(0), 24000);
+                timeTo = Math.floorMod(window.get(1), 24000);
+            } else {
+                plugin.getLogger().warning("Effect '" + id + "' conditions.time needs [from, to] in ticks - ignoring");
+            }
+        }
+
+        return new EffectProgram(id, section.getDouble("chance", 1.0), section.getDouble("min_performance", 0.0),
+                compileMask(conditions, "zones", enumNames(ClimateZoneManager.ClimateZone.values()), id),
+                compileMask(conditions, "weather", enumNames(WeatherForecast.WeatherType.values()), id),
+                compileMask(conditions, "seasons", SEASONS, id), timeFrom, timeTo,
+                opcodes, points, counts, scaled, operands, particles, patterns, palettes);
+    }
+
+    /**
+     * One bit per listed name, in the order of names; ANY when the condition is absent
+     */
+    private int compileMask(ConfigurationSection conditions, String key, String[] names, String id) {
+        if (conditions == null || !conditions.isList(key)) {
+            return EffectProgram.ANY;
+        }
+
+        int mask = 0;
+        for (String value : conditions.getStringList(key)) {
+            int index = Arrays.asList(names).indexOf(value.toUpperCase(Locale.ROOT));
+            if (index < 0) {
+                plugin.getLogger().warning("Invalid " + key + " value in effect " + id + " conditions: " + value);
+                continue;
+            }
+            mask |= 1 << index;
+        }
+        return mask;
+    }
+
+    private static String[] enumNames(Enum<?>[] values) {
+        String[] names = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name();
+        }
+        return names;
+    }
+
+    private Particle parseParticle(String name, String where) {
+        try {
+            return Particle.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown particle '" + name + "' in effect " + where + " - skipping layer");
+            return null;
+        }
+    }
+
+    /**
+     * Build the particle data choices for a layer. Particles without data get a single null entry.
+     */
+    private Object[] compilePalette(Particle particle, ConfigurationSection layer, String where) {
+        Class<?> dataType = particle.getDataType();
+        if (dataType == Void.class) {
+            return new Object[] { null };
+        }
+
+        float size = (float) layer.getDouble("size", 1.0);
+        if (dataType == Particle.DustOptions.class || dataType == Particle.DustTransition.class) {
+            List<String> colors = layer.getStringList("colors");
+            if (colors.isEmpty()) {
+                colors = Collections.singletonList("#FFFFFF");
+            }
+
+            Color fadeTo = dataType == Particle.DustTransition.class
+                    ? parseColor(layer.getString("fade_to", colors.get(0)), where)
+                    : null;
+
+            Object[] palette = new Object[colors.size()];
+            for (int i = 0; i < palette.length; i++) {
+                Color color = parseColor(colors.get(i), where);
+                palette[i] = fadeTo != null
+                        ? new Particle.DustTransition(color, fadeTo, size)
+                        : new Particle.DustOptions(color, size);
+            }
+            return palette;
+        }
+
+        if (dataType == BlockData.class) {
+            Material material = Material.matchMaterial(layer.getString("block", "SAND"));
+            if (material == null || !material.isBlock()) {
+                plugin.getLogger().warning("Invalid block for effect " + where + " - skipping layer");
+                return null;
+            }
+            return new Object[] { material.createBlockData() };
+        }
+
+        plugin.getLogger().warning("Particle " + particle + " in effect " + where + " needs unsupported data - skipping layer");
+        return null;
+    }
+
+    private Color parseColor(String value, String where) {
+        try {
+            return Color.fromRGB(Integer.parseInt(value.replace("#", ""), 16));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid colour '" + value + "' in effect " + where + " - using white");
+            return Color.WHITE;
+        }
+    }
+
+    private void readVector(ConfigurationSection layer, String path, double[] target, int index) {
+        List<Double> values = layer.getDoubleList(path);
+        for (int i = 0; i < 3 && i < values.size(); i++) {
+            target[index + i] = values.get(i);
+        }
+    }
+
+    /**
+     * Play an effect around a player, visible to that player only
+     */
+    public boolean play(String effectId, Player player) {
+        Location loc = player.getLocation();
+        return play(effectId, player, loc.getX(), loc.getY(), loc.getZ(), null);
+    }
+
+    /**
+     * Play an effect at a position, visible to the given player only.
+     * A non-null dataOverride replaces the configured data of layers whose particle accepts it
+     * (e.g. a weather specific colour for the transition swirl).
+     */
+    public boolean play(String effectId, Player player, double x, double y, double z, Object dataOverride) {
+        EffectProgram program = programs.get(effectId);
+        if (program == null) {
+            return false;
+        }
+
+        if (program.hasConditions() && !matchesConditions(program, player)) {
+            return false;
+        }
+
+        Random random = ThreadLocalRandom.current();
+        if (program.getChance() < 1.0 && random.nextDouble() >= program.getChance()) {
+            return false;
+        }
+
+        double performanceMultiplier = performanceMonitor != null ?
+                performanceMonitor.getPerformanceMultiplier() : 1.0;
+        if (performanceMultiplier < program.getMinPerformance()) {
+            return false;
+        }
+
+        execute(program, player, x, y, z, dataOverride, performanceMultiplier, random);
+        return true;
+    }
+
+    /**
+     * Effect conditions, checked where the viewing player stands. Seasonal effects never
+     * play without RealisticSeasons.
+     */
+    private boolean matchesConditions(EffectProgram program, Player player) {
+        World world = player.getWorld();
+        if (!program.matchesTime(world.getTime())) {
+            return false;
+        }
+
+        WeatherForecast forecast = plugin.getWeatherForecast();
+        if (program.seasonMask != EffectProgram.ANY) {
+            Season season = forecast != null ? forecast.getCurrentSeason(world) : null;
+            int index = season != null ? Arrays.asList(SEASONS).indexOf(season.name()) : -1;
+            if (index < 0 || !EffectProgram.matches(program.seasonMask, index)) {
+                return false;
+            }
+        }
+
+        if (program.zoneMask != EffectProgram.ANY || program.weatherMask != EffectProgram.ANY) {
+            ClimateZoneManager zoneManager = plugin.getClimateZoneManager();
+            if (zoneManager == null) return false;
+
+            ClimateZoneManager.ClimateZone zone = zoneManager.getPlayerClimateZone(player);
+            if (!EffectProgram.matches(program.zoneMask, zone.ordinal())) {
+                return false;
+            }
+            if (program.weatherMask != EffectProgram.ANY && (forecast == null ||
+                    !EffectProgram.matches(program.weatherMask, forecast.getZoneWeather(world, zone).ordinal()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The interpreter. Every effect runs through this loop.
+     */
+    private void execute(EffectProgram program, Player player, double baseX, double baseY, double baseZ,
+                         Object dataOverride, double performanceMultiplier, Random random) {
+        int tick = Bukkit.getCurrentTick();
+        double[] ops = program.operands;
+
+        for (int pc = 0; pc < program.opcodes.length; pc++) {
+            int o = pc * EffectProgram.STRIDE;
+            if (ops[o + EffectProgram.CHANCE] < 1.0 && random.nextDouble() >= ops[o + EffectProgram.CHANCE]) {
+                continue;
+            }
+
+            Particle particle = program.particles[pc];
+            Object[] palette = program.palettes[pc];
+            Object override = dataOverride != null && particle.getDataType().isInstance(dataOverride)
+                    ? dataOverride : null;
+
+            // Shapes emit an evenly spaced subset of their pattern when scaled down, so they keep their outline
+            PatternLibrary.Pattern pattern = program.patterns[pc];
+            int points = pattern != null ? pattern.size() : program.points[pc];
+            if (program.scaled[pc]) {
+                points = Math.max(1, (int) Math.round(points * performanceMultiplier));
+            }
+
+            int count = program.counts[pc];
+            double originX = baseX + ops[o + EffectProgram.ORIGIN_X];
+            double originY = baseY + ops[o + EffectProgram.ORIGIN_Y];
+            double originZ = baseZ + ops[o + EffectProgram.ORIGIN_Z];
+            double offsetX = ops[o + EffectProgram.OFFSET_X];
+            double offsetY = ops[o + EffectProgram.OFFSET_Y];
+            double offsetZ = ops[o + EffectProgram.OFFSET_Z];
+            double extra = ops[o + EffectProgram.EXTRA];
+            double waveAmplitude = ops[o + EffectProgram.WAVE_AMPLITUDE];
+            int wave = PatternLibrary.phase(tick, ops[o + EffectProgram.WAVE_SPEED]);
+            int rotation = PatternLibrary.phase(tick, ops[o + EffectProgram.ROTATION_SPEED]);
+            double radius = ops[o + EffectProgram.RADIUS] + ops[o + EffectProgram.PULSE_AMPLITUDE]
+                    * PatternLibrary.sin(PatternLibrary.phase(tick, ops[o + EffectProgram.PULSE_SPEED]));
+
+            switch (program.opcodes[pc]) {
+                case EffectProgram.OP_POINT:
+                    player.spawnParticle(particle, originX, originY, originZ, count,
+                            offsetX, offsetY, offsetZ, extra, pick(palette, override, random));
+                    break;
+
+                case EffectProgram.OP_SCATTER: {
+                    // Centred on the origin horizontally, rising from it vertically
+                    double spreadX = ops[o + EffectProgram.SPREAD_X];
+                    double spreadY = ops[o + EffectProgram.SPREAD_Y];
+                    double spreadZ = ops[o + EffectProgram.SPREAD_Z];
+                    for (int i = 0; i < points; i++) {
+                        player.spawnParticle(particle,
+                                originX + (random.nextDouble() - 0.5) * spreadX,
+                                originY + random.nextDouble() * spreadY
+                                        + PatternLibrary.sin(wave + i * PatternLibrary.ONE_RADIAN) * waveAmplitude,
+                                originZ + (random.nextDouble() - 0.5) * spreadZ,
+                                count, offsetX, offsetY, offsetZ, extra, pick(palette, override, random));
+                    }
+                    break;
+                }
+
+                case EffectProgram.OP_RING:
+                case EffectProgram.OP_SPIRAL: {
+                    double height = ops[o + EffectProgram.HEIGHT];
+                    int size = pattern.size();
+                    for (int k = 0; k < points; k++) {
+                        int i = k * size / points;
+                        player.spawnParticle(particle,
+                                originX + pattern.x(i, rotation) * radius,
+                                originY + pattern.height(i) * height
+                                        + PatternLibrary.sin(wave + i * PatternLibrary.ONE_RADIAN) * waveAmplitude,
+                                originZ + pattern.z(i, rotation) * radius,
+                                count, offsetX, offsetY, offsetZ, extra, pick(palette, override, random));
+                    }
+                    break;
+                }
+
+                case EffectProgram.OP_CURTAIN: {
+                    // Radius is the sheet width, the wave ripples it along Z
+                    double height = ops[o + EffectProgram.HEIGHT];
+                    int size = pattern.size();
+                    for (int k = 0; k < points; k++) {
+                        int i = k * size / points;
+                        player.spawnParticle(particle,
+                                originX + pattern.across(i) * radius,
+                                originY + pattern.height(i) * height,
+                                originZ + pattern.ripple(i, wave) * waveAmplitude,
+                                count, offsetX, offsetY, offsetZ, extra, pick(palette, override, random));
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    private static Object pick(Object[] palette, Object override, Random random) {
+        if (override != null) return override;
+        return palette.length == 1 ? palette[0] : palette[random.nextInt(palette.length)];
+    }
+
+    public boolean hasEffect(String effectId) {
+        return programs.containsKey(effectId);
+    }
+
+    public int getProgramCount() {
+        return programs.size();
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        loadEffects();
+    }
+
+    public void shutdown() {
+        programs = Collections.emptyMap();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.orbismc.orbisClimate;
+
+import com.orbismc.orbisClimate.utils.PatternLibrary;
+import org.bukkit.Particle;
+
+/**
+ * A compiled effect from effects.yml
+ * Each layer of the definition becomes one emit instruction: an opcode, a fixed-width
+ * block of numeric operands and a few reference slots. The arrays are built once at
+ * load time and never modified, so the interpreter allocates nothing while running them.
+ */
+public final class EffectProgram {
+
+    // Opcodes (layer shapes)
+    static final byte OP_POINT = 0;
+    static final byte OP_SCATTER = 1;
+    static final byte OP_RING = 2;
+    static final byte OP_SPIRAL = 3;
+    static final byte OP_CURTAIN = 4;
+
+    // Operand slots, STRIDE doubles per instruction
+    static final int ORIGIN_X = 0;
+    static final int ORIGIN_Y = 1;
+    static final int ORIGIN_Z = 2;
+    static final int SPREAD_X = 3;
+    static final int SPREAD_Y = 4;
+    static final int SPREAD_Z = 5;
+    static final int RADIUS = 6;
+    static final int HEIGHT = 7;
+    static final int PULSE_AMPLITUDE = 8;
+    static final int PULSE_SPEED = 9;
+    static final int WAVE_AMPLITUDE = 10;
+    static final int WAVE_SPEED = 11;
+    static final int ROTATION_SPEED = 12;
+    static final int OFFSET_X = 13;
+    static final int OFFSET_Y = 14;
+    static final int OFFSET_Z = 15;
+    static final int EXTRA = 16;
+    static final int CHANCE = 17;
+    static final int STRIDE = 18;
+
+    // Condition masks: one bit per zone, weather, season (SPRING, SUMMER, FALL, WINTER)
+    static final int ANY = -1;
+
+    private final String id;
+    private final double chance;
+    private final double minPerformance;
+
+    // Conditions, checked against the viewing player before any layer runs
+    final int zoneMask;
+    final int weatherMask;
+    final int seasonMask;
+    // World time window [timeFrom, timeTo), wrapping past midnight when from > to; -1 for any time
+    final int timeFrom;
+    final int timeTo;
+
+    // Instruction stream
+    final byte[] opcodes;
+    final int[] points;
+    final int[] counts;
+    final boolean[] scaled;
+    final double[] operands;
+    final Particle[] particles;
+    final PatternLibrary.Pattern[] patterns;
+    final Object[][] palettes;
+
+    EffectProgram(String id, double chance, double minPerformance,
+                  int zoneMask, int weatherMask, int seasonMask, int timeFrom, int timeTo,
+                  byte[] opcodes, int[] points, int[] counts,
+                  boolean[] scaled, double[] operands, Particle[] particles,
+                  PatternLibrary.Pattern[] patterns, Object[][] palettes) {
+        this.id = id;
+        this.chance = chance;
+        this.minPerformance = minPerformance;
+        this.zoneMask = zoneMask;
+        this.weatherMask = weatherMask;
+        this.seasonMask = seasonMask;
+        this.timeFrom = timeFrom;
+        this.timeTo = timeTo;
+        this.opcodes = opcodes;
+        this.points = points;
+        this.counts = counts;
+        this.scaled = scaled;
+        this.operands = operands;
+        this.particles = particles;
+        this.patterns = patterns;
+        this.palettes = palettes;
+    }
+
+    public String getId() { return id; }
+    public double getChance() { return chance; }
+    public double getMinPerformance() { return minPerformance; }
+    public int getInstructionCount() { return opcodes.length; }
+
+    public boolean hasConditions() {
+        return zoneMask != ANY || weatherMask != ANY || seasonMask != ANY || timeFrom >= 0;
+    }
+
+    static boolean matches(int mask, int ordinal) {
+        return (mask & (1 << ordinal)) != 0;
+    }
+
+    boolean matchesTime(long time) {
+        if (timeFrom < 0) return true;
+        return timeFrom <= timeTo ? time >= timeFrom && time < timeTo : time >= timeFrom || time < timeTo;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,238 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Hashed timer wheel for delayed and repeating effect events
+ * One Bukkit task drains the wheel once per tick, so effects such as delayed thunder never
+ * go through the Bukkit scheduler individually. Timers hash into 512 tick-slots by deadline;
+ * a timer further out than one rotation simply stays in its slot until its deadline comes round.
+ *
+ * Timers live in pooled parallel arrays and are addressed by a handle (slot index plus a
+ * generation), so scheduling allocates nothing and a handle kept after its timer fired or was
+ * cancelled can never touch a reused slot. Cancelling only clears the timer; its slot is reclaimed
+ * the next time the drain passes it. Main thread only.
+ */
+public class EffectTimerWheel {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int NIL = -1;
+
+    private final Logger logger;
+
+    // Runtime data
+    private final int[] wheel = new int[WHEEL_SIZE];
+    private int[] next;
+    private long[] deadline;
+    private int[] period;
+    private int[] generation;
+    private Object[] action;
+    private Object[] subject;
+    private Object[] argument;
+    private int freeHead = NIL;
+    private int allocated;
+    private int scheduled;
+    private long currentTick;
+    private BukkitTask drainTask;
+
+    public EffectTimerWheel(OrbisClimate plugin) {
+        this(plugin.getLogger());
+        drainTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("timer_wheel", this::tick), 1L, 1L);
+    }
+
+    /**
+     * Wheel without a drain task, advanced by calling {@link #tick} directly
+     */
+    EffectTimerWheel(Logger logger) {
+        this.logger = logger;
+        Arrays.fill(wheel, NIL);
+        grow(256);
+    }
+
+    /**
+     * Run an action once after the given number of ticks
+     */
+    public long schedule(int delayTicks, Runnable task) {
+        return insert(delayTicks, 0, task, null, null);
+    }
+
+    /**
+     * Run an action once with a subject and argument, so callers can pass a shared
+     * (non-capturing) action instead of allocating a lambda per event
+     */
+    public <S, A> long schedule(int delayTicks, BiConsumer<S, A> task, S target, A value) {
+        return insert(delayTicks, 0, task, target, value);
+    }
+
+    /**
+     * Run an action after the delay and then every period ticks until cancelled
+     */
+    public long scheduleRepeating(int delayTicks, int periodTicks, Runnable task) {
+        return insert(delayTicks, Math.max(1, periodTicks), task, null, null);
+    }
+
+    /**
+     * Cancel a timer. Returns false if it already fired or was cancelled.
+     */
+    public boolean cancel(long handle) {
+        int index = indexOf(handle);
+        if (index == NIL) return false;
+
+        release(index);
+        scheduled--;
+        return true;
+    }
+
+    public boolean isScheduled(long handle) {
+        return indexOf(handle) != NIL;
+    }
+
+    public int getScheduledCount() {
+        return scheduled;
+    }
+
+    int getCapacity() {
+        return allocated;
+    }
+
+    private long insert(int delayTicks, int periodTicks, Object task, Object target, Object value) {
+        if (freeHead == NIL) {
+            grow(allocated * 2);
+        }
+
+        int index = freeHead;
+        freeHead = next[index];
+
+        deadline[index] = currentTick + Math.max(1, delayTicks);
+        period[index] = periodTicks;
+        action[index] = task;
+        subject[index] = target;
+        argument[index] = value;
+        link(index);
+        scheduled++;
+
+        return ((long) generation[index] << 32) | index;
+    }
+
+    private int indexOf(long handle) {
+        int index = (int) handle;
+        if (index < 0 || index >= allocated) return NIL;
+        // A cleared action means cancelled and waiting to be reclaimed
+        if (generation[index] != (int) (handle >>> 32) || action[index] == null) return NIL;
+        return index;
+    }
+
+    private void link(int index) {
+        int slot = (int) (deadline[index] & WHEEL_MASK);
+        next[index] = wheel[slot];
+        wheel[slot] = index;
+    }
+
+    /**
+     * Invalidate outstanding handles and drop references; the slot itself is reclaimed by the drain
+     */
+    private void release(int index) {
+        generation[index]++;
+        action[index] = null;
+        subject[index] = null;
+        argument[index] = null;
+    }
+
+    private void free(int index) {
+        next[index] = freeHead;
+        freeHead = index;
+    }
+
+    /**
+     * Advance one tick and run every timer due in it
+     */
+    @SuppressWarnings("unchecked")
+    void tick() {
+        currentTick++;
+        int slot = (int) (currentTick & WHEEL_MASK);
+
+        // Detach the slot so actions can schedule and cancel freely while it drains
+        int index = wheel[slot];
+        wheel[slot] = NIL;
+
+        while (index != NIL) {
+            int following = next[index];
+            Object task = action[index];
+
+            if (task == null) {
+                free(index); // Cancelled
+            } else if (deadline[index] > currentTick) {
+                link(index); // Due in a later rotation
+            } else {
+                int firedGeneration = generation[index];
+                try {
+                    if (task instanceof Runnable) {
+                        ((Runnable) task).run();
+                    } else {
+                        ((BiConsumer<Object, Object>) task).accept(subject[index], argument[index]);
+                    }
+                } catch (Exception e) {
+                    logger.warning("Error in scheduled effect: " + e.getMessage());
+                }
+
+                if (period[index] > 0 && generation[index] == firedGeneration) {
+                    deadline[index] = currentTick + period[index];
+                    link(index);
+                } else {
+                    if (generation[index] == firedGeneration) {
+                        release(index);
+                        scheduled--;
+                    }
+                    free(index);
+                }
+            }
+            index = following;
+        }
+    }
+
+    private void grow(int capacity) {
+        int from = allocated;
+        next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+        deadline = deadline == null ? new long[capacity] : Arrays.copyOf(deadline, capacity);
+        period = period == null ? new int[capacity] : Arrays.copyOf(period, capacity);
+        generation = generation == null ? new int[capacity] : Arrays.copyOf(generation, capacity);
+        action = action == null ? new Object[capacity] : Arrays.copyOf(action, capacity);
+        subject = subject == null ? new Object[capacity] : Arrays.copyOf(subject, capacity);
+        argument = argument == null ? new Object[capacity] : Arrays.copyOf(argument, capacity);
+
+        // New slots go onto the free list. Generations start at 1 so a zero handle is never live.
+        for (int i = capacity - 1; i >= from; i--) {
+            generation[i] = 1;
+            next[i] = freeHead;
+            freeHead = i;
+        }
+        allocated = capacity;
+    }
+
+    /**
+     * Drop every pending timer
+     */
+    public void clear() {
+        Arrays.fill(wheel, NIL);
+        freeHead = NIL;
+        for (int i = allocated - 1; i >= 0; i--) {
+            if (action[i] != null) release(i);
+            free(i);
+        }
+        scheduled = 0;
+    }
+
+    public void shutdown() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+        clear();
+    }
+}
\ No newline at end of file
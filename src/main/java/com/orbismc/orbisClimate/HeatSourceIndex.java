@@ -0,0 +1,548 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.Lightable;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.inventory.FurnaceBurnEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-chunk index of heat and cold emitting blocks
+ * Chunks are scanned from snapshots off the main thread when they load, and block events
+ * keep the index current afterwards, so a warmth query only visits indexed sources in the
+ * chunks around the player instead of scanning blocks.
+ *
+ * Lit state counts: unlit campfires and furnaces are not sources. Furnaces have no event when
+ * they go out, so a furnace entry expires when the fuel from its last burn event runs out.
+ * Lava only counts at its surface, so lava lakes do not flood the index.
+ *
+ * A scan is installed back on the main thread, and only while its chunk is still pending: an
+ * unload or a newer scan discards it. Block changes that arrive while a scan is pending are
+ * buffered and replayed on top of the scanned sources.
+ */
+public class HeatSourceIndex implements Listener {
+
+    // Assumed remaining burn time for furnaces that were already lit when their chunk was scanned
+    private static final int UNKNOWN_BURN_TICKS = 1600;
+    private static final int NEVER = Integer.MAX_VALUE;
+
+    private final OrbisClimate plugin;
+    private final Material[] materials = Material.values();
+
+    // Configuration
+    private boolean enabled;
+    private double radius;
+    private double maxWarmth;
+    private double maxChill;
+    private int maxSourcesPerChunk;
+    private float[] blockValues;
+
+    // Runtime data
+    private final Map<UUID, Map<Long, ChunkSources>> worldSources = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<Long, PendingScan>> pendingScans = new ConcurrentHashMap<>();
+
+    public HeatSourceIndex(OrbisClimate plugin) {
+        this.plugin = plugin;
+        loadConfig();
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        if (enabled) {
+            scanLoadedChunks();
+        }
+    }
+
+    private void loadConfig() {
+        enabled = plugin.getConfig().getBoolean("temperature.enabled", true) &&
+                plugin.getConfig().getBoolean("temperature.heat_sources.enabled", true);
+        radius = Math.max(1.0, plugin.getConfig().getDouble("temperature.heat_sources.radius", 8.0));
+        maxWarmth = plugin.getConfig().getDouble("temperature.heat_sources.max_warmth", 25.0);
+        maxChill = plugin.getConfig().getDouble("temperature.heat_sources.max_chill", 10.0);
+        maxSourcesPerChunk = plugin.getConfig().getInt("temperature.heat_sources.max_sources_per_chunk", 256);
+
+        blockValues = new float[materials.length];
+        ConfigurationSection blocks = plugin.getConfig().getConfigurationSection("temperature.heat_sources.blocks");
+        if (blocks != null) {
+            for (String name : blocks.getKeys(false)) {
+                Material material = Material.matchMaterial(name);
+                if (material == null || !material.isBlock()) {
+                    plugin.getLogger().warning("Invalid heat source block: " + name);
+                    continue;
+                }
+                blockValues[material.ordinal()] = (float) blocks.getDouble(name);
+            }
+        }
+    }
+
+    private void scanLoadedChunks() {
+        for (World world : Bukkit.getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                queueScan(chunk);
+            }
+        }
+    }
+
+    /**
+     * Temperature offset from indexed sources around a location.
+     * Each source is weighted by a smooth kernel that falls to zero at the configured radius.
+     */
+    public double getWarmth(Location location) {
+        if (!enabled) return 0.0;
+
+        Map<Long, ChunkSources> chunks = worldSources.get(location.getWorld().getUID());
+        if (chunks == null) return 0.0;
+
+        double px = location.getX();
+        double py = location.getY();
+        double pz = location.getZ();
+        double radiusSquared = radius * radius;
+        int now = Bukkit.getCurrentTick();
+
+        int minChunkX = (int) Math.floor(px - radius) >> 4;
+        int maxChunkX = (int) Math.floor(px + radius) >> 4;
+        int minChunkZ = (int) Math.floor(pz - radius) >> 4;
+        int maxChunkZ = (int) Math.floor(pz + radius) >> 4;
+
+        double warmth = 0.0;
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                ChunkSources sources = chunks.get(chunkKey(cx, cz));
+                if (sources == null) continue;
+
+                for (int i = 0; i < sources.size; i++) {
+                    if (sources.expiresAt[i] <= now) continue;
+
+                    double dx = sources.x[i] + 0.5 - px;
+                    double dy = sources.y[i] + 0.5 - py;
+                    double dz = sources.z[i] + 0.5 - pz;
+                    double distanceSquared = dx * dx + dy * dy + dz * dz;
+                    if (distanceSquared >= radiusSquared) continue;
+
+                    double falloff = 1.0 - distanceSquared / radiusSquared;
+                    warmth += sources.value[i] * falloff * falloff;
+                }
+            }
+        }
+
+        return Math.max(-maxChill, Math.min(maxWarmth, warmth));
+    }
+
+    // Chunk scanning
+
+    private void queueScan(Chunk chunk) {
+        ChunkSnapshot snapshot = chunk.getChunkSnapshot(false, false, false);
+        int minY = chunk.getWorld().getMinHeight();
+        int maxY = chunk.getWorld().getMaxHeight();
+        UUID worldId = chunk.getWorld().getUID();
+        long key = chunkKey(chunk.getX(), chunk.getZ());
+        int scanTick = Bukkit.getCurrentTick();
+
+        PendingScan pending = new PendingScan();
+        pendingScans.computeIfAbsent(worldId, id -> new ConcurrentHashMap<>()).put(key, pending);
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            ChunkSources sources = scan(snapshot, minY, maxY, scanTick);
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> installScan(worldId, key, pending, sources));
+            }
+        });
+    }
+
+    /**
+     * Publish a finished scan if its chunk is still waiting for it, then replay the changes it missed
+     */
+    private void installScan(UUID worldId, long key, PendingScan pending, ChunkSources sources) {
+        Map<Long, PendingScan> pendingChunks = pendingScans.get(worldId);
+        if (pendingChunks == null || !pendingChunks.remove(key, pending)) return; // Unloaded or rescanned
+
+        worldSources.computeIfAbsent(worldId, id -> new ConcurrentHashMap<>()).put(key, sources);
+        for (Runnable change : pending.changes) {
+            change.run();
+        }
+    }
+
+    /**
+     * Buffer a change for a chunk whose scan is still running; false if no scan is pending
+     */
+    private boolean deferIfPending(UUID worldId, long key, Runnable change) {
+        Map<Long, PendingScan> pendingChunks = pendingScans.get(worldId);
+        PendingScan pending = pendingChunks != null ? pendingChunks.get(key) : null;
+        if (pending == null) return false;
+
+        pending.changes.add(change);
+        return true;
+    }
+
+    private ChunkSources scan(ChunkSnapshot snapshot, int minY, int maxY, int scanTick) {
+        SourceBuffer buffer = new SourceBuffer();
+        int baseX = snapshot.getX() << 4;
+        int baseZ = snapshot.getZ() << 4;
+
+        for (int sectionY = minY; sectionY < maxY && buffer.size < maxSourcesPerChunk; sectionY += 16) {
+            if (snapshot.isSectionEmpty((sectionY - minY) >> 4)) continue;
+
+            for (int y = sectionY; y < sectionY + 16; y++) {
+                for (int x = 0; x < 16; x++) {
+                    for (int z = 0; z < 16; z++) {
+                        Material type = snapshot.getBlockType(x, y, z);
+                        if (blockValues[type.ordinal()] == 0) continue;
+
+                        Material above = y + 1 < maxY ? snapshot.getBlockType(x, y + 1, z) : Material.AIR;
+                        float value = sourceValue(snapshot.getBlockData(x, y, z), above);
+                        if (value == 0 || buffer.size >= maxSourcesPerChunk) continue;
+
+                        int expiresAt = isFurnace(type) ? scanTick + UNKNOWN_BURN_TICKS : NEVER;
+                        buffer.add(baseX + x, y, baseZ + z, value, expiresAt);
+                    }
+                }
+            }
+        }
+        return buffer.build();
+    }
+
+    /**
+     * Configured value for a block, or 0 if it does not emit right now
+     */
+    private float sourceValue(BlockData data, Material above) {
+        Material type = data.getMaterial();
+        float value = blockValues[type.ordinal()];
+        if (value == 0) return 0;
+
+        if (data instanceof Lightable && !((Lightable) data).isLit()) return 0;
+        if (type == Material.LAVA && above == Material.LAVA) return 0;
+        return value;
+    }
+
+    private static boolean isFurnace(Material type) {
+        return type == Material.FURNACE || type == Material.BLAST_FURNACE || type == Material.SMOKER;
+    }
+
+    // Incremental updates
+
+    /**
+     * Re-read a block (and the lava below it) on the next tick, once the event has applied
+     */
+    private void recheck(Block block) {
+        if (!enabled) return;
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            updateBlock(block, NEVER);
+            Block below = block.getRelative(BlockFace.DOWN);
+            if (below.getType() == Material.LAVA) {
+                updateBlock(below, NEVER);
+            }
+        });
+    }
+
+    private void updateBlock(Block block, int expiresAt) {
+        UUID worldId = block.getWorld().getUID();
+        long key = chunkKey(block.getX() >> 4, block.getZ() >> 4);
+        if (deferIfPending(worldId, key, () -> updateBlock(block, expiresAt))) return;
+
+        Map<Long, ChunkSources> chunks = worldSources.get(worldId);
+        if (chunks == null) return;
+        ChunkSources sources = chunks.get(key);
+        if (sources == null) return;
+
+        float value = sourceValue(block.getBlockData(), block.getRelative(BlockFace.UP).getType());
+        if (value != 0 && expiresAt == NEVER && isFurnace(block.getType())) {
+            expiresAt = Bukkit.getCurrentTick() + UNKNOWN_BURN_TICKS;
+        }
+
+        ChunkSources updated = value == 0
+                ? sources.without(block.getX(), block.getY(), block.getZ())
+                : sources.with(block.getX(), block.getY(), block.getZ(), value, expiresAt, maxSourcesPerChunk);
+        if (updated != sources) {
+            chunks.put(key, updated);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (enabled) {
+            queueScan(event.getChunk());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        UUID worldId = event.getWorld().getUID();
+        long key = chunkKey(event.getChunk().getX(), event.getChunk().getZ());
+
+        Map<Long, PendingScan> pendingChunks = pendingScans.get(worldId);
+        if (pendingChunks != null) {
+            pendingChunks.remove(key);
+        }
+        Map<Long, ChunkSources> chunks = worldSources.get(worldId);
+        if (chunks != null) {
+            chunks.remove(key);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(BlockSpreadEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(BlockIgniteEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        recheck(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        recheck(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCampfireInteract(PlayerInteractEvent event) {
+        // Lighting or dousing a campfire by hand fires no block event
+        Block block = event.getClickedBlock();
+        if (event.getAction() == Action.RIGHT_CLICK_BLOCK && block != null &&
+                (block.getType() == Material.CAMPFIRE || block.getType() == Material.SOUL_CAMPFIRE)) {
+            recheck(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        recheckAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        recheckAll(event.blockList());
+    }
+
+    private void recheckAll(List<Block> blocks) {
+        for (Block block : blocks) {
+            if (blockValues[block.getType().ordinal()] != 0) {
+                recheck(block);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFurnaceBurn(FurnaceBurnEvent event) {
+        if (!enabled) return;
+        indexBurningFurnace(event.getBlock(), Bukkit.getCurrentTick() + event.getBurnTime() + 1);
+    }
+
+    private void indexBurningFurnace(Block block, int expiresAt) {
+        // The block turns lit after the event, so index it by type rather than by lit state
+        UUID worldId = block.getWorld().getUID();
+        long key = chunkKey(block.getX() >> 4, block.getZ() >> 4);
+        if (deferIfPending(worldId, key, () -> indexBurningFurnace(block, expiresAt))) return;
+
+        Map<Long, ChunkSources> chunks = worldSources.get(worldId);
+        if (chunks == null) return;
+        ChunkSources sources = chunks.get(key);
+        float value = blockValues[block.getType().ordinal()];
+        if (sources != null && value != 0) {
+            chunks.put(key, sources.with(block.getX(), block.getY(), block.getZ(), value, expiresAt, maxSourcesPerChunk));
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        float[] oldValues = blockValues;
+        boolean wasEnabled = enabled;
+        loadConfig();
+
+        if (!enabled) {
+            pendingScans.clear();
+            worldSources.clear();
+        } else if (!wasEnabled || !Arrays.equals(oldValues, blockValues)) {
+            // Block list changed - rebuild from scratch, discarding scans still in flight
+            pendingScans.clear();
+            worldSources.clear();
+            scanLoadedChunks();
+        }
+    }
+
+    public void shutdown() {
+        HandlerList.unregisterAll(this);
+        pendingScans.clear();
+        worldSources.clear();
+    }
+
+    // Block changes seen while a chunk scan is running, replayed once it is installed (main thread only)
+    private static final class PendingScan {
+        final List<Runnable> changes = new ArrayList<>();
+    }
+
+    // Growable arrays for a chunk scan
+    private static final class SourceBuffer {
+        int[] x = new int[16];
+        int[] y = new int[16];
+        int[] z = new int[16];
+        float[] value = new float[16];
+        int[] expiresAt = new int[16];
+        int size;
+
+        void add(int bx, int by, int bz, float v, int expiry) {
+            if (size == x.length) {
+                int capacity = size * 2;
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                z = Arrays.copyOf(z, capacity);
+                value = Arrays.copyOf(value, capacity);
+                expiresAt = Arrays.copyOf(expiresAt, capacity);
+            }
+            x[size] = bx;
+            y[size] = by;
+            z[size] = bz;
+            value[size] = v;
+            expiresAt[size] = expiry;
+            size++;
+        }
+
+        ChunkSources build() {
+            if (size == 0) return ChunkSources.EMPTY;
+            return new ChunkSources(Arrays.copyOf(x, size), Arrays.copyOf(y, size), Arrays.copyOf(z, size),
+                    Arrays.copyOf(value, size), Arrays.copyOf(expiresAt, size));
+        }
+    }
+
+    /**
+     * Immutable source list for one chunk. Updates return a copy, so queries never lock.
+     */
+    private static final class ChunkSources {
+        static final ChunkSources EMPTY = new ChunkSources(new int[0], new int[0], new int[0], new float[0], new int[0]);
+
+        final int[] x;
+        final int[] y;
+        final int[] z;
+        final float[] value;
+        final int[] expiresAt;
+        final int size;
+
+        ChunkSources(int[] x, int[] y, int[] z, float[] value, int[] expiresAt) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.size = x.length;
+        }
+
+        private int indexOf(int bx, int by, int bz) {
+            for (int i = 0; i < size; i++) {
+                if (x[i] == bx && y[i] == by && z[i] == bz) return i;
+            }
+            return -1;
+        }
+
+        ChunkSources with(int bx, int by, int bz, float newValue, int newExpiresAt, int limit) {
+            int index = indexOf(bx, by, bz);
+            if (index < 0 && size >= limit) return this;
+
+            int newSize = index < 0 ? size + 1 : size;
+            int[] nx = Arrays.copyOf(x, newSize);
+            int[] ny = Arrays.copyOf(y, newSize);
+            int[] nz = Arrays.copyOf(z, newSize);
+            float[] nv = Arrays.copyOf(value, newSize);
+            int[] ne = Arrays.copyOf(expiresAt, newSize);
+
+            int slot = index < 0 ? size : index;
+            nx[slot] = bx;
+            ny[slot] = by;
+            nz[slot] = bz;
+            nv[slot] = newValue;
+            ne[slot] = newExpiresAt;
+            return new ChunkSources(nx, ny, nz, nv, ne);
+        }
+
+        ChunkSources without(int bx, int by, int bz) {
+            int index = indexOf(bx, by, bz);
+            if (index < 0) return this;
+
+            // Move the last entry into the hole
+            int last = size - 1;
+            int[] nx = Arrays.copyOf(x, last);
+            int[] ny = Arrays.copyOf(y, last);
+            int[] nz = Arrays.copyOf(z, last);
+            float[] nv = Arrays.copyOf(value, last);
+            int[] ne = Arrays.copyOf(expiresAt, last);
+            if (index < last) {
+                nx[index] = x[last];
+                ny[index] = y[last];
+                nz[index] = z[last];
+                nv[index] = value[last];
+                ne[index] = expiresAt[last];
+            }
+            return new ChunkSources(nx, ny, nz, nv, ne);
+        }
+    }
+}
\ No newline at end of file
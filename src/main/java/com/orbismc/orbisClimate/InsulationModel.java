@@ -0,0 +1,171 @@
+package com.orbismc.orbisClimate;
+
+import com.destroystokyo.paper.event.player.PlayerArmorChangeEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Armor insulation scoring
+ * Each worn item contributes insulation (degrees of protection from cold) and heat (degrees
+ * added in hot climates, negative for breathable or fire-resistant gear), from per-material and
+ * per-enchantment values in config. Scores are recomputed only when equipment changes and cached
+ * in the player's temperature data, so the temperature tick just reads two numbers.
+ */
+public class InsulationModel implements Listener {
+
+    private static final String[] ARMOR_SUFFIXES = {"_HELMET", "_CHESTPLATE", "_LEGGINGS", "_BOOTS"};
+
+    private final OrbisClimate plugin;
+    private final TemperatureManager temperatureManager;
+    private final Material[] materials = Material.values();
+
+    // Configuration
+    private boolean enabled;
+    private float[] itemInsulation;
+    private float[] itemHeat;
+    private Map<Enchantment, float[]> enchantmentValues;
+
+    public InsulationModel(OrbisClimate plugin, TemperatureManager temperatureManager) {
+        this.plugin = plugin;
+        this.temperatureManager = temperatureManager;
+        loadConfig();
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    private void loadConfig() {
+        enabled = plugin.getConfig().getBoolean("temperature.insulation.enabled", true);
+
+        // Compile per item type: exact item names win over armor material prefixes (LEATHER, IRON, ...)
+        itemInsulation = new float[materials.length];
+        itemHeat = new float[materials.length];
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("temperature.insulation.materials");
+        if (section != null) {
+            for (Material material : materials) {
+                String key = configKey(section, material);
+                if (key == null) continue;
+
+                itemInsulation[material.ordinal()] = (float) section.getDouble(key + ".insulation", 0.0);
+                itemHeat[material.ordinal()] = (float) section.getDouble(key + ".heat", 0.0);
+            }
+        }
+
+        enchantmentValues = new HashMap<>();
+        ConfigurationSection enchantments = plugin.getConfig().getConfigurationSection("temperature.insulation.enchantments");
+        if (enchantments != null) {
+            for (String name : enchantments.getKeys(false)) {
+                Enchantment enchantment = Registry.ENCHANTMENT.get(NamespacedKey.minecraft(name.toLowerCase(Locale.ROOT)));
+                if (enchantment == null) {
+                    plugin.getLogger().warning("Invalid insulation enchantment: " + name);
+                    continue;
+                }
+                enchantmentValues.put(enchantment, new float[]{
+                        (float) enchantments.getDouble(name + ".insulation", 0.0),
+                        (float) enchantments.getDouble(name + ".heat", 0.0)});
+            }
+        }
+    }
+
+    private static String configKey(ConfigurationSection section, Material material) {
+        String name = material.name();
+        if (section.isConfigurationSection(name)) return name;
+
+        for (String suffix : ARMOR_SUFFIXES) {
+            if (name.endsWith(suffix)) {
+                String prefix = name.substring(0, name.length() - suffix.length());
+                // GOLDEN_HELMET is configured as GOLD or GOLDEN
+                if (section.isConfigurationSection(prefix)) return prefix;
+                if (prefix.equals("GOLDEN") && section.isConfigurationSection("GOLD")) return "GOLD";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walk the player's armor once and store the result in their temperature data
+     */
+    public void score(Player player, TemperatureManager.PlayerTemperatureData data) {
+        double insulation = 0.0;
+        double heat = 0.0;
+
+        if (enabled) {
+            for (ItemStack item : player.getInventory().getArmorContents()) {
+                if (item == null || item.getType().isAir()) continue;
+
+                int index = item.getType().ordinal();
+                insulation += itemInsulation[index];
+                heat += itemHeat[index];
+
+                if (!enchantmentValues.isEmpty()) {
+                    for (Map.Entry<Enchantment, Integer> entry : item.getEnchantments().entrySet()) {
+                        float[] values = enchantmentValues.get(entry.getKey());
+                        if (values == null) continue;
+                        insulation += values[0] * entry.getValue();
+                        heat += values[1] * entry.getValue();
+                    }
+                }
+            }
+        }
+
+        data.setInsulation(insulation);
+        data.setArmorHeat(heat);
+    }
+
+    // Equipment changes - rescore on the next tick, once the change has applied
+
+    private void rescoreLater(Player player) {
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) {
+                temperatureManager.refreshInsulation(player);
+            }
+        });
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onArmorChange(PlayerArmorChangeEvent event) {
+        rescoreLater(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (event.getPlayer() instanceof Player) {
+            rescoreLater((Player) event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        rescoreLater(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        rescoreLater(event.getPlayer());
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        loadConfig();
+    }
+
+    public void shutdown() {
+        HandlerList.unregisterAll(this);
+    }
+}
\ No newline at end of file
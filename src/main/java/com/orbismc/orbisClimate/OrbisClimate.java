@@ -23,7 +23,16 @@ public class OrbisClimate extends JavaPlugin implements Listener {
     private WeatherProgressionManager weatherProgressionManager;
     private DynamicSoundManager dynamicSoundManager;
     private PerformanceMonitor performanceMonitor;
+    private ClimateEventBus eventBus;
+    private BiomeZoneTable biomeZoneTable;
+    private EffectEngine effectEngine;
+    private DisplayWeatherRenderer displayWeatherRenderer;
     private SnowPlacementListener snowPlacementListener;
+    private PlayerProfileStore profileStore;
+    private WeatherHistoryArchive historyArchive;
+    private EffectTimerWheel timerWheel;
+    private SoundMixer soundMixer;
+    private SelfProfiler profiler;
     private Random random;
 
     // Player particle preferences
@@ -48,11 +57,41 @@ public class OrbisClimate extends JavaPlugin implements Listener {
             // DISABLE VANILLA WEATHER SYSTEM FIRST
             disableVanillaWeather();
 
+            // Profiler probes are taken by every manager, so it comes first
+            profiler = new SelfProfiler(this);
+
             // Initialize performance monitor early
             getLogger().info("Initializing performance monitor...");
             performanceMonitor = new PerformanceMonitor(this);
             getLogger().info("✓ Performance monitor initialized");
 
+            // Compile effect definitions before any manager that plays them
+            getLogger().info("Loading particle effects...");
+            effectEngine = new EffectEngine(this);
+            getLogger().info("✓ Particle effects loaded");
+
+            // Display entity renderer for sustained effects (idle unless rendering.mode is display_entities)
+            displayWeatherRenderer = new DisplayWeatherRenderer(this);
+            getLogger().info("✓ Weather renderer initialized (" +
+                    (displayWeatherRenderer.isEnabled() ? "display entities" : "particles") + ")");
+
+            // Delayed and repeating effect events are drained from one per-tick task
+            timerWheel = new EffectTimerWheel(this);
+
+            // Every manager submits its sounds to the mixer
+            soundMixer = new SoundMixer(this);
+
+            // Event bus must exist before the forecast publishes and managers subscribe
+            eventBus = new ClimateEventBus(this);
+
+            // History archive subscribes to weather changes, so it follows the event bus
+            historyArchive = new WeatherHistoryArchive(this);
+            getLogger().info("✓ Weather history archive initialized" + (historyArchive.isEnabled() ? "" : " (disabled)"));
+
+            // Biome lookup tables are shared by the zone, blizzard and sandstorm managers
+            biomeZoneTable = new BiomeZoneTable(this);
+            getLogger().info("✓ Climate zone biome tables compiled");
+
             // Initialize weather forecast system
             getLogger().info("Initializing weather forecast system...");
             weatherForecast = new WeatherForecast(this);
@@ -98,6 +137,11 @@ public class OrbisClimate extends JavaPlugin implements Listener {
             snowPlacementListener = new SnowPlacementListener(this);
             getLogger().info("✓ Snow placement prevention initialized");
 
+            // Player profiles are read at pre-login, so the store must listen before anyone joins
+            getLogger().info("Initializing player profile store...");
+            profileStore = new PlayerProfileStore(this);
+            getLogger().info("✓ Player profile store initialized" + (profileStore.isEnabled() ? "" : " (saving disabled)"));
+
             // Register event listeners
             getServer().getPluginManager().registerEvents(this, this);
             getServer().getPluginManager().registerEvents(snowPlacementListener, this);
@@ -198,19 +242,13 @@ public class OrbisClimate extends JavaPlugin implements Listener {
                         // The forecast system is the single source of truth
                         weatherForecast.checkAndUpdateForecast(world);
                         
-                        // The progression manager will automatically detect forecast changes
-                        // No need to manually coordinate - it listens for changes
+                        // Changes are pushed to subscribers through the event bus
                         
                     } catch (Exception e) {
                         getLogger().warning("Error updating forecast for world " + world.getName() + ": " + e.getMessage());
                     }
                 });
 
-                // Check for weather events AFTER forecast updates (less frequently for better performance)
-                if (System.currentTimeMillis() % 4 == 0) { // Every 4th cycle
-                    blizzardManager.checkForBlizzards();
-                    sandstormManager.checkForSandstorms();
-                }
             } catch (Exception e) {
                 getLogger().severe("Error in weather system task: " + e.getMessage());
                 e.printStackTrace();
@@ -220,9 +258,6 @@ public class OrbisClimate extends JavaPlugin implements Listener {
         // Player cache cleanup task - less frequent for better performance
         Bukkit.getScheduler().runTaskTimer(this, () -> {
             try {
-                // Clear player zone cache occasionally to ensure accuracy
-                climateZoneManager.clearPlayerCache();
-
                 // Clean up performance monitor data
                 if (performanceMonitor != null) {
                     // Remove offline players from monitoring
@@ -381,6 +416,15 @@ public class OrbisClimate extends JavaPlugin implements Listener {
                 performanceMonitor.shutdown();
                 getLogger().info("✓ Performance monitor shut down");
             }
+            if (profiler != null) {
+                profiler.shutdown();
+            }
+
+            // Save player profiles while their temperature data still exists
+            if (profileStore != null) {
+                profileStore.shutdown();
+                getLogger().info("✓ Player profiles saved");
+            }
 
             // Then shutdown managers in reverse dependency order
             if (dynamicSoundManager != null) {
@@ -415,6 +459,33 @@ public class OrbisClimate extends JavaPlugin implements Listener {
                 weatherForecast.shutdown();
                 getLogger().info("✓ Weather forecast shut down");
             }
+            if (displayWeatherRenderer != null) {
+                displayWeatherRenderer.shutdown();
+                getLogger().info("✓ Weather renderer shut down");
+            }
+            if (effectEngine != null) {
+                effectEngine.shutdown();
+                getLogger().info("✓ Effect engine shut down");
+            }
+
+            if (timerWheel != null) {
+                timerWheel.shutdown();
+            }
+            if (soundMixer != null) {
+                soundMixer.shutdown();
+            }
+
+            // Storm managers may record their last events while shutting down
+            if (historyArchive != null) {
+                historyArchive.shutdown();
+                getLogger().info("✓ Weather history archive closed");
+            }
+            if (eventBus != null) {
+                eventBus.shutdown();
+            }
+            if (biomeZoneTable != null) {
+                biomeZoneTable.shutdown();
+            }
 
             // Clear all data structures
             playerParticleSettings.clear();
@@ -434,18 +505,20 @@ public class OrbisClimate extends JavaPlugin implements Listener {
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        PlayerProfileStore.Profile profile = profileStore != null ? profileStore.take(player) : null;
 
         if (temperatureManager != null) {
-            temperatureManager.addPlayer(player);
+            temperatureManager.addPlayer(player, profile);
         }
 
-        // Clear zone cache for this player to ensure fresh detection
+        // Reset cached client weather so the zone weather is sent on the next update
         if (climateZoneManager != null) {
             climateZoneManager.clearPlayerCache(player);
         }
 
-        // Initialize default particle settings
-        playerParticleSettings.put(player, true);
+        // Restore the saved particle preference, or the configured default
+        playerParticleSettings.put(player, profile != null ? profile.isParticlesEnabled() :
+                getConfig().getBoolean("player_settings.default_particles_enabled", true));
 
         // Check server performance and notify if in performance mode
         if (performanceMonitor != null && performanceMonitor.isPerformanceMode()) {
@@ -461,6 +534,11 @@ public class OrbisClimate extends JavaPlugin implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
 
+        // Queue the profile before any state is cleared; written in the background
+        if (profileStore != null) {
+            profileStore.save(player, captureProfile(player));
+        }
+
         if (temperatureManager != null) {
             temperatureManager.removePlayer(player);
         }
@@ -478,6 +556,11 @@ public class OrbisClimate extends JavaPlugin implements Listener {
             windManager.clearPlayerCache(player);
         }
 
+        // Return pooled display entities
+        if (displayWeatherRenderer != null) {
+            displayWeatherRenderer.clearPlayer(player);
+        }
+
         // Clean up performance monitor data
         if (performanceMonitor != null) {
             performanceMonitor.cleanupPlayer(player);
@@ -492,7 +575,26 @@ public class OrbisClimate extends JavaPlugin implements Listener {
         if (performanceMonitor != null) {
             performanceMonitor.reloadConfig();
         }
+        if (profiler != null) {
+            profiler.reloadConfig();
+        }
 
+        // Recompile effects.yml so tuned effects apply immediately
+        if (effectEngine != null) {
+            effectEngine.reloadConfig();
+        }
+        if (displayWeatherRenderer != null) {
+            displayWeatherRenderer.reloadConfig();
+        }
+
+        // Recompile biome tables before the managers that read them
+        if (biomeZoneTable != null) {
+            biomeZoneTable.reloadConfig();
+        }
+
+        if (weatherForecast != null) {
+            weatherForecast.reloadConfig();
+        }
         if (windManager != null) {
             windManager.reloadConfig();
         }
@@ -517,6 +619,15 @@ public class OrbisClimate extends JavaPlugin implements Listener {
         if (snowPlacementListener != null) {
             snowPlacementListener.reloadConfig();
         }
+        if (profileStore != null) {
+            profileStore.reloadConfig();
+        }
+        if (historyArchive != null) {
+            historyArchive.reloadConfig();
+        }
+        if (soundMixer != null) {
+            soundMixer.reloadConfig();
+        }
 
         getLogger().info("Configuration reloaded for all managers!");
 
@@ -541,6 +652,19 @@ public class OrbisClimate extends JavaPlugin implements Listener {
         }
     }
 
+    /**
+     * Snapshot a player's climate state for the profile store
+     */
+    public PlayerProfileStore.Profile captureProfile(Player player) {
+        TemperatureManager.PlayerTemperatureData data =
+                temperatureManager != null ? temperatureManager.getPlayerData(player) : null;
+
+        return new PlayerProfileStore.Profile(
+                playerParticleSettings.getOrDefault(player, true),
+                data != null ? data.getCurrentTemperature() : Double.NaN,
+                data != null ? data.getLastEffectTime() : 0L);
+    }
+
     // Getters for managers
     public Random getRandom() {
         return random;
@@ -574,6 +698,22 @@ public class OrbisClimate extends JavaPlugin implements Listener {
         return weatherProgressionManager;
     }
 
+    public PlayerProfileStore getProfileStore() {
+        return profileStore;
+    }
+
+    public SoundMixer getSoundMixer() {
+        return soundMixer;
+    }
+
+    public EffectTimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+
+    public WeatherHistoryArchive getHistoryArchive() {
+        return historyArchive;
+    }
+
     public DynamicSoundManager getDynamicSoundManager() {
         return dynamicSoundManager;
     }
@@ -582,6 +722,26 @@ public class OrbisClimate extends JavaPlugin implements Listener {
         return performanceMonitor;
     }
 
+    public SelfProfiler getProfiler() {
+        return profiler;
+    }
+
+    public ClimateEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public BiomeZoneTable getBiomeZoneTable() {
+        return biomeZoneTable;
+    }
+
+    public EffectEngine getEffectEngine() {
+        return effectEngine;
+    }
+
+    public DisplayWeatherRenderer getDisplayWeatherRenderer() {
+        return displayWeatherRenderer;
+    }
+
     public String getPerformanceReport() {
         if (performanceMonitor != null) {
             return performanceMonitor.getPerformanceReport();
@@ -1,7 +1,13 @@
 package com.orbismc.orbisClimate;
 
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.destroystokyo.paper.event.server.ServerTickStartEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.lang.management.ManagementFactory;
@@ -10,11 +16,21 @@ import java.lang.management.MemoryMXBean;
 /**
  * Simplified performance monitoring system for OrbisClimate
  * Tracks TPS and memory usage to optimize performance
+ *
+ * Tick time is measured from Paper's tick start/end events into a {@link TickTimeHistogram}.
+ * TPS is derived from a smoothed MSPT (about one second by default) rather than the server's
+ * one minute average, so effect reduction follows a lag spike within a second.
+ *
+ * The effect multiplier comes from a {@link QualityController} that holds the plugin's own
+ * milliseconds per tick at a budget; server TPS and memory only decide performance mode.
+ * The controller's input is measured by the self profiler, so with the profiler off the
+ * multiplier falls back to the TPS step function.
  */
-public class PerformanceMonitor {
+public class PerformanceMonitor implements Listener {
     
     private final OrbisClimate plugin;
     private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final QualityController qualityController;
     
     // Configuration
     private boolean monitoringEnabled;
@@ -22,9 +38,18 @@ public class PerformanceMonitor {
     private boolean autoReduceEffects;
     private boolean memoryMonitoring;
     private int memoryWarningThreshold;
+    private int msptResponseTicks;
+    private double performanceModeQuality;
     
     // Runtime data
     private BukkitTask monitoringTask;
+    private final TickTimeHistogram tickHistogram = new TickTimeHistogram();
+    private long tickStartNanos;
+    private long pluginNanosThisTick;
+    private long pluginNanosSinceUpdate;
+    private int ticksSinceUpdate;
+    private volatile double smoothedMspt = 50.0;
+    private int monitorRuns = 0;
     private double currentTPS = 20.0;
     private boolean performanceMode = false;
     private long lastMemoryWarning = 0;
@@ -34,11 +59,14 @@ public class PerformanceMonitor {
     
     public PerformanceMonitor(OrbisClimate plugin) {
         this.plugin = plugin;
+        this.qualityController = new QualityController(plugin);
         loadConfiguration();
         
         if (monitoringEnabled) {
             startMonitoring();
         }
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
     }
     
     private void loadConfiguration() {
@@ -47,31 +75,98 @@ public class PerformanceMonitor {
         autoReduceEffects = plugin.getConfig().getBoolean("monitoring.auto_reduce_effects", true);
         memoryMonitoring = plugin.getConfig().getBoolean("monitoring.memory_monitoring", true);
         memoryWarningThreshold = plugin.getConfig().getInt("monitoring.memory_warning_threshold", 85);
+        msptResponseTicks = Math.max(1, plugin.getConfig().getInt("monitoring.mspt_response_ticks", 20));
+        performanceModeQuality = plugin.getConfig().getDouble("monitoring.quality_controller.performance_mode_quality", 0.5);
+
+        if (plugin.getConfig().getBoolean("monitoring.quality_controller.enabled", true) &&
+                !plugin.getConfig().getBoolean("monitoring.profiler.enabled", true)) {
+            plugin.getLogger().warning("monitoring.quality_controller needs monitoring.profiler.enabled - " +
+                    "falling back to TPS based effect reduction");
+        }
     }
     
     private void startMonitoring() {
         monitoringTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             updateTPS();
+            updateQuality();
             
-            if (memoryMonitoring) {
+            // Memory changes slowly, every 5 seconds is plenty
+            if (memoryMonitoring && monitorRuns++ % 5 == 0) {
                 checkMemoryUsage();
             }
             
             // Check if we need to enter/exit performance mode
             updatePerformanceMode();
             
-        }, 0L, 100L); // Every 5 seconds
+        }, 0L, 20L); // Every second
     }
-    
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickStart(ServerTickStartEvent event) {
+        tickStartNanos = System.nanoTime();
+        pluginNanosThisTick = 0;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        if (tickStartNanos == 0) return;
+
+        long tickNanos = System.nanoTime() - tickStartNanos;
+        tickHistogram.record(tickNanos, pluginNanosThisTick);
+        pluginNanosSinceUpdate += pluginNanosThisTick;
+        ticksSinceUpdate++;
+
+        // Exponential moving average over roughly mspt_response_ticks ticks
+        double alpha = 1.0 / msptResponseTicks;
+        smoothedMspt += (tickNanos / 1_000_000.0 - smoothedMspt) * alpha;
+    }
+
+    /**
+     * Account time spent in this plugin during the current tick (main thread only)
+     */
+    public void addPluginTime(long nanos) {
+        pluginNanosThisTick += nanos;
+    }
+
+    /**
+     * TPS implied by the smoothed MSPT, capped at 20
+     */
     public double getCurrentTPS() {
-        try {
-            Class<?> serverClass = Class.forName("org.bukkit.Bukkit");
-            java.lang.reflect.Method getTPS = serverClass.getMethod("getTPS");
-            double[] tps = (double[]) getTPS.invoke(null);
-            return Math.round(tps[0] * 100.0) / 100.0;
-        } catch (Exception e) {
-            return 20.0; // Just return default if can't get real TPS
-        }
+        double mspt = smoothedMspt;
+        double tps = mspt <= 50.0 ? 20.0 : 1000.0 / mspt;
+        return Math.round(tps * 100.0) / 100.0;
+    }
+
+    public double getSmoothedMspt() {
+        return smoothedMspt;
+    }
+
+    /**
+     * Tick time statistics over the last given number of seconds (up to 5 minutes)
+     */
+    public TickTimeHistogram.Snapshot getTickStats(int seconds) {
+        return tickHistogram.snapshot(seconds);
+    }
+    
+    private void updateQuality() {
+        if (ticksSinceUpdate == 0) return;
+
+        qualityController.update(pluginNanosSinceUpdate / 1_000_000.0 / ticksSinceUpdate);
+        pluginNanosSinceUpdate = 0;
+        ticksSinceUpdate = 0;
+    }
+
+    public QualityController getQualityController() {
+        return qualityController;
+    }
+
+    /**
+     * Whether the quality controller drives the effect multiplier. It steers on the plugin time the
+     * profiler measures, which reads zero while the profiler is off.
+     */
+    public boolean isQualityControlled() {
+        SelfProfiler profiler = plugin.getProfiler();
+        return qualityController.isEnabled() && profiler != null && profiler.isEnabled();
     }
     
     private void updateTPS() {
@@ -169,6 +264,12 @@ public class PerformanceMonitor {
     public double getPerformanceMultiplier() {
         if (!monitoringEnabled) return 1.0;
         
+        if (isQualityControlled()) {
+            // Continuous quality from the plugin's own budget, capped while the server struggles
+            double quality = qualityController.getQuality();
+            return performanceMode ? Math.min(quality, performanceModeQuality) : quality;
+        }
+        
         if (performanceMode) {
             // Reduce effects significantly in performance mode
             return 0.3;
@@ -208,6 +309,7 @@ public class PerformanceMonitor {
     public void clearAllData() {
         lastMemoryWarning = 0;
         lastTPSWarning = 0;
+        qualityController.reset();
     }
     
     public String getPerformanceReport() {
@@ -215,6 +317,13 @@ public class PerformanceMonitor {
         report.append("§6=== OrbisClimate Performance Report ===\n");
         report.append(String.format("§fTPS: §%s%.2f §7(threshold: %.2f)\n", 
             currentTPS >= tpsWarningThreshold ? "a" : "c", currentTPS, tpsWarningThreshold));
+
+        for (int window : new int[] {5, 60, 300}) {
+            TickTimeHistogram.Snapshot stats = tickHistogram.snapshot(window);
+            report.append(String.format("§fMSPT %s: §fp50 %.1f p95 %.1f p99 %.1f max %.1f §7(plugin %.1f%%)\n",
+                window < 60 ? window + "s" : window / 60 + "m", stats.getP50(), stats.getP95(), stats.getP99(),
+                stats.getMax(), stats.getPluginShare() * 100));
+        }
         
         double memUsage = getMemoryUsagePercent();
         report.append(String.format("§fMemory: §%s%.1f%% §7(threshold: %d%%)\n",
@@ -223,13 +332,18 @@ public class PerformanceMonitor {
         report.append(String.format("§fPerformance Mode: §%s%s\n",
             performanceMode ? "c" : "a", performanceMode ? "ACTIVE" : "INACTIVE"));
         
-        report.append(String.format("§fEffect Multiplier: §f%.1fx\n", getPerformanceMultiplier()));
+        report.append(String.format("§fEffect Multiplier: §f%.2fx\n", getPerformanceMultiplier()));
+        if (isQualityControlled()) {
+            report.append(String.format("§fPlugin Budget: §f%.2f §7/ %.2f ms per tick\n",
+                qualityController.getLastMeasuredMillis(), qualityController.getBudgetMillis()));
+        }
         
         return report.toString();
     }
     
     public void reloadConfig() {
         loadConfiguration();
+        qualityController.reloadConfig();
         
         if (monitoringEnabled && monitoringTask == null) {
             startMonitoring();
@@ -243,5 +357,6 @@ public class PerformanceMonitor {
         if (monitoringTask != null) {
             monitoringTask.cancel();
         }
+        HandlerList.unregisterAll(this);
     }
 }
\ No newline at end of file
@@ -0,0 +1,310 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistent player climate profiles
+ * Stores each player's particle preference, body temperature and effect cooldown
+ * in plugins/OrbisClimate/players/<uuid>.dat as a small fixed-size binary record.
+ *
+ * Profiles are read during AsyncPlayerPreLoginEvent, off the main thread, and handed to the
+ * join handler from memory. Saves are write-behind: quitting (and a periodic capture of online
+ * players whose profile changed) only queues a profile, and a flush task hands the queued batch
+ * to a single virtual writer thread, so batches land in order. Each file is written via a
+ * temporary file and an atomic rename. Joins and quits do no file I/O.
+ */
+public class PlayerProfileStore implements Listener {
+
+    private static final int MAGIC = 0x4F435050; // "OCPP"
+    private static final byte VERSION = 1;
+    // magic, version, particles, temperature, last effect time, saved at
+    private static final int RECORD_BYTES = 4 + 1 + 1 + 8 + 8 + 8;
+
+    // Body temperature drift that is not worth rewriting a profile for
+    private static final double TEMPERATURE_EPSILON = 0.5;
+    // Pre-login profiles whose join never came (login denied later, or disconnected)
+    private static final long UNCLAIMED_TIMEOUT_MS = 60_000;
+
+    /**
+     * Snapshot of a player's persisted climate state
+     */
+    public static final class Profile {
+        private final boolean particlesEnabled;
+        private final double temperature;
+        private final long lastEffectTime;
+
+        public Profile(boolean particlesEnabled, double temperature, long lastEffectTime) {
+            this.particlesEnabled = particlesEnabled;
+            this.temperature = temperature;
+            this.lastEffectTime = lastEffectTime;
+        }
+
+        public boolean isParticlesEnabled() { return particlesEnabled; }
+        public double getTemperature() { return temperature; }
+        public long getLastEffectTime() { return lastEffectTime; }
+
+        /**
+         * Whether this profile is worth writing over the other one
+         */
+        boolean differsFrom(Profile other) {
+            if (particlesEnabled != other.particlesEnabled || lastEffectTime != other.lastEffectTime) return true;
+            if (Double.isNaN(temperature) || Double.isNaN(other.temperature)) {
+                return Double.isNaN(temperature) != Double.isNaN(other.temperature);
+            }
+            return Math.abs(temperature - other.temperature) >= TEMPERATURE_EPSILON;
+        }
+    }
+
+    /**
+     * A profile read at pre-login, waiting for its join
+     */
+    private static final class Unclaimed {
+        private final Profile profile;
+        private final long loadedAt;
+
+        Unclaimed(Profile profile, long loadedAt) {
+            this.profile = profile;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final OrbisClimate plugin;
+    private final File playerFolder;
+
+    // Configuration
+    private boolean enabled;
+    private int flushIntervalTicks;
+
+    // Runtime data
+    // Read at pre-login, waiting for the join event
+    private final Map<UUID, Unclaimed> loaded = new ConcurrentHashMap<>();
+    // Queued or being written; also served to pre-login so a quick rejoin never reads a stale file
+    private final Map<UUID, Profile> pendingWrites = new ConcurrentHashMap<>();
+    // Last profile loaded or queued per online player, so the periodic capture skips unchanged ones
+    private final Map<UUID, Profile> lastQueued = new ConcurrentHashMap<>();
+    // One virtual thread, so an older batch can never land after a newer one
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("OrbisClimate-ProfileWriter").factory());
+    private BukkitTask flushTask;
+
+    public PlayerProfileStore(OrbisClimate plugin) {
+        this.plugin = plugin;
+        this.playerFolder = new File(plugin.getDataFolder(), "players");
+        loadConfig();
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        startFlushTask();
+    }
+
+    private void loadConfig() {
+        enabled = plugin.getConfig().getBoolean("player_settings.save_preferences", true);
+        flushIntervalTicks = Math.max(20, plugin.getConfig().getInt("player_settings.save_interval_seconds", 30) * 20);
+
+        if (enabled && !playerFolder.exists() && !playerFolder.mkdirs()) {
+            plugin.getLogger().warning("Could not create player profile folder - preferences will not be saved");
+            enabled = false;
+        }
+    }
+
+    private void startFlushTask() {
+        flushTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (!enabled) return;
+
+            // Capture online players too, so a crash loses at most one interval
+            captureOnlinePlayers();
+            expireUnclaimed();
+            flush();
+        }, flushIntervalTicks, flushIntervalTicks);
+    }
+
+    /**
+     * Queue every online player whose profile changed since it was loaded or last queued
+     */
+    private void captureOnlinePlayers() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            UUID uuid = player.getUniqueId();
+            Profile profile = plugin.captureProfile(player);
+            Profile last = lastQueued.get(uuid);
+            if (last == null || profile.differsFrom(last)) {
+                pendingWrites.put(uuid, profile);
+                lastQueued.put(uuid, profile);
+            }
+        }
+    }
+
+    private void expireUnclaimed() {
+        long cutoff = System.currentTimeMillis() - UNCLAIMED_TIMEOUT_MS;
+        loaded.values().removeIf(unclaimed -> unclaimed.loadedAt < cutoff);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Loading
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (!enabled || event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        UUID uuid = event.getUniqueId();
+        Profile profile = pendingWrites.get(uuid);
+        if (profile == null) {
+            profile = read(uuid);
+        }
+        if (profile != null) {
+            loaded.put(uuid, new Unclaimed(profile, System.currentTimeMillis()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        // Denied after pre-login - the join that would claim the profile never comes
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            loaded.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    /**
+     * Profile loaded for a joining player, or null for new players and when saving is disabled
+     */
+    public Profile take(Player player) {
+        Unclaimed unclaimed = loaded.remove(player.getUniqueId());
+        if (unclaimed == null) return null;
+
+        lastQueued.put(player.getUniqueId(), unclaimed.profile);
+        return unclaimed.profile;
+    }
+
+    private Profile read(UUID uuid) {
+        File file = profileFile(uuid);
+        if (!file.exists()) return null;
+
+        try {
+            byte[] bytes = Files.readAllBytes(file.toPath());
+            if (bytes.length < RECORD_BYTES) return null;
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.getInt() != MAGIC) return null;
+            if (buffer.get() != VERSION) return null;
+
+            boolean particles = buffer.get() != 0;
+            double temperature = buffer.getDouble();
+            long lastEffectTime = buffer.getLong();
+            return new Profile(particles, temperature, lastEffectTime);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not read climate profile for " + uuid + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Saving
+
+    /**
+     * Queue a quitting player's profile for the next flush. Only touches memory.
+     */
+    public void save(Player player, Profile profile) {
+        lastQueued.remove(player.getUniqueId());
+        if (!enabled) return;
+        pendingWrites.put(player.getUniqueId(), profile);
+    }
+
+    /**
+     * Write every queued profile as one batch on the writer thread
+     */
+    private void flush() {
+        if (pendingWrites.isEmpty()) return;
+
+        List<Map.Entry<UUID, Profile>> batch = new ArrayList<>(pendingWrites.entrySet());
+        writer.execute(() -> writeBatch(batch));
+    }
+
+    private void writeBatch(List<Map.Entry<UUID, Profile>> batch) {
+        for (Map.Entry<UUID, Profile> entry : batch) {
+            try {
+                write(entry.getKey(), entry.getValue());
+                // Keep it queued if a newer profile arrived while writing
+                pendingWrites.remove(entry.getKey(), entry.getValue());
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not save climate profile for " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void write(UUID uuid, Profile profile) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) (profile.particlesEnabled ? 1 : 0));
+        buffer.putDouble(profile.temperature);
+        buffer.putLong(profile.lastEffectTime);
+        buffer.putLong(System.currentTimeMillis());
+
+        File file = profileFile(uuid);
+        File temp = new File(playerFolder, uuid + ".dat.tmp");
+        Files.write(temp.toPath(), buffer.array());
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private File profileFile(UUID uuid) {
+        return new File(playerFolder, uuid + ".dat");
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        loadConfig();
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        startFlushTask();
+    }
+
+    /**
+     * Capture online players, write everything still queued and wait for it to finish
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        HandlerList.unregisterAll(this);
+
+        if (enabled) {
+            captureOnlinePlayers();
+            flush();
+        }
+
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out saving climate profiles");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        loaded.clear();
+        pendingWrites.clear();
+        lastQueued.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.orbismc.orbisClimate;
+
+/**
+ * Closed-loop effect quality controller
+ * Steers a continuous quality factor (min_quality..1.0) so that OrbisClimate's own main thread
+ * time, as measured by the profiler probes, stays within budget_ms_per_tick. Other plugins' lag
+ * no longer throttles our effects unless the server is in performance mode.
+ *
+ * A PI controller: the error is the budget headroom as a fraction of the budget, the target
+ * quality is kp * error plus the integral, and the integral is clamped to the quality range so it
+ * cannot wind up while the output is saturated (idle plugin, or pinned at min_quality). Errors
+ * inside the deadband are treated as zero, which holds the quality steady near the budget, and the
+ * quality moves towards its target under a slew limit: quickly down when over budget, slowly up.
+ *
+ * Updated from the performance monitor's one second task; read from any thread.
+ */
+public class QualityController {
+
+    private final OrbisClimate plugin; // Null when configured directly
+
+    // Configuration
+    private boolean enabled;
+    private double budgetMillis;
+    private double kp;
+    private double ki;
+    private double deadband;
+    private double minQuality;
+    private double slewDown;
+    private double slewUp;
+
+    // Runtime data
+    private volatile double quality = 1.0;
+    private double integral = 1.0;
+    private volatile double lastMeasuredMillis = 0.0;
+
+    public QualityController(OrbisClimate plugin) {
+        this.plugin = plugin;
+        loadConfig();
+    }
+
+    /**
+     * Controller without a plugin, configured through {@link #configure}
+     */
+    QualityController() {
+        this.plugin = null;
+    }
+
+    private void loadConfig() {
+        if (plugin == null) return;
+
+        configure(plugin.getConfig().getBoolean("monitoring.quality_controller.enabled", true),
+                plugin.getConfig().getDouble("monitoring.quality_controller.budget_ms_per_tick", 2.0),
+                plugin.getConfig().getDouble("monitoring.quality_controller.kp", 0.3),
+                plugin.getConfig().getDouble("monitoring.quality_controller.ki", 0.1),
+                plugin.getConfig().getDouble("monitoring.quality_controller.deadband", 0.1),
+                plugin.getConfig().getDouble("monitoring.quality_controller.min_quality", 0.2),
+                plugin.getConfig().getDouble("monitoring.quality_controller.max_drop_per_second", 0.25),
+                plugin.getConfig().getDouble("monitoring.quality_controller.max_rise_per_second", 0.05));
+    }
+
+    void configure(boolean enabled, double budgetMillis, double kp, double ki, double deadband,
+                   double minQuality, double slewDown, double slewUp) {
+        this.enabled = enabled;
+        this.budgetMillis = Math.max(0.05, budgetMillis);
+        this.kp = kp;
+        this.ki = ki;
+        this.deadband = Math.max(0.0, deadband);
+        this.minQuality = Math.max(0.0, Math.min(1.0, minQuality));
+        this.slewDown = Math.max(0.01, slewDown);
+        this.slewUp = Math.max(0.01, slewUp);
+    }
+
+    /**
+     * Feed the plugin's average main thread milliseconds per tick over the last second
+     */
+    public void update(double pluginMillisPerTick) {
+        lastMeasuredMillis = pluginMillisPerTick;
+        if (!enabled) return;
+
+        // Positive when under budget; capped so an idle second cannot slam quality back up
+        double error = Math.max(-2.0, Math.min(1.0, (budgetMillis - pluginMillisPerTick) / budgetMillis));
+        if (Math.abs(error) < deadband) {
+            error = 0.0;
+        }
+
+        integral = clamp(integral + ki * error);
+        double target = clamp(kp * error + integral);
+
+        double step = Math.max(-slewDown, Math.min(slewUp, target - quality));
+        quality = clamp(quality + step);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minQuality, Math.min(1.0, value));
+    }
+
+    /**
+     * Current quality factor, 1.0 when the controller is disabled
+     */
+    public double getQuality() {
+        return enabled ? quality : 1.0;
+    }
+
+    public double getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    public double getLastMeasuredMillis() {
+        return lastMeasuredMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void reset() {
+        quality = 1.0;
+        integral = 1.0;
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        loadConfig();
+        quality = clamp(quality);
+        integral = clamp(integral);
+    }
+}
\ No newline at end of file
@@ -22,6 +22,8 @@ public class SandstormManager {
     private final OrbisClimate plugin;
     private final WeatherForecast weatherForecast;
     private final WindManager windManager;
+    private final EffectEngine effectEngine;
+    private final ClimateZoneManager climateZoneManager;
     private final Random random;
 
     // Configuration
@@ -35,11 +37,13 @@ public class SandstormManager {
     private int slownessAmplifier;
     private boolean enableLocalizedSandstorms;
     private int maxPlayersPerSandstorm;
+    private int spontaneousCheckInterval;
 
     // Active sandstorms per player (localized system)
     private final Map<Player, PlayerSandstormData> activePlayerSandstorms = new ConcurrentHashMap<>();
     private final Set<World> activeSandstorms = new HashSet<>();
     private final Map<World, BukkitTask> sandstormTasks = new HashMap<>();
+    private BukkitTask spontaneousTask;
 
     // Performance tracking
     private final Map<Player, Long> lastParticleTime = new ConcurrentHashMap<>();
@@ -49,9 +53,21 @@ public class SandstormManager {
         this.plugin = plugin;
         this.weatherForecast = weatherForecast;
         this.windManager = windManager;
+        this.effectEngine = plugin.getEffectEngine();
+        this.climateZoneManager = plugin.getClimateZoneManager();
         this.random = new Random();
 
         loadConfig();
+
+        // Re-evaluate sandstorms when a desert or arid zone forecast starts or ends one
+        plugin.getEventBus().subscribe(ClimateEventBus.ZoneWeatherChangedEvent.class, event -> {
+            if (isDesertZone(event.getZone()) && (event.getFrom() == WeatherForecast.WeatherType.SANDSTORM
+                    || event.getTo() == WeatherForecast.WeatherType.SANDSTORM)) {
+                checkWorldSandstorm(event.getWorld(), getDesertWeather(event.getWorld()));
+            }
+        });
+
+        startSpontaneousTask();
     }
 
     private void loadConfig() {
@@ -65,12 +81,40 @@ public class SandstormManager {
         slownessAmplifier = plugin.getConfig().getInt("sandstorm.slowness_amplifier", 1);
         enableLocalizedSandstorms = plugin.getConfig().getBoolean("sandstorm.localized_sandstorms", true);
         maxPlayersPerSandstorm = plugin.getConfig().getInt("sandstorm.max_players_per_sandstorm", 8);
+        spontaneousCheckInterval = Math.max(20, plugin.getConfig().getInt("sandstorm.spontaneous_check_interval_ticks", 9600));
+    }
+
+    /**
+     * Periodically re-roll spontaneous desert sandstorms, which the forecast does not schedule
+     */
+    private void startSpontaneousTask() {
+        spontaneousTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("sandstorm_roll", () -> {
+            for (World world : Bukkit.getWorlds()) {
+                checkWorldSandstorm(world, getDesertWeather(world));
+            }
+        }), spontaneousCheckInterval, spontaneousCheckInterval);
+    }
+
+    private static boolean isDesertZone(ClimateZoneManager.ClimateZone zone) {
+        return zone == ClimateZoneManager.ClimateZone.DESERT || zone == ClimateZoneManager.ClimateZone.ARID;
+    }
+
+    /**
+     * Weather of the world's sandstorm zones: a sandstorm if either zone forecasts one, else the desert's
+     */
+    private WeatherForecast.WeatherType getDesertWeather(World world) {
+        WeatherForecast.WeatherType arid = weatherForecast.getZoneWeather(world, ClimateZoneManager.ClimateZone.ARID);
+        if (arid == WeatherForecast.WeatherType.SANDSTORM) {
+            return arid;
+        }
+        return weatherForecast.getZoneWeather(world, ClimateZoneManager.ClimateZone.DESERT);
     }
 
     public void startSandstorm(World world) {
         if (!sandstormsEnabled || activeSandstorms.contains(world)) return;
 
         activeSandstorms.add(world);
+        plugin.getHistoryArchive().recordStorm(world, WeatherForecast.WeatherType.SANDSTORM, true);
 
         if (enableLocalizedSandstorms) {
             startLocalizedSandstorms(world);
@@ -88,7 +132,7 @@ public class SandstormManager {
         }
 
         // Task to manage player sandstorms
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("sandstorm_tick", () -> {
             // Check for new players entering desert areas
             for (Player player : world.getPlayers()) {
                 if (shouldPlayerHaveSandstorm(player) && !activePlayerSandstorms.containsKey(player)) {
@@ -114,12 +158,12 @@ public class SandstormManager {
 
                 processPlayerSandstormEffects(player, data);
             }
-        }, 0L, 10L); // Every 0.5 seconds
+        }), 0L, 10L); // Every 0.5 seconds
 
         sandstormTasks.put(world, task);
 
         // Separate async task for particles
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, plugin.getProfiler().wrap("sandstorm_particles", () -> {
             if (!activeSandstorms.contains(world)) return;
             
             // Process particles for active player sandstorms
@@ -140,22 +184,22 @@ public class SandstormManager {
                 
                 generateLocalizedSandstormParticles(player);
             }
-        }, 0L, 1L); // Every tick for particles, but rate limited per player
+        }), 0L, 1L); // Every tick for particles, but rate limited per player
     }
 
     private void startWorldSandstorm(World world) {
         // Original world-wide sandstorm system
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("sandstorm_tick", () -> {
             processSandstormEffects(world);
-        }, 0L, 10L);
+        }), 0L, 10L);
 
         sandstormTasks.put(world, task);
 
         // Async particle task
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, plugin.getProfiler().wrap("sandstorm_particles", () -> {
             if (!activeSandstorms.contains(world)) return;
             processSandstormParticles(world);
-        }, 0L, 2L);
+        }), 0L, 2L);
     }
 
     private boolean shouldPlayerHaveSandstorm(Player player) {
@@ -165,7 +209,7 @@ public class SandstormManager {
         if (loc.getBlockY() < minSandstormHeight) return false;
 
         // Biome check - only desert biomes can have sandstorms
-        if (!isDesertBiome(loc.getBlock().getBiome())) return false;
+        if (!isDesertBiome(loc)) return false;
 
         // Use wind manager's indoor detection for consistency
         if (windManager.isPlayerIndoors(player)) return false;
@@ -202,11 +246,16 @@ public class SandstormManager {
         Location playerLoc = player.getLocation();
 
         // Check if player is in desert biome
-        if (!isDesertBiome(playerLoc.getBlock().getBiome())) return;
+        if (!isDesertBiome(playerLoc)) return;
 
         // Check height requirement
         if (playerLoc.getBlockY() < minSandstormHeight) return;
 
+        // Display entity mode draws the haze instead of per-frame particles
+        if (plugin.getDisplayWeatherRenderer().render(player, DisplayWeatherRenderer.Layer.SANDSTORM_HAZE)) {
+            return;
+        }
+
         // Performance optimization
         double performanceMultiplier = 1.0;
         if (plugin.getPerformanceMonitor() != null) {
@@ -246,37 +295,17 @@ public class SandstormManager {
             }
         }
 
-        // Create swirling sand effect around player (reduced complexity)
-        if (random.nextInt(2) == 0) { // Only 50% of the time
-            for (int i = 0; i < 10; i++) { // Reduced from 20
-                double angle = (System.currentTimeMillis() / 50.0 + i * 36) % 360; // Increased angle step
-                double radians = Math.toRadians(angle);
-                double radius = 3.0 + Math.sin(System.currentTimeMillis() / 1000.0) * 1.0;
-
-                double x = playerLoc.getX() + Math.cos(radians) * radius;
-                double y = playerLoc.getY() + 1.0 + Math.sin(System.currentTimeMillis() / 800.0 + i) * 0.5;
-                double z = playerLoc.getZ() + Math.sin(radians) * radius;
-
-                Location swirl = new Location(player.getWorld(), x, y, z);
-
-                Particle.DustOptions swirlingDust = new Particle.DustOptions(
-                        org.bukkit.Color.fromRGB(194, 154, 108), // Darker sand color
-                        0.8f
-                );
-
-                player.spawnParticle(Particle.DUST, swirl, 1,
-                        0.1, 0.1, 0.1, 0.02, swirlingDust);
-            }
-        }
+        // Create swirling sand effect around player (reduced complexity, plays half the time)
+        effectEngine.play("sandstorm_swirl", player);
 
         // Play sandstorm sounds occasionally
         if (random.nextInt(120) == 0) { // Reduced frequency
-            player.playSound(playerLoc, Sound.WEATHER_RAIN, 0.6f, 0.3f);
+            plugin.getSoundMixer().play(player, playerLoc, Sound.WEATHER_RAIN, SoundMixer.Category.STORM, 0.6f, 0.3f);
         }
 
         // Add wind whoosh sounds
         if (random.nextInt(180) == 0) { // Reduced frequency
-            player.playSound(playerLoc, Sound.ITEM_ELYTRA_FLYING, 0.4f, 0.5f);
+            plugin.getSoundMixer().play(player, playerLoc, Sound.ITEM_ELYTRA_FLYING, SoundMixer.Category.STORM, 0.4f, 0.5f);
         }
     }
 
@@ -284,6 +313,7 @@ public class SandstormManager {
         if (!activeSandstorms.contains(world)) return;
 
         activeSandstorms.remove(world);
+        plugin.getHistoryArchive().recordStorm(world, WeatherForecast.WeatherType.SANDSTORM, false);
 
         BukkitTask task = sandstormTasks.remove(world);
         if (task != null) {
@@ -311,7 +341,7 @@ public class SandstormManager {
             if (loc.getBlockY() < minSandstormHeight) continue;
 
             // Biome check - only desert biomes can have sandstorms
-            if (!isDesertBiome(loc.getBlock().getBiome())) continue;
+            if (!isDesertBiome(loc)) continue;
 
             // Use wind manager's indoor detection for consistency
             if (entity instanceof Player && windManager.isPlayerIndoors((Player) entity)) continue;
@@ -344,11 +374,15 @@ public class SandstormManager {
         Location playerLoc = player.getLocation();
 
         // Check if player is in desert biome
-        if (!isDesertBiome(playerLoc.getBlock().getBiome())) return;
+        if (!isDesertBiome(playerLoc)) return;
 
         // Check height requirement
         if (playerLoc.getBlockY() < minSandstormHeight) return;
 
+        if (plugin.getDisplayWeatherRenderer().render(player, DisplayWeatherRenderer.Layer.SANDSTORM_HAZE)) {
+            return;
+        }
+
         // Performance optimization - adjust particle count based on nearby players
         int nearbyPlayers = (int) player.getWorld().getPlayers().stream()
                 .filter(p -> p.getLocation().distance(player.getLocation()) <= particleRange * 2)
@@ -391,24 +425,13 @@ public class SandstormManager {
 
         // Play sandstorm sounds occasionally
         if (random.nextInt(120) == 0) {
-            player.playSound(playerLoc, Sound.WEATHER_RAIN, 0.6f, 0.3f);
+            plugin.getSoundMixer().play(player, playerLoc, Sound.WEATHER_RAIN, SoundMixer.Category.STORM, 0.6f, 0.3f);
         }
     }
 
-    private boolean isDesertBiome(org.bukkit.block.Biome biome) {
-        // Check if biome is a desert/sandy biome
-        switch (biome) {
-            case DESERT:
-            case BADLANDS:
-            case ERODED_BADLANDS:
-            case WOODED_BADLANDS:
-                return true;
-            // Include 1.18+ variants if they exist
-            default:
-                // Check for any biome with "desert" or "badlands" in the name
-                String biomeName = biome.name().toLowerCase();
-                return biomeName.contains("desert") || biomeName.contains("badlands");
-        }
+    private boolean isDesertBiome(Location location) {
+        // Desert and arid zone biomes, as configured in climate_zones
+        return climateZoneManager.hasClimateFlag(location, BiomeZoneTable.SANDY);
     }
 
     private void applySandstormEffects(LivingEntity entity) {
@@ -455,60 +478,56 @@ public class SandstormManager {
         return activePlayerSandstorms.containsKey(player);
     }
 
-    public void checkForSandstorms() {
+    private void checkWorldSandstorm(World world, WeatherForecast.WeatherType currentWeather) {
         if (!sandstormsEnabled) return;
-        
-        for (World world : Bukkit.getWorlds()) {
-            WeatherForecast.WeatherType currentWeather = weatherForecast.getCurrentWeather(world);
 
-            // Check if conditions are right for sandstorms
-            boolean shouldHaveSandstorm = false;
+        // Check if conditions are right for sandstorms
+        boolean shouldHaveSandstorm = false;
 
-            // Sandstorms can happen during various weather but are more likely in summer
-            if (currentWeather == WeatherForecast.WeatherType.SANDSTORM) {
-                shouldHaveSandstorm = true;
-            } else if (currentWeather == WeatherForecast.WeatherType.CLEAR ||
-                       currentWeather == WeatherForecast.WeatherType.LIGHT_RAIN ||
-                       currentWeather == WeatherForecast.WeatherType.HEAVY_RAIN) {
+        // Sandstorms can happen during various weather but are more likely in summer
+        if (currentWeather == WeatherForecast.WeatherType.SANDSTORM) {
+            shouldHaveSandstorm = true;
+        } else if (currentWeather == WeatherForecast.WeatherType.CLEAR ||
+                   currentWeather == WeatherForecast.WeatherType.LIGHT_RAIN ||
+                   currentWeather == WeatherForecast.WeatherType.HEAVY_RAIN) {
 
-                // Check if it's summer for elevated chance
-                Season currentSeason = weatherForecast.getCurrentSeason(world);
+            // Check if it's summer for elevated chance
+            Season currentSeason = weatherForecast.getCurrentSeason(world);
 
-                // Base chance for sandstorms
-                double sandstormChance = 0.1; // 10% base chance
+            // Base chance for sandstorms
+            double sandstormChance = 0.1; // 10% base chance
 
-                if (currentSeason == Season.SUMMER) {
-                    sandstormChance = 0.25; // 25% chance in summer
-                }
+            if (currentSeason == Season.SUMMER) {
+                sandstormChance = 0.25; // 25% chance in summer
+            }
 
-                // Only check for sandstorms if there are desert biomes and players in the world
-                if (hasDesertBiomes(world) && !world.getPlayers().isEmpty()) {
-                    shouldHaveSandstorm = random.nextDouble() < sandstormChance;
-                }
+            // Only check for sandstorms if there are desert biomes and players in the world
+            if (hasDesertBiomes(world) && !world.getPlayers().isEmpty()) {
+                shouldHaveSandstorm = random.nextDouble() < sandstormChance;
             }
+        }
 
-            if (shouldHaveSandstorm) {
-                if (!isSandstormActive(world)) {
-                    startSandstorm(world);
-                    
-                    // Notify players
-                    for (Player player : world.getPlayers()) {
-                        if (player.hasPermission("orbisclimate.notifications") && 
-                            isDesertBiome(player.getLocation().getBlock().getBiome())) {
-                            player.sendMessage("§6[OrbisClimate] §c§lA sandstorm is approaching! Seek shelter!");
-                        }
+        if (shouldHaveSandstorm) {
+            if (!isSandstormActive(world)) {
+                startSandstorm(world);
+                
+                // Notify players
+                for (Player player : world.getPlayers()) {
+                    if (player.hasPermission("orbisclimate.notifications") && 
+                        isDesertBiome(player.getLocation())) {
+                        player.sendMessage("§6[OrbisClimate] §c§lA sandstorm is approaching! Seek shelter!");
                     }
                 }
-            } else {
-                if (isSandstormActive(world)) {
-                    stopSandstorm(world);
-                    
-                    // Notify players that sandstorm has ended
-                    for (Player player : world.getPlayers()) {
-                        if (player.hasPermission("orbisclimate.notifications") && 
-                            isDesertBiome(player.getLocation().getBlock().getBiome())) {
-                            player.sendMessage("§6[OrbisClimate] §a§lThe sandstorm has passed.");
-                        }
+            }
+        } else {
+            if (isSandstormActive(world)) {
+                stopSandstorm(world);
+                
+                // Notify players that sandstorm has ended
+                for (Player player : world.getPlayers()) {
+                    if (player.hasPermission("orbisclimate.notifications") && 
+                        isDesertBiome(player.getLocation())) {
+                        player.sendMessage("§6[OrbisClimate] §a§lThe sandstorm has passed.");
                     }
                 }
             }
@@ -518,7 +537,7 @@ public class SandstormManager {
     private boolean hasDesertBiomes(World world) {
         // Quick check if world has any players in desert biomes
         for (Player player : world.getPlayers()) {
-            if (isDesertBiome(player.getLocation().getBlock().getBiome())) {
+            if (isDesertBiome(player.getLocation())) {
                 return true;
             }
         }
@@ -526,6 +545,11 @@ public class SandstormManager {
     }
 
     public void shutdown() {
+        if (spontaneousTask != null) {
+            spontaneousTask.cancel();
+            spontaneousTask = null;
+        }
+
         // Stop all active sandstorms
         for (World world : new HashSet<>(activeSandstorms)) {
             stopSandstorm(world);
@@ -536,6 +560,11 @@ public class SandstormManager {
 
     public void reloadConfig() {
         loadConfig();
+
+        if (spontaneousTask != null) {
+            spontaneousTask.cancel();
+        }
+        startSpontaneousTask();
     }
 
     // Data class for player sandstorm tracking
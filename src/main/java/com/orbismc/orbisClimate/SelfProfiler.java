@@ -0,0 +1,285 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-subsystem self profiler
+ * Periodic tasks and hot entry points are bracketed by a named {@link Probe}, which counts calls,
+ * wall time (total and max), thread CPU time and bytes allocated on the calling thread. Counters
+ * are striped adders, so probes can be hit from the async particle tasks as well as the main
+ * thread, and are rolled into a published window every profiler.window_seconds.
+ *
+ * Probes nest (an exposure check inside the temperature tick is counted in both); only the
+ * outermost probe on the main thread is reported to the performance monitor as plugin tick time.
+ * Hot entry points hit many times per tick use wall time only probes, which skip the thread CPU
+ * and allocation reads that would otherwise cost more than the work they measure.
+ */
+public class SelfProfiler {
+
+    private static final int MAX_DEPTH = 16;
+
+    /**
+     * Statistics of one probe over the last completed window
+     */
+    public static final class ProbeStats {
+        private final String name;
+        private final long calls;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+        private final int ticks;
+        private final boolean wallTimeOnly;
+
+        ProbeStats(String name, long calls, long totalNanos, long maxNanos, long cpuNanos, long allocatedBytes, int ticks,
+                   boolean wallTimeOnly) {
+            this.name = name;
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.ticks = ticks;
+            this.wallTimeOnly = wallTimeOnly;
+        }
+
+        public String getName() { return name; }
+        public long getCalls() { return calls; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+        public long getCpuNanos() { return cpuNanos; }
+        public long getAllocatedBytes() { return allocatedBytes; }
+        public int getTicks() { return ticks; }
+        public boolean isWallTimeOnly() { return wallTimeOnly; }
+
+        public double getAverageMicros() {
+            return calls > 0 ? totalNanos / 1000.0 / calls : 0;
+        }
+
+        public double getMillisPerTick() {
+            return ticks > 0 ? totalNanos / 1_000_000.0 / ticks : 0;
+        }
+
+        public double getBytesPerTick() {
+            return ticks > 0 ? (double) allocatedBytes / ticks : 0;
+        }
+    }
+
+    /**
+     * One measured subsystem. Obtain with {@link SelfProfiler#probe(String)} or
+     * {@link SelfProfiler#wallTimeProbe(String)} and keep the reference.
+     */
+    public static final class Probe {
+        private final String name;
+        private final boolean wallTimeOnly;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private volatile ProbeStats lastWindow;
+
+        private Probe(String name, boolean wallTimeOnly) {
+            this.name = name;
+            this.wallTimeOnly = wallTimeOnly;
+            this.lastWindow = new ProbeStats(name, 0, 0, 0, 0, 0, 0, wallTimeOnly);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        private void roll(int ticks) {
+            lastWindow = new ProbeStats(name, calls.sumThenReset(), totalNanos.sumThenReset(),
+                    maxNanos.getThenReset(), cpuNanos.sumThenReset(), allocatedBytes.sumThenReset(), ticks, wallTimeOnly);
+        }
+    }
+
+    /**
+     * Start values of the open probes on one thread
+     */
+    private static final class Frames {
+        private final long[] cpu = new long[MAX_DEPTH];
+        private final long[] bytes = new long[MAX_DEPTH];
+        private int depth;
+    }
+
+    private final OrbisClimate plugin;
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    // Configuration
+    private volatile boolean enabled;
+    private boolean trackCpuTime;
+    private boolean trackAllocations;
+    private int windowSeconds;
+
+    // Runtime data
+    private final Map<String, Probe> probes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Frames> frames = ThreadLocal.withInitial(Frames::new);
+    private BukkitTask rollTask;
+    private int windowStartTick;
+
+    public SelfProfiler(OrbisClimate plugin) {
+        this.plugin = plugin;
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threadBean = bean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) bean : null;
+
+        loadConfig();
+        startRollTask();
+    }
+
+    private void loadConfig() {
+        enabled = plugin.getConfig().getBoolean("monitoring.profiler.enabled", true);
+        windowSeconds = Math.max(1, plugin.getConfig().getInt("monitoring.profiler.window_seconds", 10));
+
+        trackCpuTime = plugin.getConfig().getBoolean("monitoring.profiler.track_cpu_time", true)
+                && threadBean != null && threadBean.isCurrentThreadCpuTimeSupported();
+        if (trackCpuTime && !threadBean.isThreadCpuTimeEnabled()) {
+            threadBean.setThreadCpuTimeEnabled(true);
+        }
+
+        trackAllocations = plugin.getConfig().getBoolean("monitoring.profiler.track_allocations", true)
+                && threadBean != null && threadBean.isThreadAllocatedMemorySupported();
+        if (trackAllocations && !threadBean.isThreadAllocatedMemoryEnabled()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    private void startRollTask() {
+        windowStartTick = Bukkit.getCurrentTick();
+        long period = windowSeconds * 20L;
+        rollTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            int now = Bukkit.getCurrentTick();
+            int ticks = Math.max(1, now - windowStartTick);
+            for (Probe probe : probes.values()) {
+                probe.roll(ticks);
+            }
+            windowStartTick = now;
+        }, period, period);
+    }
+
+    /**
+     * Get or create the probe with this name
+     */
+    public Probe probe(String name) {
+        return probes.computeIfAbsent(name, key -> new Probe(key, false));
+    }
+
+    /**
+     * Get or create a probe that records calls and wall time only, for entry points hit many times per tick
+     */
+    public Probe wallTimeProbe(String name) {
+        return probes.computeIfAbsent(name, key -> new Probe(key, true));
+    }
+
+    /**
+     * Open a measurement for the probe. Pass the result to {@link #end}, in a finally block.
+     * Returns 0 when profiling is disabled.
+     */
+    public long begin(Probe probe) {
+        if (!enabled) return 0;
+
+        Frames open = frames.get();
+        if (open.depth < MAX_DEPTH && !probe.wallTimeOnly) {
+            if (trackCpuTime) open.cpu[open.depth] = threadBean.getCurrentThreadCpuTime();
+            if (trackAllocations) open.bytes[open.depth] = threadBean.getCurrentThreadAllocatedBytes();
+        }
+        open.depth++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Close the measurement opened by {@link #begin} and charge it to the probe
+     */
+    public void end(Probe probe, long start) {
+        if (start == 0) return;
+
+        long elapsed = System.nanoTime() - start;
+        Frames open = frames.get();
+        open.depth--;
+
+        probe.calls.increment();
+        probe.totalNanos.add(elapsed);
+        probe.maxNanos.accumulate(elapsed);
+        if (open.depth < MAX_DEPTH && !probe.wallTimeOnly) {
+            if (trackCpuTime) probe.cpuNanos.add(threadBean.getCurrentThreadCpuTime() - open.cpu[open.depth]);
+            if (trackAllocations) probe.allocatedBytes.add(threadBean.getCurrentThreadAllocatedBytes() - open.bytes[open.depth]);
+        }
+
+        // Only outermost main thread work counts towards the plugin's share of the tick
+        if (open.depth == 0 && Bukkit.isPrimaryThread() && plugin.getPerformanceMonitor() != null) {
+            plugin.getPerformanceMonitor().addPluginTime(elapsed);
+        }
+    }
+
+    /**
+     * Wrap a periodic task so every run is charged to the named probe
+     */
+    public Runnable wrap(String name, Runnable task) {
+        Probe probe = probe(name);
+        return () -> {
+            long start = begin(probe);
+            try {
+                task.run();
+            } finally {
+                end(probe, start);
+            }
+        };
+    }
+
+    /**
+     * Last completed window of every probe, most expensive first
+     */
+    public List<ProbeStats> getStats() {
+        List<ProbeStats> stats = new ArrayList<>();
+        for (Probe probe : probes.values()) {
+            stats.add(probe.lastWindow);
+        }
+        stats.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+        return stats;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isTrackingCpuTime() {
+        return trackCpuTime;
+    }
+
+    public boolean isTrackingAllocations() {
+        return trackAllocations;
+    }
+
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        loadConfig();
+
+        if (rollTask != null) {
+            rollTask.cancel();
+        }
+        startRollTask();
+    }
+
+    public void shutdown() {
+        if (rollTask != null) {
+            rollTask.cancel();
+            rollTask = null;
+        }
+    }
+}
\ No newline at end of file
@@ -14,11 +14,13 @@ import org.bukkit.event.weather.WeatherChangeEvent;
 public class SnowPlacementListener implements Listener {
 
     private final OrbisClimate plugin;
+    private final SelfProfiler.Probe blockFormProbe;
     private boolean preventSnowPlacement;
     private boolean preventIceFormation;
 
     public SnowPlacementListener(OrbisClimate plugin) {
         this.plugin = plugin;
+        this.blockFormProbe = plugin.getProfiler().wallTimeProbe("snow_listener");
         loadConfig();
     }
 
@@ -37,6 +39,15 @@ public class SnowPlacementListener implements Listener {
             return; // Feature disabled
         }
 
+        long start = plugin.getProfiler().begin(blockFormProbe);
+        try {
+            handleBlockForm(event);
+        } finally {
+            plugin.getProfiler().end(blockFormProbe, start);
+        }
+    }
+
+    private void handleBlockForm(BlockFormEvent event) {
         // Skip if already cancelled by RealisticSeasons
         if (event.isCancelled()) {
             return;
@@ -0,0 +1,212 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Central sound mixer
+ * Managers submit sounds here instead of calling Player#playSound. Submitting only queues the
+ * request (safe from the async particle tasks); once per tick the main thread mixes each player's
+ * requests: the same sound heard again within the dedupe window is dropped, the rest are taken by
+ * priority up to the player's free voices, and outdoor categories are attenuated by
+ * indoor_volume_multiplier for sheltered players.
+ */
+public class SoundMixer {
+
+    public enum Category {
+        AMBIENT(0, false),   // Zone, seasonal and time of day ambience
+        WIND(1, true),
+        WEATHER(2, true),    // Rain, snow and other weather beds
+        STORM(3, true),      // Blizzards, sandstorms, thunder
+        EFFECT(4, false);    // One-off gameplay feedback
+
+        private final int defaultPriority;
+        private final boolean outdoor;
+
+        Category(int defaultPriority, boolean outdoor) {
+            this.defaultPriority = defaultPriority;
+            this.outdoor = outdoor;
+        }
+
+        public int getDefaultPriority() { return defaultPriority; }
+        public boolean isOutdoor() { return outdoor; }
+    }
+
+    private static final class SoundRequest {
+        private final Player player;
+        private final Location location;
+        private final Sound sound;
+        private final Category category;
+        private final int priority;
+        private final float volume;
+        private final float pitch;
+
+        SoundRequest(Player player, Location location, Sound sound, Category category, int priority,
+                     float volume, float pitch) {
+            this.player = player;
+            this.location = location;
+            this.sound = sound;
+            this.category = category;
+            this.priority = priority;
+            this.volume = volume;
+            this.pitch = pitch;
+        }
+    }
+
+    /**
+     * Pending requests and recent voices for one player
+     */
+    private static final class PlayerMix {
+        private final List<SoundRequest> pending = new ArrayList<>();
+        private final Map<Sound, Integer> lastPlayed = new HashMap<>();
+        private int[] voiceEnds = new int[0];
+    }
+
+    private final OrbisClimate plugin;
+
+    // Configuration
+    private boolean enabled;
+    private double indoorVolumeMultiplier;
+    private int maxVoicesPerPlayer;
+    private int dedupeWindowTicks;
+    private int voiceDurationTicks;
+
+    // Runtime data
+    private final Queue<SoundRequest> inbox = new ConcurrentLinkedQueue<>();
+    // Main thread only
+    private final Map<Player, PlayerMix> mixes = new HashMap<>();
+    private BukkitTask mixTask;
+    private final AtomicLong submitted = new AtomicLong();
+    private long played;
+
+    public SoundMixer(OrbisClimate plugin) {
+        this.plugin = plugin;
+        loadConfig();
+
+        mixTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("sound_mix", this::mix), 1L, 1L);
+    }
+
+    private void loadConfig() {
+        enabled = plugin.getConfig().getBoolean("dynamic_sounds.mixer.enabled", true);
+        indoorVolumeMultiplier = plugin.getConfig().getDouble("dynamic_sounds.indoor_volume_multiplier", 0.3);
+        maxVoicesPerPlayer = Math.max(1, plugin.getConfig().getInt("dynamic_sounds.mixer.max_voices_per_player", 4));
+        dedupeWindowTicks = Math.max(0, plugin.getConfig().getInt("dynamic_sounds.mixer.dedupe_window_ticks", 20));
+        voiceDurationTicks = Math.max(1, plugin.getConfig().getInt("dynamic_sounds.mixer.voice_duration_ticks", 40));
+    }
+
+    /**
+     * Submit a sound at the category's default priority
+     */
+    public void play(Player player, Location location, Sound sound, Category category, float volume, float pitch) {
+        play(player, location, sound, category, category.getDefaultPriority(), volume, pitch);
+    }
+
+    /**
+     * Submit a sound for this tick's mix. Higher priority wins when the player's voices are full.
+     */
+    public void play(Player player, Location location, Sound sound, Category category, int priority,
+                     float volume, float pitch) {
+        submitted.incrementAndGet();
+        inbox.add(new SoundRequest(player, location, sound, category, priority, volume, pitch));
+    }
+
+    private void mix() {
+        int tick = Bukkit.getCurrentTick();
+
+        SoundRequest request;
+        while ((request = inbox.poll()) != null) {
+            mixes.computeIfAbsent(request.player, k -> new PlayerMix()).pending.add(request);
+        }
+
+        Iterator<Map.Entry<Player, PlayerMix>> iterator = mixes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Player, PlayerMix> entry = iterator.next();
+            Player player = entry.getKey();
+            PlayerMix mix = entry.getValue();
+
+            if (!player.isOnline()) {
+                iterator.remove();
+                continue;
+            }
+            if (mix.pending.isEmpty()) continue;
+
+            if (mix.voiceEnds.length != maxVoicesPerPlayer) {
+                mix.voiceEnds = Arrays.copyOf(mix.voiceEnds, maxVoicesPerPlayer);
+            }
+
+            // Highest priority first, louder first within a priority
+            mix.pending.sort((a, b) -> a.priority != b.priority ?
+                    Integer.compare(b.priority, a.priority) : Float.compare(b.volume, a.volume));
+
+            Boolean indoors = null;
+            for (SoundRequest pending : mix.pending) {
+                // With the mixer off everything plays, only the indoor attenuation applies
+                int voice = -1;
+                if (enabled) {
+                    Integer last = mix.lastPlayed.get(pending.sound);
+                    if (last != null && tick - last < dedupeWindowTicks) continue;
+
+                    voice = freeVoice(mix, tick);
+                    if (voice < 0) break;
+                }
+
+                float volume = pending.volume;
+                if (pending.category.isOutdoor()) {
+                    if (indoors == null) {
+                        indoors = plugin.getWindManager() != null && plugin.getWindManager().isPlayerIndoors(player);
+                    }
+                    if (indoors) volume *= (float) indoorVolumeMultiplier;
+                }
+
+                player.playSound(pending.location, pending.sound, volume, pending.pitch);
+                if (voice >= 0) {
+                    mix.voiceEnds[voice] = tick + voiceDurationTicks;
+                }
+                mix.lastPlayed.put(pending.sound, tick);
+                played++;
+            }
+            mix.pending.clear();
+        }
+    }
+
+    private static int freeVoice(PlayerMix mix, int tick) {
+        for (int i = 0; i < mix.voiceEnds.length; i++) {
+            if (mix.voiceEnds[i] <= tick) return i;
+        }
+        return -1;
+    }
+
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    public long getPlayedCount() {
+        return played;
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        loadConfig();
+    }
+
+    public void shutdown() {
+        if (mixTask != null) {
+            mixTask.cancel();
+        }
+        inbox.clear();
+        mixes.clear();
+    }
+}
\ No newline at end of file
@@ -29,6 +29,8 @@ public class TemperatureManager {
         private long lastUpdateTime;
         private long lastEffectTime;
         private boolean isIndoors;
+        private double insulation;
+        private double armorHeat;
 
         public PlayerTemperatureData() {
             this.currentTemperature = 20.0; // Start at comfortable temperature
@@ -49,18 +51,43 @@ public class TemperatureManager {
         public void setLastEffectTime(long time) { this.lastEffectTime = time; }
         public boolean isIndoors() { return isIndoors; }
         public void setIndoors(boolean indoors) { this.isIndoors = indoors; }
+        public double getInsulation() { return insulation; }
+        public void setInsulation(double insulation) { this.insulation = insulation; }
+        public double getArmorHeat() { return armorHeat; }
+        public void setArmorHeat(double armorHeat) { this.armorHeat = armorHeat; }
     }
 
+    private static final ClimateZoneManager.ClimateZone[] ZONES = ClimateZoneManager.ClimateZone.values();
+    private static final WeatherForecast.WeatherType[] WEATHERS = WeatherForecast.WeatherType.values();
+    // Day curve resolution in ticks
+    private static final int DAY_CURVE_STEP = 100;
+
+    // Defaults in ZONES order: ARCTIC, TEMPERATE, DESERT, ARID
+    private static final double[] DEFAULT_BASE_TEMPERATURES = {-15.0, 15.0, 35.0, 30.0};
+    private static final double[] DEFAULT_SEASON_ZONE_SCALE = {1.5, 1.0, 1.2, 1.0};
+    // Weather defaults in WEATHERS order: CLEAR, LIGHT_RAIN, HEAVY_RAIN, THUNDERSTORM, SNOW, BLIZZARD, SANDSTORM
+    private static final double[] DEFAULT_WEATHER_MODIFIERS = {2.0, -3.0, -5.0, -7.0, -8.0, -15.0, 0.0};
+    // Deserts are hotter under clear skies and sandstorms; NaN keeps the shared value
+    private static final double[] DEFAULT_DESERT_WEATHER_MODIFIERS = {5.0, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, 8.0};
+    private static final Map<String, Double> DEFAULT_SEASON_MODIFIERS = Map.of(
+            "WINTER", -10.0, "SPRING", -2.0, "SUMMER", 8.0, "FALL", 2.0);
+
     private final OrbisClimate plugin;
     private final WeatherForecast weatherForecast;
     private final ClimateZoneManager climateZoneManager;
     private final WindManager windManager;
+    private final HeatSourceIndex heatSources;
+    private final InsulationModel insulationModel;
     private SeasonsAPI seasonsAPI;
     private boolean realisticSeasonsEnabled;
 
     // Configuration
     private boolean temperatureEnabled;
-    private Map<ClimateZoneManager.ClimateZone, Double> baseTemperatures;
+    private double[] zoneBaseTemperatures;
+    private float[] modifierTable;
+    private int seasonSlots;
+    private float[] dayCurve;
+    private double droughtBonus;
     private Map<String, List<PotionEffect>> temperatureEffects;
     private int effectCooldownTicks;
 
@@ -74,6 +101,8 @@ public class TemperatureManager {
         this.weatherForecast = weatherForecast;
         this.climateZoneManager = climateZoneManager;
         this.windManager = windManager;
+        this.heatSources = new HeatSourceIndex(plugin);
+        this.insulationModel = new InsulationModel(plugin, this);
 
         // Check for RealisticSeasons
         if (Bukkit.getPluginManager().getPlugin("RealisticSeasons") != null) {
@@ -93,14 +122,16 @@ public class TemperatureManager {
         temperatureEnabled = plugin.getConfig().getBoolean("temperature.enabled", true);
         effectCooldownTicks = 1200; // 60 seconds between effects
 
-        // Load base temperatures
-        baseTemperatures = new HashMap<>();
-        baseTemperatures.put(ClimateZoneManager.ClimateZone.ARCTIC,
-                plugin.getConfig().getDouble("temperature.base_temperatures.arctic", -15.0));
-        baseTemperatures.put(ClimateZoneManager.ClimateZone.TEMPERATE,
-                plugin.getConfig().getDouble("temperature.base_temperatures.temperate", 15.0));
-        baseTemperatures.put(ClimateZoneManager.ClimateZone.DESERT,
-                plugin.getConfig().getDouble("temperature.base_temperatures.desert", 35.0));
+        // Load base temperatures by zone ordinal
+        zoneBaseTemperatures = new double[ZONES.length];
+        for (ClimateZoneManager.ClimateZone zone : ZONES) {
+            zoneBaseTemperatures[zone.ordinal()] = plugin.getConfig().getDouble(
+                    "temperature.base_temperatures." + zone.name().toLowerCase(), DEFAULT_BASE_TEMPERATURES[zone.ordinal()]);
+        }
+        droughtBonus = plugin.getConfig().getDouble("drought.effects.temperature_bonus", 15.0);
+
+        compileModifierTable();
+        compileDayCurve();
 
         // Load temperature effects
         loadTemperatureEffects();
@@ -154,24 +185,27 @@ public class TemperatureManager {
     private void startTemperatureTask() {
         if (!temperatureEnabled) return;
 
-        temperatureTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        temperatureTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("temperature_tick", () -> {
             for (Player player : Bukkit.getOnlinePlayers()) {
                 updatePlayerTemperature(player);
                 applyTemperatureEffects(player);
             }
-        }, 0L, 20L); // Update every second
+        }), 0L, 20L); // Update every second
     }
 
     private void updatePlayerTemperature(Player player) {
-        PlayerTemperatureData data = playerTemperatureData.computeIfAbsent(player,
-                k -> new PlayerTemperatureData());
+        PlayerTemperatureData data = playerTemperatureData.get(player);
+        if (data == null) {
+            addPlayer(player);
+            data = playerTemperatureData.get(player);
+        }
 
         // Check if player is indoors
         boolean isIndoors = windManager.isPlayerIndoors(player);
         data.setIndoors(isIndoors);
 
         // Calculate target temperature
-        double targetTemp = calculateTargetTemperature(player);
+        double targetTemp = calculateTargetTemperature(player, data);
         data.setTargetTemperature(targetTemp);
 
         // Gradually adjust current temperature towards target
@@ -196,114 +230,124 @@ public class TemperatureManager {
         data.setLastUpdateTime(currentTime);
     }
 
-    private double calculateTargetTemperature(Player player) {
-        // Start with climate zone base temperature
+    private double calculateTargetTemperature(Player player, PlayerTemperatureData data) {
+        // Start with climate zone base temperature, blended towards neighbouring zones near borders
         ClimateZoneManager.ClimateZone zone = climateZoneManager.getPlayerClimateZone(player);
-        double baseTemp = baseTemperatures.getOrDefault(zone, 15.0);
+        double baseTemp = climateZoneManager.blendZoneValues(player.getLocation(), zoneBaseTemperatures);
 
         // If player is indoors, gradually move towards comfortable temperature
         if (windManager.isPlayerIndoors(player)) {
             return 20.0; // Comfortable indoor temperature
         }
 
-        // Apply climate zone temperature modifier
-        String worldName = player.getWorld().getName();
-        // You could get the modifier from configuration here if needed
-
-        // Apply weather modifiers
+        // Weather and season modifiers for the zone, precompiled into one table
         WeatherForecast.WeatherType weather = climateZoneManager.getPlayerZoneWeather(player);
-        double weatherModifier = getWeatherTemperatureModifier(weather, zone);
-        baseTemp += weatherModifier;
-
-        // Apply seasonal modifiers
         Season currentSeason = weatherForecast.getCurrentSeason(player.getWorld());
-        double seasonalModifier = getSeasonalTemperatureModifier(currentSeason, zone);
-        baseTemp += seasonalModifier;
+        baseTemp += modifierTable[modifierIndex(zone, weather, currentSeason)];
 
         // Apply drought modifier for desert zones
         if (zone == ClimateZoneManager.ClimateZone.DESERT &&
                 climateZoneManager.isPlayerInDrought(player)) {
-            baseTemp += plugin.getConfig().getDouble("drought.effects.temperature_bonus", 15.0);
+            baseTemp += droughtBonus;
         }
 
         // Apply time of day modifier (day/night cycle)
-        double timeModifier = getTimeOfDayModifier(player);
-        baseTemp += timeModifier;
+        baseTemp += dayCurve[(int) (player.getWorld().getTime() % 24000) / DAY_CURVE_STEP];
 
         // Apply altitude modifier (higher = colder)
         double altitudeModifier = getAltitudeModifier(player);
         baseTemp += altitudeModifier;
 
+        // Nearby campfires, lava and furnaces warm; ice chills
+        baseTemp += heatSources.getWarmth(player.getLocation());
+
+        // Worn armor: insulation only brings cold up towards comfortable, armor heat only matters when hot
+        if (baseTemp < TemperatureLevel.COMFORTABLE_MIN) {
+            baseTemp = Math.min(TemperatureLevel.COMFORTABLE_MIN, baseTemp + data.getInsulation());
+        } else if (baseTemp > TemperatureLevel.COMFORTABLE_MAX) {
+            baseTemp = Math.max(TemperatureLevel.COMFORTABLE_MAX, baseTemp + data.getArmorHeat());
+        }
+
         return baseTemp;
     }
 
-    private double getWeatherTemperatureModifier(WeatherForecast.WeatherType weather, ClimateZoneManager.ClimateZone zone) {
-        switch (weather) {
-            case CLEAR:
-                // Clear weather tends to be warmer during day, colder at night
-                return zone == ClimateZoneManager.ClimateZone.DESERT ? 5.0 : 2.0;
-            case LIGHT_RAIN:
-                return -3.0; // Rain cools things down
-            case HEAVY_RAIN:
-                return -5.0;
-            case THUNDERSTORM:
-                return -7.0; // Storms bring cooler air
-            case SNOW:
-                return -8.0; // Snow is cold
-            case BLIZZARD:
-                return -15.0; // Blizzards are very cold
-            case SANDSTORM:
-                return zone == ClimateZoneManager.ClimateZone.DESERT ? 8.0 : 0.0; // Hot in deserts
-            default:
-                return 0.0;
-        }
+    private int modifierIndex(ClimateZoneManager.ClimateZone zone, WeatherForecast.WeatherType weather, Season season) {
+        // The last slot is "no season"
+        int seasonSlot = season != null ? season.ordinal() : seasonSlots - 1;
+        return (zone.ordinal() * WEATHERS.length + weather.ordinal()) * seasonSlots + seasonSlot;
     }
 
-    private double getSeasonalTemperatureModifier(Season season, ClimateZoneManager.ClimateZone zone) {
-        if (season == null) return 0.0;
-
-        double baseModifier;
-        switch (season) {
-            case WINTER:
-                baseModifier = -10.0;
-                break;
-            case SPRING:
-                baseModifier = -2.0;
-                break;
-            case SUMMER:
-                baseModifier = 8.0;
-                break;
-            case FALL: // RealisticSeasons uses FALL
-                baseModifier = 2.0;
-                break;
-            default:
-                baseModifier = 0.0;
+    /**
+     * Compile weather and seasonal modifiers into one value per (zone, weather, season)
+     */
+    private void compileModifierTable() {
+        String path = "temperature.modifiers.";
+
+        // Season names come from RealisticSeasons when it is installed; without it only the "no season" slot exists
+        String[] seasonNames;
+        try {
+            Season[] seasons = Season.values();
+            seasonNames = new String[seasons.length];
+            for (Season season : seasons) {
+                seasonNames[season.ordinal()] = season.name();
+            }
+        } catch (NoClassDefFoundError e) {
+            seasonNames = new String[0];
         }
-
-        // Zones react differently to seasons
-        switch (zone) {
-            case ARCTIC:
-                return baseModifier * 1.5; // More extreme in Arctic
-            case DESERT:
-                return baseModifier * 1.2; // Somewhat more extreme in Desert
-            case TEMPERATE:
-            default:
-                return baseModifier; // Normal seasonal variation
+        int slots = seasonNames.length + 1;
+        float[] table = new float[ZONES.length * WEATHERS.length * slots];
+
+        for (ClimateZoneManager.ClimateZone zone : ZONES) {
+            String zoneName = zone.name().toLowerCase();
+            double seasonScale = plugin.getConfig().getDouble(path + "season_zone_scale." + zoneName,
+                    DEFAULT_SEASON_ZONE_SCALE[zone.ordinal()]);
+
+            for (WeatherForecast.WeatherType weather : WEATHERS) {
+                // Zone overrides win over the shared weather value; missing keys fall back to the built-in values
+                double sharedModifier = plugin.getConfig().getDouble(path + "weather." + weather.name(),
+                        DEFAULT_WEATHER_MODIFIERS[weather.ordinal()]);
+                double zoneDefault = zone == ClimateZoneManager.ClimateZone.DESERT
+                        && !Double.isNaN(DEFAULT_DESERT_WEATHER_MODIFIERS[weather.ordinal()])
+                        ? DEFAULT_DESERT_WEATHER_MODIFIERS[weather.ordinal()] : sharedModifier;
+                double weatherModifier = plugin.getConfig().getDouble(path + "weather_zone_overrides." + zoneName + "." + weather.name(),
+                        zoneDefault);
+
+                for (int seasonSlot = 0; seasonSlot < slots; seasonSlot++) {
+                    double seasonModifier = seasonSlot == seasonNames.length ? 0.0
+                            : plugin.getConfig().getDouble(path + "season." + seasonNames[seasonSlot],
+                                    DEFAULT_SEASON_MODIFIERS.getOrDefault(seasonNames[seasonSlot], 0.0)) * seasonScale;
+                    int index = (zone.ordinal() * WEATHERS.length + weather.ordinal()) * slots + seasonSlot;
+                    table[index] = (float) (weatherModifier + seasonModifier);
+                }
+            }
         }
+        seasonSlots = slots;
+        modifierTable = table;
     }
 
-    private double getTimeOfDayModifier(Player player) {
-        long time = player.getWorld().getTime();
-
-        // Convert MC time to hour (0-24)
-        double hour = ((time + 6000) % 24000) / 1000.0;
-
-        // Temperature varies throughout the day
-        // Coldest at 6 AM (hour 6), warmest at 2 PM (hour 14)
-        double timeRadians = ((hour - 6) / 24.0) * 2 * Math.PI;
-        double modifier = Math.sin(timeRadians + Math.PI) * 5.0; // ±5 degrees variation
-
-        return modifier;
+    /**
+     * Sample the day/night curve every DAY_CURVE_STEP ticks. Temperature rises along a half cosine
+     * from the coldest hour to the warmest hour and falls back along another.
+     */
+    private void compileDayCurve() {
+        double amplitude = plugin.getConfig().getDouble("temperature.day_curve.amplitude", 5.0);
+        double coldestHour = plugin.getConfig().getDouble("temperature.day_curve.coldest_hour", 6.0);
+        double warmestHour = plugin.getConfig().getDouble("temperature.day_curve.warmest_hour", 14.0);
+        double risingHours = ((warmestHour - coldestHour) % 24 + 24) % 24;
+        if (risingHours == 0) risingHours = 12;
+
+        float[] curve = new float[24000 / DAY_CURVE_STEP];
+        for (int i = 0; i < curve.length; i++) {
+            // Minecraft time 0 is 06:00
+            double hour = ((i * DAY_CURVE_STEP + 6000) % 24000) / 1000.0;
+            double sinceColdest = ((hour - coldestHour) % 24 + 24) % 24;
+
+            double phase = sinceColdest < risingHours
+                    ? Math.PI * sinceColdest / risingHours
+                    : Math.PI + Math.PI * (sinceColdest - risingHours) / (24 - risingHours);
+            curve[i] = (float) (-Math.cos(phase) * amplitude);
+        }
+        dayCurve = curve;
     }
 
     private double getAltitudeModifier(Player player) {
@@ -403,7 +447,37 @@ public class TemperatureManager {
 
     // Player data management
     public void addPlayer(Player player) {
-        playerTemperatureData.put(player, new PlayerTemperatureData());
+        addPlayer(player, null);
+    }
+
+    /**
+     * Start tracking a player, resuming from their saved profile if there is one
+     */
+    public void addPlayer(Player player, PlayerProfileStore.Profile profile) {
+        PlayerTemperatureData data = new PlayerTemperatureData();
+        if (profile != null) {
+            if (!Double.isNaN(profile.getTemperature())) {
+                data.setCurrentTemperature(profile.getTemperature());
+                data.setTargetTemperature(profile.getTemperature());
+            }
+            data.setLastEffectTime(profile.getLastEffectTime());
+        }
+        insulationModel.score(player, data);
+        playerTemperatureData.put(player, data);
+    }
+
+    public PlayerTemperatureData getPlayerData(Player player) {
+        return playerTemperatureData.get(player);
+    }
+
+    /**
+     * Rescore a player's armor. Called by the insulation model when their equipment changes.
+     */
+    public void refreshInsulation(Player player) {
+        PlayerTemperatureData data = playerTemperatureData.get(player);
+        if (data != null) {
+            insulationModel.score(player, data);
+        }
     }
 
     public void removePlayer(Player player) {
@@ -413,6 +487,11 @@ public class TemperatureManager {
     // Configuration reload
     public void reloadConfig() {
         loadConfiguration();
+        heatSources.reloadConfig();
+        insulationModel.reloadConfig();
+        for (Player player : playerTemperatureData.keySet()) {
+            refreshInsulation(player);
+        }
     }
 
     // Shutdown
@@ -420,6 +499,8 @@ public class TemperatureManager {
         if (temperatureTask != null) {
             temperatureTask.cancel();
         }
+        heatSources.shutdown();
+        insulationModel.shutdown();
         playerTemperatureData.clear();
     }
 }
\ No newline at end of file
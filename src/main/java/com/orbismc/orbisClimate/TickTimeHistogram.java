@@ -0,0 +1,173 @@
+package com.orbismc.orbisClimate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-bucketed tick duration histogram
+ * Durations go into buckets of four per power of two (microseconds), so percentiles are accurate
+ * to within about 20% from microseconds to minutes at a fixed size. Counts are kept per second in
+ * a five minute ring, so any window up to five minutes is a sum over its seconds.
+ *
+ * Recorded from the main thread only; readers (commands, async reports) read the atomic arrays
+ * without locking and at worst see the second that is being written.
+ */
+public class TickTimeHistogram {
+
+    static final int BUCKETS = 128;
+    static final int SLOTS = 300; // Seconds kept
+
+    /**
+     * Window statistics in milliseconds
+     */
+    public static final class Snapshot {
+        private final long ticks;
+        private final double mean;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+        private final double max;
+        private final double pluginShare;
+
+        Snapshot(long ticks, double mean, double p50, double p95, double p99, double max, double pluginShare) {
+            this.ticks = ticks;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+            this.pluginShare = pluginShare;
+        }
+
+        public long getTicks() { return ticks; }
+        public double getMean() { return mean; }
+        public double getP50() { return p50; }
+        public double getP95() { return p95; }
+        public double getP99() { return p99; }
+        public double getMax() { return max; }
+        /** Fraction of tick time spent in this plugin's measured work */
+        public double getPluginShare() { return pluginShare; }
+    }
+
+    private final AtomicLongArray counts = new AtomicLongArray(SLOTS * BUCKETS);
+    private final AtomicLongArray slotSecond = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray slotTicks = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray slotTotalNanos = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray slotPluginNanos = new AtomicLongArray(SLOTS);
+    private final AtomicLongArray slotMaxNanos = new AtomicLongArray(SLOTS);
+    // Seconds count from here, so they are never negative and -1 can mark an unused slot
+    private final long startNanos = System.nanoTime();
+
+    public TickTimeHistogram() {
+        for (int slot = 0; slot < SLOTS; slot++) {
+            slotSecond.set(slot, -1);
+        }
+    }
+
+    /**
+     * Record one tick and the part of it spent in the plugin
+     */
+    public void record(long tickNanos, long pluginNanos) {
+        record(currentSecond(), tickNanos, pluginNanos);
+    }
+
+    void record(long second, long tickNanos, long pluginNanos) {
+        int slot = (int) (second % SLOTS);
+
+        if (slotSecond.get(slot) != second) {
+            // First tick of a new second: recycle the slot from five minutes ago
+            int base = slot * BUCKETS;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(base + i, 0);
+            }
+            slotTicks.set(slot, 0);
+            slotTotalNanos.set(slot, 0);
+            slotPluginNanos.set(slot, 0);
+            slotMaxNanos.set(slot, 0);
+            slotSecond.set(slot, second);
+        }
+
+        counts.incrementAndGet(slot * BUCKETS + bucketFor(tickNanos / 1000));
+        slotTicks.incrementAndGet(slot);
+        slotTotalNanos.addAndGet(slot, tickNanos);
+        slotPluginNanos.addAndGet(slot, pluginNanos);
+        if (tickNanos > slotMaxNanos.get(slot)) {
+            slotMaxNanos.set(slot, tickNanos);
+        }
+    }
+
+    /**
+     * Statistics over the last given number of seconds (up to 300)
+     */
+    public Snapshot snapshot(int seconds) {
+        return snapshot(currentSecond(), seconds);
+    }
+
+    Snapshot snapshot(long now, int seconds) {
+        int window = Math.max(1, Math.min(SLOTS, seconds));
+        long[] merged = new long[BUCKETS];
+        long ticks = 0;
+        long totalNanos = 0;
+        long pluginNanos = 0;
+        long maxNanos = 0;
+
+        for (int slot = 0; slot < SLOTS; slot++) {
+            long second = slotSecond.get(slot);
+            if (second < 0 || now - second >= window) continue;
+
+            int base = slot * BUCKETS;
+            for (int i = 0; i < BUCKETS; i++) {
+                merged[i] += counts.get(base + i);
+            }
+            ticks += slotTicks.get(slot);
+            totalNanos += slotTotalNanos.get(slot);
+            pluginNanos += slotPluginNanos.get(slot);
+            maxNanos = Math.max(maxNanos, slotMaxNanos.get(slot));
+        }
+
+        if (ticks == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0, 0);
+        }
+
+        double maxMillis = maxNanos / 1_000_000.0;
+        return new Snapshot(ticks, totalNanos / 1_000_000.0 / ticks,
+                Math.min(maxMillis, percentile(merged, ticks, 0.50)),
+                Math.min(maxMillis, percentile(merged, ticks, 0.95)),
+                Math.min(maxMillis, percentile(merged, ticks, 0.99)),
+                maxMillis, totalNanos > 0 ? (double) pluginNanos / totalNanos : 0);
+    }
+
+    /**
+     * Upper bound of the bucket holding the given rank, in milliseconds
+     */
+    static double percentile(long[] merged, long total, double fraction) {
+        long rank = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += merged[i];
+            if (seen >= rank) {
+                return bucketUpperMicros(i) / 1000.0;
+            }
+        }
+        return bucketUpperMicros(BUCKETS - 1) / 1000.0;
+    }
+
+    /**
+     * Four buckets per power of two: the leading bit picks the octave, the next two bits the quarter
+     */
+    static int bucketFor(long micros) {
+        if (micros < 1) micros = 1;
+        int log = 63 - Long.numberOfLeadingZeros(micros);
+        int quarter = log >= 2 ? (int) ((micros >>> (log - 2)) & 3) : (int) ((micros << (2 - log)) & 3);
+        return Math.min(BUCKETS - 1, log * 4 + quarter);
+    }
+
+    static long bucketUpperMicros(int bucket) {
+        int log = bucket / 4;
+        int quarter = bucket % 4;
+        return Math.max(1, ((5L + quarter) << log) >> 2);
+    }
+
+    private long currentSecond() {
+        return (System.nanoTime() - startNanos) / 1_000_000_000L;
+    }
+}
\ No newline at end of file
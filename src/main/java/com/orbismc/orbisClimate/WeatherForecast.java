@@ -7,9 +7,14 @@ import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class WeatherForecast {
 
@@ -37,43 +42,104 @@ public class WeatherForecast {
         public int getThunderIntensity() { return thunderIntensity; }
     }
 
-    // Enhanced forecast that includes exact timing and transitions
+    private static final WeatherType[] WEATHER_TYPES = WeatherType.values();
+    private static final ClimateZoneManager.ClimateZone[] ZONES = ClimateZoneManager.ClimateZone.values();
+
+    // Compact 24-hour forecast: one weather ordinal per hour plus a bitmask of transition hours,
+    // for the world and for each climate zone
     public static class DetailedForecast {
         private final Date date;
         private final Season season;
-        private final Map<Integer, WeatherType> hourlyWeather; // Hour -> Weather mapping
-        private final Map<Integer, Boolean> transitionHours; // Hours where transitions occur
+        private final byte[] hourlyWeather; // Hour -> weather ordinal
+        private int transitionMask; // Bit n set when hour n is a transition
+        private final byte[] zoneHourlyWeather; // zone * 24 + hour -> weather ordinal
+        private final int[] zoneTransitionMasks;
         private final String forecastId;
 
         public DetailedForecast(Date date, Season season) {
+            this(date, season, new byte[24], 0, new byte[ZONES.length * 24], new int[ZONES.length], generateForecastId(date));
+        }
+
+        private DetailedForecast(Date date, Season season, byte[] hourlyWeather, int transitionMask,
+                                 byte[] zoneHourlyWeather, int[] zoneTransitionMasks, String forecastId) {
             this.date = date;
             this.season = season;
-            this.hourlyWeather = new HashMap<>();
-            this.transitionHours = new HashMap<>();
-            this.forecastId = generateForecastId(date);
+            this.hourlyWeather = hourlyWeather;
+            this.transitionMask = transitionMask;
+            this.zoneHourlyWeather = zoneHourlyWeather;
+            this.zoneTransitionMasks = zoneTransitionMasks;
+            this.forecastId = forecastId;
         }
 
-        private String generateForecastId(Date date) {
+        private static String generateForecastId(Date date) {
             if (date != null) {
                 return date.getYear() + "-" + date.getMonth() + "-" + date.getDay();
             }
             return "vanilla-" + System.currentTimeMillis() / 86400000; // Day number
         }
 
+        /**
+         * The same hours dated to the day they come up on. Shares the hour data, so it is free.
+         */
+        DetailedForecast forDay(Date date, String forecastId) {
+            return new DetailedForecast(date, season, hourlyWeather, transitionMask,
+                    zoneHourlyWeather, zoneTransitionMasks, forecastId);
+        }
+
         public void setWeatherForHour(int hour, WeatherType weather) {
-            hourlyWeather.put(hour, weather);
+            hourlyWeather[hour] = (byte) weather.ordinal();
         }
 
         public void setTransitionHour(int hour, boolean isTransition) {
-            transitionHours.put(hour, isTransition);
+            if (isTransition) {
+                transitionMask |= 1 << hour;
+            } else {
+                transitionMask &= ~(1 << hour);
+            }
         }
 
         public WeatherType getWeatherForHour(int hour) {
-            return hourlyWeather.getOrDefault(hour, WeatherType.CLEAR);
+            if (hour < 0 || hour >= 24) return WeatherType.CLEAR;
+            return WEATHER_TYPES[hourlyWeather[hour]];
         }
 
         public boolean isTransitionHour(int hour) {
-            return transitionHours.getOrDefault(hour, false);
+            return hour >= 0 && hour < 24 && (transitionMask >>> hour & 1) != 0;
+        }
+
+        public int getTransitionMask() {
+            return transitionMask;
+        }
+
+        /**
+         * First transition hour after the given hour on this day, or -1. Pass -1 to search the whole day.
+         */
+        public int getNextTransitionHour(int afterHour) {
+            return nextTransition(transitionMask, afterHour);
+        }
+
+        private static int nextTransition(int mask, int afterHour) {
+            int later = afterHour < 0 ? mask : mask & (-2 << afterHour);
+            return later == 0 ? -1 : Integer.numberOfTrailingZeros(later);
+        }
+
+        // Per-zone forecast
+
+        public WeatherType getZoneWeather(ClimateZoneManager.ClimateZone zone, int hour) {
+            if (hour < 0 || hour >= 24) return WeatherType.CLEAR;
+            return WEATHER_TYPES[zoneHourlyWeather[zone.ordinal() * 24 + hour]];
+        }
+
+        public boolean isZoneTransitionHour(ClimateZoneManager.ClimateZone zone, int hour) {
+            return hour >= 0 && hour < 24 && (zoneTransitionMasks[zone.ordinal()] >>> hour & 1) != 0;
+        }
+
+        public int getZoneTransitionMask(ClimateZoneManager.ClimateZone zone) {
+            return zoneTransitionMasks[zone.ordinal()];
+        }
+
+        public int getNextZoneTransitionHour(ClimateZoneManager.ClimateZone zone, int afterHour) {
+            return nextTransition(zoneTransitionMasks[zone.ordinal()], afterHour);
         }
 
         public Date getDate() { return date; }
@@ -91,6 +157,14 @@ public class WeatherForecast {
         }
     }
 
+    // Days generated ahead of today, in order. Guarded by its own monitor.
+    private static final class ForecastHorizon {
+        private final ArrayDeque<DetailedForecast> days = new ArrayDeque<>();
+        private Season season;
+        private int generation;
+        private boolean refilling;
+    }
+
     // Simplified world weather state - just tracks what the forecast says
     public static class WorldWeatherState {
         private WeatherType currentWeather;
@@ -99,6 +173,7 @@ public class WeatherForecast {
         private long lockExpirationTime;
         private String activeForecastId;
         private int lastProcessedHour;
+        private final WeatherType[] zoneWeather = new WeatherType[ZONES.length];
 
         public WorldWeatherState() {
             this.currentWeather = WeatherType.CLEAR;
@@ -127,18 +202,28 @@ public class WeatherForecast {
         public void setActiveForecastId(String forecastId) { this.activeForecastId = forecastId; }
         public int getLastProcessedHour() { return lastProcessedHour; }
         public void setLastProcessedHour(int hour) { this.lastProcessedHour = hour; }
+        public WeatherType getZoneWeather(ClimateZoneManager.ClimateZone zone) { return zoneWeather[zone.ordinal()]; }
+        public void setZoneWeather(ClimateZoneManager.ClimateZone zone, WeatherType weather) { zoneWeather[zone.ordinal()] = weather; }
     }
 
     private final OrbisClimate plugin;
+    private final ClimateEventBus eventBus;
     private final Random random;
     private final Map<World, DetailedForecast> worldForecasts = new HashMap<>();
     private final Map<World, WorldWeatherState> worldWeatherStates = new HashMap<>();
+    private final Map<World, ForecastHorizon> worldHorizons = new ConcurrentHashMap<>();
     private SeasonsAPI seasonsAPI;
     private boolean realisticSeasonsEnabled = false;
 
+    // Configuration
+    private int horizonDays;
+    private volatile WeatherMarkovModel weatherModel;
+
     public WeatherForecast(OrbisClimate plugin) {
         this.plugin = plugin;
+        this.eventBus = plugin.getEventBus();
         this.random = new Random();
+        loadConfig();
 
         // Check if RealisticSeasons is available
         if (Bukkit.getPluginManager().getPlugin("RealisticSeasons") != null) {
@@ -156,6 +241,11 @@ public class WeatherForecast {
         }
     }
 
+    private void loadConfig() {
+        horizonDays = Math.max(1, Math.min(14, plugin.getConfig().getInt("weather.forecast_days", 7)));
+        weatherModel = new WeatherMarkovModel(plugin);
+    }
+
     public void checkAndUpdateForecast(World world) {
         WorldWeatherState state = worldWeatherStates.computeIfAbsent(world, k -> new WorldWeatherState());
         
@@ -189,6 +279,14 @@ public class WeatherForecast {
     }
 
     private void generateDetailedForecast(World world) {
+        generateDetailedForecast(world, false);
+    }
+
+    /**
+     * Make the next precomputed day today. Only when the outlook is empty (first run, season change
+     * or a forced regeneration) is the day generated here; the rest of the horizon refills in the background.
+     */
+    private void generateDetailedForecast(World world, boolean discardOutlook) {
         Date currentDate = null;
         Season currentSeason = null;
 
@@ -196,20 +294,31 @@ public class WeatherForecast {
             currentDate = seasonsAPI.getDate(world);
             currentSeason = seasonsAPI.getSeason(world);
         }
+        String forecastId = generateCurrentForecastId(world);
+
+        ForecastHorizon horizon = worldHorizons.computeIfAbsent(world, w -> new ForecastHorizon());
+        DetailedForecast precomputed = null;
+        synchronized (horizon) {
+            // Days generated for another season no longer apply
+            if (discardOutlook || horizon.season != currentSeason) {
+                horizon.days.clear();
+                horizon.season = currentSeason;
+                horizon.generation++;
+            }
+            precomputed = horizon.days.poll();
+        }
+
+        DetailedForecast forecast = precomputed != null ?
+                precomputed.forDay(currentDate, forecastId) :
+                buildForecast(currentDate, currentSeason, forecastId);
 
-        DetailedForecast forecast = new DetailedForecast(currentDate, currentSeason);
-        
-        // Generate hour-by-hour weather for the entire day
-        WeatherType[] periodWeather = generatePeriodWeather(currentSeason);
-        
-        // Map periods to hours with transitions
-        mapPeriodsToHours(forecast, periodWeather);
-        
         worldForecasts.put(world, forecast);
+        refillHorizon(horizon);
+        eventBus.publish(new ClimateEventBus.ForecastGeneratedEvent(world, forecast));
 
         String dateStr = realisticSeasonsEnabled && currentDate != null ?
                 currentDate.getMonth() + "/" + currentDate.getDay() + "/" + currentDate.getYear() :
-                generateCurrentForecastId(world);
+                forecastId;
         String seasonStr = realisticSeasonsEnabled && currentSeason != null ? 
                 currentSeason.toString() : "N/A";
         
@@ -221,61 +330,103 @@ public class WeatherForecast {
         }
     }
 
-    private WeatherType[] generatePeriodWeather(Season season) {
-        // Generate 4 period weather types with better continuity
-        WeatherType[] periods = new WeatherType[4]; // Morning, Afternoon, Evening, Night
-        
-        // Morning weather
-        periods[0] = generateWeatherType(season, null, 0.0);
-        
-        // Afternoon weather (high continuity from morning)
-        periods[1] = generateWeatherType(season, periods[0], 0.7);
-        
-        // Evening weather (medium continuity from afternoon)
-        periods[2] = generateWeatherType(season, periods[1], 0.5);
-        
-        // Night weather (lower continuity, but consider morning for next day)
-        periods[3] = generateWeatherType(season, periods[2], 0.3);
-        
-        return periods;
-    }
+    /**
+     * Generate the world and every zone for one day in a single pass over flat arrays
+     */
+    private DetailedForecast buildForecast(Date date, Season season, String forecastId) {
+        WeatherMarkovModel model = weatherModel;
+        String seasonName = season != null ? season.name() : null;
+        WeatherType[] periodWeather = new WeatherType[4]; // Morning, Afternoon, Evening, Night
 
-    private void mapPeriodsToHours(DetailedForecast forecast, WeatherType[] periodWeather) {
-        // Map each hour to a weather type and mark transition hours
-        
-        // Night (0-5): Use night weather
-        for (int hour = 0; hour <= 5; hour++) {
-            forecast.setWeatherForHour(hour, periodWeather[3]); // Night
-        }
-        
-        // Morning transition (6): Transition from night to morning
-        forecast.setWeatherForHour(6, periodWeather[0]); // Morning
-        forecast.setTransitionHour(6, !periodWeather[3].equals(periodWeather[0]));
-        
-        // Morning (7-11): Morning weather
-        for (int hour = 7; hour <= 11; hour++) {
-            forecast.setWeatherForHour(hour, periodWeather[0]); // Morning
+        // Hour-by-hour world weather, periods mapped to hours with transitions
+        byte[] hourlyWeather = new byte[24];
+        generatePeriodWeather(model.getChain(null, seasonName), periodWeather);
+        int transitionMask = mapPeriodsToHours(hourlyWeather, 0, periodWeather);
+
+        // Each zone follows its own chain, independent of the world and of the other zones
+        byte[] zoneHourlyWeather = new byte[ZONES.length * 24];
+        int[] zoneTransitionMasks = new int[ZONES.length];
+        for (ClimateZoneManager.ClimateZone zone : ZONES) {
+            generatePeriodWeather(model.getChain(zone, seasonName), periodWeather);
+            zoneTransitionMasks[zone.ordinal()] = mapPeriodsToHours(zoneHourlyWeather, zone.ordinal() * 24, periodWeather);
         }
-        
-        // Afternoon transition (12): Transition from morning to afternoon
-        forecast.setWeatherForHour(12, periodWeather[1]); // Afternoon
-        forecast.setTransitionHour(12, !periodWeather[0].equals(periodWeather[1]));
-        
-        // Afternoon (13-17): Afternoon weather
-        for (int hour = 13; hour <= 17; hour++) {
-            forecast.setWeatherForHour(hour, periodWeather[1]); // Afternoon
+
+        return new DetailedForecast(date, season, hourlyWeather, transitionMask,
+                zoneHourlyWeather, zoneTransitionMasks, forecastId);
+    }
+
+    /**
+     * Top the horizon up to forecast_days - 1 upcoming days on a worker thread
+     */
+    private void refillHorizon(ForecastHorizon horizon) {
+        int missing;
+        Season season;
+        int generation;
+        synchronized (horizon) {
+            missing = horizonDays - 1 - horizon.days.size();
+            if (missing <= 0 || horizon.refilling) return;
+            horizon.refilling = true;
+            season = horizon.season;
+            generation = horizon.generation;
         }
-        
-        // Evening transition (18): Transition from afternoon to evening
-        forecast.setWeatherForHour(18, periodWeather[2]); // Evening
-        forecast.setTransitionHour(18, !periodWeather[1].equals(periodWeather[2]));
-        
-        // Evening (19-23): Evening weather
-        for (int hour = 19; hour <= 23; hour++) {
-            forecast.setWeatherForHour(hour, periodWeather[2]); // Evening
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            boolean stale = false;
+            try {
+                List<DetailedForecast> days = new ArrayList<>(missing);
+                for (int i = 0; i < missing; i++) {
+                    days.add(buildForecast(null, season, "upcoming"));
+                }
+
+                synchronized (horizon) {
+                    stale = horizon.generation != generation;
+                    if (!stale) {
+                        horizon.days.addAll(days);
+                    }
+                }
+            } finally {
+                // Even if generation failed, so the next forecast rollover can try again
+                synchronized (horizon) {
+                    horizon.refilling = false;
+                }
+            }
+            // The outlook was discarded while generating - start again for the new season
+            if (stale) {
+                refillHorizon(horizon);
+            }
+        });
+    }
+
+    private void generatePeriodWeather(WeatherMarkovModel.Chain chain, WeatherType[] periods) {
+        // Each period is drawn from the one before
+        periods[0] = chain.next(null, random);
+        for (int period = 1; period < periods.length; period++) {
+            periods[period] = chain.next(periods[period - 1], random);
         }
-        
+    }
+
+    /**
+     * Write one day of periods into hours starting at offset; returns the transition mask
+     */
+    private static int mapPeriodsToHours(byte[] hours, int offset, WeatherType[] periodWeather) {
+        byte night = (byte) periodWeather[3].ordinal();
+        byte morning = (byte) periodWeather[0].ordinal();
+        byte afternoon = (byte) periodWeather[1].ordinal();
+        byte evening = (byte) periodWeather[2].ordinal();
+
+        // Night (0-5), morning (6-11), afternoon (12-17), evening (18-23)
+        Arrays.fill(hours, offset, offset + 6, night);
+        Arrays.fill(hours, offset + 6, offset + 12, morning);
+        Arrays.fill(hours, offset + 12, offset + 18, afternoon);
+        Arrays.fill(hours, offset + 18, offset + 24, evening);
+
+        // Transitions at 6, 12 and 18 where the period changes.
         // Note: Night transition happens at hour 0 of next day
+        int mask = 0;
+        if (night != morning) mask |= 1 << 6;
+        if (morning != afternoon) mask |= 1 << 12;
+        if (afternoon != evening) mask |= 1 << 18;
+        return mask;
     }
 
     private void logDetailedForecast(World world, DetailedForecast forecast) {
@@ -307,13 +458,13 @@ public class WeatherForecast {
         // Check if hour has changed or weather needs to be updated
         boolean hourChanged = state.getLastProcessedHour() != currentHour;
         boolean weatherChanged = !forecastWeather.equals(state.getCurrentWeather());
+        WeatherType previousWeather = state.getCurrentWeather();
         
         if (hourChanged || weatherChanged) {
             state.setLastProcessedHour(currentHour);
             
             if (weatherChanged) {
                 // Weather is changing according to forecast
-                WeatherType previousWeather = state.getCurrentWeather();
                 state.setCurrentWeather(forecastWeather);
                 
                 if (plugin.getConfig().getBoolean("debug.log_weather_transitions", false)) {
@@ -335,93 +486,98 @@ public class WeatherForecast {
             applyWeatherToWorld(world, forecastWeather);
             state.setLastAppliedWeather(forecastWeather);
         }
-    }
 
-    private WeatherType generateWeatherType(Season season, WeatherType previousWeather, double continuityChance) {
-        // Check continuity first
-        if (previousWeather != null && random.nextDouble() < continuityChance) {
-            return previousWeather;
-        }
-
-        // Generate new weather based on season
-        double roll = random.nextDouble() * 100.0;
-
-        // Season-based weather probabilities
-        double clearChance = 45.0;
-        double lightPrecipChance = 25.0;
-        double heavyPrecipChance = 15.0;
-        double stormChance = 10.0;
-        double specialChance = 5.0; // Snow/sandstorm
-
-        if (season != null) {
-            switch (season) {
-                case WINTER:
-                    clearChance = 25.0;
-                    lightPrecipChance = 30.0;
-                    heavyPrecipChance = 25.0;
-                    stormChance = 10.0;
-                    specialChance = 10.0;
-                    break;
-                case SPRING:
-                    clearChance = 40.0;
-                    lightPrecipChance = 35.0;
-                    heavyPrecipChance = 15.0;
-                    stormChance = 8.0;
-                    specialChance = 2.0;
-                    break;
-                case SUMMER:
-                    clearChance = 55.0;
-                    lightPrecipChance = 15.0;
-                    heavyPrecipChance = 10.0;
-                    stormChance = 15.0;
-                    specialChance = 5.0;
-                    break;
-                case FALL:
-                    clearChance = 35.0;
-                    lightPrecipChance = 35.0;
-                    heavyPrecipChance = 20.0;
-                    stormChance = 8.0;
-                    specialChance = 2.0;
-                    break;
-            }
+        // Tell subscribers only once the world reflects the new state
+        if (weatherChanged) {
+            eventBus.publish(new ClimateEventBus.WeatherChangedEvent(world, previousWeather, forecastWeather, isTransitionHour));
+        }
+        if (hourChanged) {
+            publishUpcomingTransition(world, forecast, currentHour);
         }
+        updateZoneWeather(world, state, forecast, currentHour);
+    }
 
-        double cumulative = 0;
+    /**
+     * Read each zone's weather for this hour from its forecast, or derive it from an admin lock,
+     * and publish the zones that changed
+     */
+    private void updateZoneWeather(World world, WorldWeatherState state, DetailedForecast forecast, int hour) {
+        boolean locked = state.isWeatherLocked();
+        Season currentSeason = locked ? getCurrentSeason(world) : null;
+        String season = currentSeason != null ? currentSeason.name() : null;
 
-        cumulative += clearChance;
-        if (roll < cumulative) {
-            return WeatherType.CLEAR;
-        }
+        for (ClimateZoneManager.ClimateZone zone : ZONES) {
+            WeatherType weather = locked ?
+                    WeatherMarkovModel.translate(zone, state.getCurrentWeather(), season) :
+                    forecast.getZoneWeather(zone, hour);
+            WeatherType previous = state.getZoneWeather(zone);
 
-        cumulative += lightPrecipChance;
-        if (roll < cumulative) {
-            if (season == Season.WINTER && random.nextDouble() < 0.6) {
-                return WeatherType.SNOW;
+            if (weather != previous) {
+                state.setZoneWeather(zone, weather);
+                eventBus.publish(new ClimateEventBus.ZoneWeatherChangedEvent(world, zone,
+                        previous != null ? previous : WeatherType.CLEAR, weather));
             }
-            return WeatherType.LIGHT_RAIN;
         }
+    }
 
-        cumulative += heavyPrecipChance;
-        if (roll < cumulative) {
-            if (season == Season.WINTER && random.nextDouble() < 0.4) {
-                return WeatherType.BLIZZARD;
+    /**
+     * Publish every zone transition within the next 3 forecast hours, so a storm that follows a
+     * non-storm change is still announced
+     */
+    private void publishUpcomingTransition(World world, DetailedForecast forecast, int currentHour) {
+        for (ClimateZoneManager.ClimateZone zone : ZONES) {
+            WeatherType previous = forecast.getZoneWeather(zone, currentHour);
+            for (int lookAhead = 1; lookAhead <= 3; lookAhead++) {
+                WeatherType upcoming = getZoneWeatherAhead(world, forecast, zone, currentHour, lookAhead);
+                if (upcoming != previous) {
+                    eventBus.publish(new ClimateEventBus.TransitionUpcomingEvent(world, zone, upcoming, lookAhead));
+                }
+                previous = upcoming;
             }
-            return WeatherType.HEAVY_RAIN;
         }
+    }
 
-        cumulative += stormChance;
-        if (roll < cumulative) {
-            if (season == Season.WINTER && random.nextDouble() < 0.5) {
-                return WeatherType.BLIZZARD;
-            }
-            return WeatherType.THUNDERSTORM;
-        }
+    /**
+     * Hours from the current hour to the next transition, continuing into tomorrow's forecast; -1 if none.
+     * Without a precomputed tomorrow, today's hours stand in for it.
+     */
+    private int hoursUntilTransition(World world, DetailedForecast today, int currentHour) {
+        int hour = today.getNextTransitionHour(currentHour);
+        if (hour != -1) return hour - currentHour;
+
+        DetailedForecast tomorrow = getUpcomingDay(world, 1);
+        hour = (tomorrow != null ? tomorrow : today).getNextTransitionHour(-1);
+        return hour == -1 ? -1 : (24 - currentHour) + hour;
+    }
 
-        // Special weather
-        if (season == Season.SUMMER && random.nextDouble() < 0.7) {
-            return WeatherType.SANDSTORM;
+    private WeatherType getWeatherAhead(World world, DetailedForecast today, int currentHour, int hoursAhead) {
+        int target = currentHour + hoursAhead;
+        DetailedForecast day = target >= 24 ? getUpcomingDay(world, target / 24) : today;
+        return (day != null ? day : today).getWeatherForHour(target % 24);
+    }
+
+    private WeatherType getZoneWeatherAhead(World world, DetailedForecast today, ClimateZoneManager.ClimateZone zone,
+                                            int currentHour, int hoursAhead) {
+        int target = currentHour + hoursAhead;
+        DetailedForecast day = target >= 24 ? getUpcomingDay(world, target / 24) : today;
+        return (day != null ? day : today).getZoneWeather(zone, target % 24);
+    }
+
+    /**
+     * A precomputed day, 1 being tomorrow, or null if it is not generated yet
+     */
+    private DetailedForecast getUpcomingDay(World world, int daysAhead) {
+        ForecastHorizon horizon = worldHorizons.get(world);
+        if (horizon == null || daysAhead < 1) return null;
+
+        synchronized (horizon) {
+            if (daysAhead > horizon.days.size()) return null;
+            int index = 1;
+            for (DetailedForecast day : horizon.days) {
+                if (index++ == daysAhead) return day;
+            }
         }
-        return WeatherType.SNOW;
+        return null;
     }
 
     private void applyWeatherToWorld(World world, WeatherType weather) {
@@ -518,9 +674,7 @@ public class WeatherForecast {
         DetailedForecast forecast = worldForecasts.get(world);
         if (forecast == null) return WeatherType.CLEAR;
         
-        int currentHour = getCurrentHour(world);
-        int futureHour = (currentHour + hoursAhead) % 24;
-        return forecast.getWeatherForHour(futureHour);
+        return getWeatherAhead(world, forecast, getCurrentHour(world), hoursAhead);
     }
 
     // NEW: Get next transition hour for progression system
@@ -529,54 +683,56 @@ public class WeatherForecast {
         if (forecast == null) return -1;
         
         int currentHour = getCurrentHour(world);
-        
-        // Look ahead for next transition
-        for (int hour = currentHour + 1; hour < 24; hour++) {
-            if (forecast.isTransitionHour(hour)) {
-                return hour;
-            }
-        }
-        
-        // Check next day (wrap around)
-        for (int hour = 0; hour <= currentHour; hour++) {
-            if (forecast.isTransitionHour(hour)) {
-                return hour;
-            }
-        }
-        
-        return -1; // No transitions found
+        int hoursUntil = hoursUntilTransition(world, forecast, currentHour);
+        return hoursUntil == -1 ? -1 : (currentHour + hoursUntil) % 24;
     }
 
     // NEW: Get weather type at next transition for progression system
     public WeatherType getNextTransitionWeather(World world) {
-        int nextTransitionHour = getNextTransitionHour(world);
-        if (nextTransitionHour == -1) return null;
-        
         DetailedForecast forecast = worldForecasts.get(world);
         if (forecast == null) return null;
-        
-        return forecast.getWeatherForHour(nextTransitionHour);
+
+        int currentHour = getCurrentHour(world);
+        int hoursUntil = hoursUntilTransition(world, forecast, currentHour);
+        if (hoursUntil == -1) return null;
+
+        return getWeatherAhead(world, forecast, currentHour, hoursUntil);
     }
 
     // NEW: Get hours until next transition for progression warnings
     public int getHoursUntilNextTransition(World world) {
-        int nextTransitionHour = getNextTransitionHour(world);
-        if (nextTransitionHour == -1) return -1;
-        
-        int currentHour = getCurrentHour(world);
-        
-        if (nextTransitionHour > currentHour) {
-            return nextTransitionHour - currentHour;
-        } else {
-            // Next day
-            return (24 - currentHour) + nextTransitionHour;
-        }
+        DetailedForecast forecast = worldForecasts.get(world);
+        if (forecast == null) return -1;
+
+        return hoursUntilTransition(world, forecast, getCurrentHour(world));
     }
 
     // Public interface methods
     public DetailedForecast getForecast(World world) {
         return worldForecasts.get(world);
     }
+
+    /**
+     * Today followed by the days generated so far, up to weather.forecast_days in total
+     */
+    public List<DetailedForecast> getForecastHorizon(World world) {
+        List<DetailedForecast> days = new ArrayList<>();
+        DetailedForecast today = worldForecasts.get(world);
+        if (today == null) return days;
+
+        days.add(today);
+        ForecastHorizon horizon = worldHorizons.get(world);
+        if (horizon != null) {
+            synchronized (horizon) {
+                days.addAll(horizon.days);
+            }
+        }
+        return days;
+    }
+
+    public int getHorizonDays() {
+        return horizonDays;
+    }
     
     // Backward compatibility method for DailyForecast interface
     public DailyForecast getDailyForecast(World world) {
@@ -605,6 +761,18 @@ public class WeatherForecast {
         }
     }
 
+    /**
+     * Current weather of one zone - a read of the zone's forecast hour, kept up to date with the world weather
+     */
+    public WeatherType getZoneWeather(World world, ClimateZoneManager.ClimateZone zone) {
+        WorldWeatherState state = worldWeatherStates.get(world);
+        WeatherType weather = state != null ? state.getZoneWeather(zone) : null;
+        if (weather != null) return weather;
+
+        DetailedForecast forecast = worldForecasts.get(world);
+        return forecast != null ? forecast.getZoneWeather(zone, getCurrentHour(world)) : WeatherType.CLEAR;
+    }
+
     public WeatherType getCurrentWeather(World world) {
         WorldWeatherState state = worldWeatherStates.get(world);
         if (state != null) {
@@ -618,7 +786,7 @@ public class WeatherForecast {
 
     public void regenerateForecast(World world) {
         plugin.getLogger().info("Regenerating forecast for " + world.getName() + " (forced)");
-        generateDetailedForecast(world);
+        generateDetailedForecast(world, true);
         announceDailyForecast(world);
         
         // Reset state to force immediate application
@@ -632,6 +800,7 @@ public class WeatherForecast {
     // Manual weather override (for admins) - overrides forecast temporarily
     public void setWeather(World world, WeatherType weather, int durationMinutes) {
         WorldWeatherState state = worldWeatherStates.computeIfAbsent(world, k -> new WorldWeatherState());
+        WeatherType previousWeather = state.getCurrentWeather();
         
         state.setCurrentWeather(weather);
         state.setWeatherLocked(true, durationMinutes * 60L * 1000L);
@@ -642,6 +811,12 @@ public class WeatherForecast {
         
         plugin.getLogger().info("Manual weather override: " + world.getName() + 
             " set to " + weather.getDisplayName() + " for " + durationMinutes + " minutes (overriding forecast)");
+
+        eventBus.publish(new ClimateEventBus.WeatherLockEvent(world, weather, true));
+        if (previousWeather != weather) {
+            eventBus.publish(new ClimateEventBus.WeatherChangedEvent(world, previousWeather, weather, false));
+        }
+        updateZoneWeather(world, state, worldForecasts.get(world), getCurrentHour(world));
     }
 
     public void clearWeatherLock(World world) {
@@ -651,6 +826,11 @@ public class WeatherForecast {
             state.setLastAppliedWeather(null);
             state.setLastProcessedHour(-1); // Force re-evaluation
             plugin.getLogger().info("Weather lock cleared for " + world.getName() + " - returning to forecast");
+
+            eventBus.publish(new ClimateEventBus.WeatherLockEvent(world, null, false));
+
+            // Return to the forecast now rather than on the next forecast cycle
+            applyForecastWeather(world, state);
         }
     }
 
@@ -700,9 +880,23 @@ public class WeatherForecast {
         return info.toString();
     }
 
+    // Configuration reload
+    public void reloadConfig() {
+        loadConfig();
+        for (ForecastHorizon horizon : worldHorizons.values()) {
+            synchronized (horizon) {
+                while (horizon.days.size() > horizonDays - 1) {
+                    horizon.days.removeLast();
+                }
+            }
+            refillHorizon(horizon);
+        }
+    }
+
     public void shutdown() {
         worldWeatherStates.clear();
         worldForecasts.clear();
+        worldHorizons.clear();
         
         if (plugin.getConfig().getBoolean("weather_control.restore_vanilla_on_shutdown", true)) {
             for (World world : Bukkit.getWorlds()) {
@@ -0,0 +1,417 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Weather history archive
+ * Weather changes, storms, droughts and zone temperature samples are appended as fixed-width
+ * binary records to a memory-mapped segment file per world (plugins/OrbisClimate/history/<world>).
+ * An append is a handful of absolute puts into the mapping - no allocation, no syscall, no logging.
+ *
+ * Full segments are sealed, optionally gzipped in the background, and the oldest are deleted
+ * past the configured count. Scans read sealed and live segments off the main thread.
+ */
+public class WeatherHistoryArchive {
+
+    public enum RecordType {
+        WEATHER_CHANGE, ZONE_WEATHER_CHANGE, STORM_START, STORM_END, DROUGHT_START, DROUGHT_END, ZONE_TEMPERATURE
+    }
+
+    /**
+     * One decoded history record
+     */
+    public static final class HistoryRecord {
+        private final long time;
+        private final long gameTime;
+        private final RecordType type;
+        private final ClimateZoneManager.ClimateZone zone;
+        private final WeatherForecast.WeatherType from;
+        private final WeatherForecast.WeatherType to;
+        private final float value;
+
+        HistoryRecord(long time, long gameTime, RecordType type, ClimateZoneManager.ClimateZone zone,
+                      WeatherForecast.WeatherType from, WeatherForecast.WeatherType to, float value) {
+            this.time = time;
+            this.gameTime = gameTime;
+            this.type = type;
+            this.zone = zone;
+            this.from = from;
+            this.to = to;
+            this.value = value;
+        }
+
+        public long getTime() { return time; }
+        public long getGameTime() { return gameTime; }
+        public RecordType getType() { return type; }
+        public ClimateZoneManager.ClimateZone getZone() { return zone; }
+        public WeatherForecast.WeatherType getFrom() { return from; }
+        public WeatherForecast.WeatherType getTo() { return to; }
+        public float getValue() { return value; }
+    }
+
+    // Segment layout: header (magic, version, record count, reserved) then fixed-width records
+    private static final int MAGIC = 0x4F435748; // "OCWH"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int COUNT_OFFSET = 8;
+    // time, game time, type, zone, from, to, value
+    private static final int RECORD_BYTES = 8 + 8 + 1 + 1 + 1 + 1 + 4;
+    private static final byte NONE = -1;
+
+    private static final RecordType[] TYPES = RecordType.values();
+    private static final ClimateZoneManager.ClimateZone[] ZONES = ClimateZoneManager.ClimateZone.values();
+    private static final WeatherForecast.WeatherType[] WEATHERS = WeatherForecast.WeatherType.values();
+
+    private final OrbisClimate plugin;
+    private final File historyFolder;
+
+    // Configuration
+    private boolean enabled;
+    private int recordsPerSegment;
+    private int maxSegments;
+    private boolean compressSealed;
+
+    // Runtime data - open segments are written from the main thread only
+    private final Map<String, Segment> openSegments = new HashMap<>();
+    // Serializes background compression and retention of sealed segments
+    private final Object maintenanceLock = new Object();
+
+    public WeatherHistoryArchive(OrbisClimate plugin) {
+        this.plugin = plugin;
+        this.historyFolder = new File(plugin.getDataFolder(), "history");
+        loadConfig();
+
+        ClimateEventBus eventBus = plugin.getEventBus();
+        eventBus.subscribe(ClimateEventBus.WeatherChangedEvent.class, event ->
+                record(event.getWorld(), RecordType.WEATHER_CHANGE, null, event.getFrom(), event.getTo(), 0f));
+        eventBus.subscribe(ClimateEventBus.ZoneWeatherChangedEvent.class, event ->
+                record(event.getWorld(), RecordType.ZONE_WEATHER_CHANGE, event.getZone(), event.getFrom(), event.getTo(), 0f));
+    }
+
+    private void loadConfig() {
+        enabled = plugin.getConfig().getBoolean("history.enabled", true);
+        recordsPerSegment = Math.max(1024, plugin.getConfig().getInt("history.records_per_segment", 65536));
+        maxSegments = Math.max(1, plugin.getConfig().getInt("history.max_segments", 32));
+        compressSealed = plugin.getConfig().getBoolean("history.compress_sealed_segments", true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Recording
+
+    public void recordStorm(World world, WeatherForecast.WeatherType storm, boolean started) {
+        record(world, started ? RecordType.STORM_START : RecordType.STORM_END, null, null, storm, 0f);
+    }
+
+    public void recordDrought(World world, ClimateZoneManager.ClimateZone zone, boolean started, int clearDays) {
+        record(world, started ? RecordType.DROUGHT_START : RecordType.DROUGHT_END, zone, null, null, clearDays);
+    }
+
+    public void recordTemperature(World world, ClimateZoneManager.ClimateZone zone,
+                                  WeatherForecast.WeatherType weather, double temperature) {
+        record(world, RecordType.ZONE_TEMPERATURE, zone, null, weather, (float) temperature);
+    }
+
+    private void record(World world, RecordType type, ClimateZoneManager.ClimateZone zone,
+                        WeatherForecast.WeatherType from, WeatherForecast.WeatherType to, float value) {
+        if (!enabled) return;
+
+        Segment segment = openSegments.get(world.getName());
+        try {
+            if (segment == null || segment.isFull()) {
+                if (segment != null) {
+                    seal(world.getName(), segment);
+                }
+                segment = openSegment(world.getName());
+                openSegments.put(world.getName(), segment);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not open weather history segment for " + world.getName() +
+                    " - history disabled until reload: " + e.getMessage());
+            enabled = false;
+            return;
+        }
+
+        MappedByteBuffer buffer = segment.buffer;
+        int position = HEADER_BYTES + segment.count * RECORD_BYTES;
+        buffer.putLong(position, System.currentTimeMillis());
+        buffer.putLong(position + 8, world.getFullTime());
+        buffer.put(position + 16, (byte) type.ordinal());
+        buffer.put(position + 17, zone != null ? (byte) zone.ordinal() : NONE);
+        buffer.put(position + 18, from != null ? (byte) from.ordinal() : NONE);
+        buffer.put(position + 19, to != null ? (byte) to.ordinal() : NONE);
+        buffer.putFloat(position + 20, value);
+
+        // Publish the record only once it is complete
+        segment.count++;
+        buffer.putInt(COUNT_OFFSET, segment.count);
+    }
+
+    // Segments
+
+    private Segment openSegment(String worldName) throws IOException {
+        File worldFolder = new File(historyFolder, worldName);
+        if (!worldFolder.exists() && !worldFolder.mkdirs()) {
+            throw new IOException("could not create " + worldFolder);
+        }
+
+        // Continue the newest segment if it is uncompressed and has room
+        List<SegmentFile> existing = listSegments(worldName);
+        int index = 0;
+        if (!existing.isEmpty()) {
+            SegmentFile newest = existing.get(existing.size() - 1);
+            index = newest.index;
+            if (newest.compressed) index++;
+        }
+
+        Segment segment = mapSegment(segmentFile(worldName, index));
+        if (segment.isFull()) {
+            segment.close();
+            segment = mapSegment(segmentFile(worldName, index + 1));
+        }
+        return segment;
+    }
+
+    private Segment mapSegment(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = HEADER_BYTES + (long) recordsPerSegment * RECORD_BYTES;
+        boolean fresh = channel.size() < HEADER_BYTES;
+
+        // An existing segment keeps the capacity it was created with
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fresh ? size : channel.size());
+        int capacity = (buffer.capacity() - HEADER_BYTES) / RECORD_BYTES;
+        int count = 0;
+        if (fresh || buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(COUNT_OFFSET, 0);
+        } else {
+            count = Math.min(capacity, Math.max(0, buffer.getInt(COUNT_OFFSET)));
+        }
+        return new Segment(file, channel, buffer, capacity, count);
+    }
+
+    private void seal(String worldName, Segment segment) {
+        segment.close();
+        openSegments.remove(worldName);
+
+        // One task, in order, so retention never deletes a segment that is still being compressed
+        boolean compress = compressSealed;
+        File source = segment.file;
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            synchronized (maintenanceLock) {
+                if (compress) {
+                    compress(source);
+                }
+                enforceRetention(worldName);
+            }
+        });
+    }
+
+    private void compress(File source) {
+        File target = new File(source.getPath() + ".gz");
+        File temp = new File(source.getPath() + ".gz.tmp");
+        try (InputStream in = Files.newInputStream(source.toPath());
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp.toPath()))) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not compress weather history segment " + source.getName() + ": " + e.getMessage());
+            temp.delete();
+            return;
+        }
+
+        if (!temp.renameTo(target) || !source.delete()) {
+            plugin.getLogger().warning("Could not replace weather history segment " + source.getName() + " with its compressed copy");
+        }
+    }
+
+    private void enforceRetention(String worldName) {
+        List<SegmentFile> segments = listSegments(worldName);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            if (!segments.get(i).file.delete()) {
+                plugin.getLogger().warning("Could not delete old weather history segment " + segments.get(i).file.getName());
+            }
+        }
+    }
+
+    /**
+     * Segment files of a world, oldest first
+     */
+    private List<SegmentFile> listSegments(String worldName) {
+        List<SegmentFile> segments = new ArrayList<>();
+        File[] files = new File(historyFolder, worldName).listFiles();
+        if (files == null) return segments;
+
+        for (File file : files) {
+            String name = file.getName();
+            if (!name.startsWith("segment-")) continue;
+
+            boolean compressed = name.endsWith(".dat.gz");
+            if (!compressed && !name.endsWith(".dat")) continue;
+
+            try {
+                int index = Integer.parseInt(name.substring(8, name.indexOf('.')));
+                segments.add(new SegmentFile(index, file, compressed));
+            } catch (NumberFormatException ignored) {
+                // Not one of ours
+            }
+        }
+
+        segments.sort((a, b) -> Integer.compare(a.index, b.index));
+        return segments;
+    }
+
+    private File segmentFile(String worldName, int index) {
+        return new File(new File(historyFolder, worldName), String.format("segment-%06d.dat", index));
+    }
+
+    // Queries
+
+    /**
+     * Visit every record of a world with from <= time < to, oldest first.
+     * Reads files, so call it off the main thread.
+     */
+    public void scan(String worldName, long from, long to, Consumer<HistoryRecord> visitor) {
+        for (SegmentFile segment : listSegments(worldName)) {
+            ByteBuffer buffer;
+            try {
+                buffer = ByteBuffer.wrap(readSegment(segment));
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not read weather history segment " + segment.file.getName() + ": " + e.getMessage());
+                continue;
+            }
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt(0) != MAGIC) continue;
+
+            int count = Math.min(buffer.getInt(COUNT_OFFSET), (buffer.limit() - HEADER_BYTES) / RECORD_BYTES);
+            if (count <= 0) continue;
+
+            // Records are in time order - skip segments that end before the range
+            if (buffer.getLong(HEADER_BYTES + (count - 1) * RECORD_BYTES) < from) continue;
+
+            for (int i = 0; i < count; i++) {
+                int position = HEADER_BYTES + i * RECORD_BYTES;
+                long time = buffer.getLong(position);
+                if (time < from) continue;
+                if (time >= to) return;
+
+                visitor.accept(decode(buffer, position, time));
+            }
+        }
+    }
+
+    private byte[] readSegment(SegmentFile segment) throws IOException {
+        try {
+            if (!segment.compressed) {
+                return Files.readAllBytes(segment.file.toPath());
+            }
+        } catch (NoSuchFileException e) {
+            // Compressed since it was listed
+            segment = new SegmentFile(segment.index, new File(segment.file.getPath() + ".gz"), true);
+        }
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(segment.file.toPath()))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static HistoryRecord decode(ByteBuffer buffer, int position, long time) {
+        int type = buffer.get(position + 16);
+        int zone = buffer.get(position + 17);
+        int from = buffer.get(position + 18);
+        int to = buffer.get(position + 19);
+        return new HistoryRecord(time, buffer.getLong(position + 8),
+                type >= 0 && type < TYPES.length ? TYPES[type] : RecordType.WEATHER_CHANGE,
+                zone >= 0 && zone < ZONES.length ? ZONES[zone] : null,
+                from >= 0 && from < WEATHERS.length ? WEATHERS[from] : null,
+                to >= 0 && to < WEATHERS.length ? WEATHERS[to] : null,
+                buffer.getFloat(position + 20));
+    }
+
+    /**
+     * Folder exports for a world are written to
+     */
+    public File getExportFolder(String worldName) {
+        return new File(historyFolder, worldName);
+    }
+
+    // Configuration reload
+    public void reloadConfig() {
+        closeSegments();
+        loadConfig();
+    }
+
+    public void shutdown() {
+        closeSegments();
+        enabled = false;
+    }
+
+    private void closeSegments() {
+        for (Segment segment : openSegments.values()) {
+            segment.close();
+        }
+        openSegments.clear();
+    }
+
+    private static final class Segment {
+        private final File file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private int count;
+
+        Segment(File file, FileChannel channel, MappedByteBuffer buffer, int capacity, int count) {
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.count = count;
+        }
+
+        boolean isFull() {
+            return count >= capacity;
+        }
+
+        void close() {
+            buffer.force();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The mapping stays valid; nothing left to flush
+            }
+        }
+    }
+
+    private static final class SegmentFile {
+        private final int index;
+        private final File file;
+        private final boolean compressed;
+
+        SegmentFile(int index, File file, boolean compressed) {
+            this.index = index;
+            this.file = file;
+            this.compressed = compressed;
+        }
+    }
+}
\ No newline at end of file
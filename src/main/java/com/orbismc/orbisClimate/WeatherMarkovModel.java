@@ -0,0 +1,309 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+
+/**
+ * First-order Markov weather generator
+ * Each forecast period is drawn from a transition row chosen by the previous period's weather.
+ * Rows come from per-season weights plus a persistence chance of keeping the previous weather,
+ * or from explicit rows in config. Each climate zone has its own chains, derived from the world
+ * weights unless the zone overrides them.
+ *
+ * Every row is compiled into a Vose alias table when the config loads, so a transition costs
+ * one random draw and two array reads. The model is immutable and sampling only uses the
+ * generator passed in, so forecasts can be generated on worker threads and reproduced from a seed.
+ */
+public class WeatherMarkovModel {
+
+    private static final WeatherForecast.WeatherType[] WEATHERS = WeatherForecast.WeatherType.values();
+    // Row used when there is no previous weather
+    private static final int START_ROW = WEATHERS.length;
+    private static final String DEFAULT_SEASON = "default";
+    private static final String[] SEASONS = {DEFAULT_SEASON, "winter", "spring", "summer", "fall"};
+
+    // Built-in weights by season, in WeatherType order:
+    // CLEAR, LIGHT_RAIN, HEAVY_RAIN, THUNDERSTORM, SNOW, BLIZZARD, SANDSTORM
+    private static final Map<String, double[]> DEFAULT_WEIGHTS = new HashMap<>();
+    static {
+        DEFAULT_WEIGHTS.put(DEFAULT_SEASON, new double[]{45, 25, 15, 10, 5, 0, 0});
+        DEFAULT_WEIGHTS.put("winter", new double[]{25, 12, 15, 5, 28, 15, 0});
+        DEFAULT_WEIGHTS.put("spring", new double[]{40, 35, 15, 8, 2, 0, 0});
+        DEFAULT_WEIGHTS.put("summer", new double[]{55, 15, 10, 15, 1.5, 0, 3.5});
+        DEFAULT_WEIGHTS.put("fall", new double[]{35, 35, 20, 8, 2, 0, 0});
+    }
+
+    /**
+     * Compiled transition rows for one season (and zone)
+     */
+    public static final class Chain {
+        private final float[][] probability;
+        private final byte[][] alias;
+
+        private Chain(double[][] rows) {
+            probability = new float[rows.length][WEATHERS.length];
+            alias = new byte[rows.length][WEATHERS.length];
+            for (int row = 0; row < rows.length; row++) {
+                buildAliasTable(rows[row], probability[row], alias[row]);
+            }
+        }
+
+        /**
+         * Draw the next weather. Pass null as previous for the first period of a sequence.
+         */
+        public WeatherForecast.WeatherType next(WeatherForecast.WeatherType previous, RandomGenerator random) {
+            int row = previous != null ? previous.ordinal() : START_ROW;
+
+            // One draw picks both the column and the coin flip against its alias
+            double u = random.nextDouble() * WEATHERS.length;
+            int column = (int) u;
+            return WEATHERS[u - column < probability[row][column] ? column : alias[row][column]];
+        }
+
+        /**
+         * Long-run share of each weather type, by power iteration over the transition rows
+         */
+        public double[] stationaryDistribution() {
+            int n = WEATHERS.length;
+            double[][] matrix = new double[n][];
+            for (int row = 0; row < n; row++) {
+                matrix[row] = aliasWeights(probability[row], alias[row]);
+            }
+
+            double[] distribution = new double[n];
+            Arrays.fill(distribution, 1.0 / n);
+            for (int iteration = 0; iteration < 1000; iteration++) {
+                double[] next = new double[n];
+                for (int row = 0; row < n; row++) {
+                    for (int column = 0; column < n; column++) {
+                        next[column] += distribution[row] * matrix[row][column];
+                    }
+                }
+                distribution = next;
+            }
+            return distribution;
+        }
+    }
+
+    // Runtime data
+    private final Map<String, Chain> chains;
+
+    /**
+     * Compile the model from the weather_model config section, with built-in defaults for anything missing
+     */
+    public WeatherMarkovModel(OrbisClimate plugin) {
+        this(plugin.getConfig().getConfigurationSection("weather_model"), plugin.getLogger());
+    }
+
+    /**
+     * Compile the model from a weather_model section, or only the built-in defaults when it is null
+     */
+    WeatherMarkovModel(ConfigurationSection section, Logger logger) {
+        this.chains = new HashMap<>();
+        double persistence = clamp(section != null ? section.getDouble("persistence", 0.5) : 0.5);
+
+        for (String season : SEASONS) {
+            double[] weights = readWeights(section, "seasons." + season, DEFAULT_WEIGHTS.get(season), logger);
+            chains.put(key(null, season), new Chain(buildRows(section, season, weights, persistence, logger)));
+        }
+
+        // Every zone gets its own chains. Without overrides, the world weights are folded into
+        // what each zone can have (no rain in deserts, snow instead of rain in the arctic).
+        ConfigurationSection zones = section != null ? section.getConfigurationSection("zones") : null;
+        for (ClimateZoneManager.ClimateZone zone : ClimateZoneManager.ClimateZone.values()) {
+            ConfigurationSection zoneSection = zones != null ?
+                    zones.getConfigurationSection(zone.name().toLowerCase(Locale.ROOT)) : null;
+            double zonePersistence = clamp(zoneSection != null ? zoneSection.getDouble("persistence", persistence) : persistence);
+
+            for (String season : SEASONS) {
+                double[] worldWeights = readWeights(section, "seasons." + season, DEFAULT_WEIGHTS.get(season), logger);
+                double[] weights = readWeights(zoneSection, "seasons." + season,
+                        translateWeights(zone, worldWeights, season), logger);
+                chains.put(key(zone, season), new Chain(buildRows(zoneSection, season, weights, zonePersistence, logger)));
+            }
+        }
+    }
+
+    /**
+     * What world weather means in a zone. Used to derive default zone weights and to apply
+     * an admin weather lock to every zone.
+     */
+    public static WeatherForecast.WeatherType translate(ClimateZoneManager.ClimateZone zone,
+                                                        WeatherForecast.WeatherType weather, String season) {
+        boolean winter = "winter".equalsIgnoreCase(season);
+        switch (zone) {
+            case ARCTIC:
+                switch (weather) {
+                    case CLEAR: return WeatherForecast.WeatherType.CLEAR;
+                    case THUNDERSTORM:
+                    case BLIZZARD:
+                    case SANDSTORM: return WeatherForecast.WeatherType.BLIZZARD;
+                    default: return WeatherForecast.WeatherType.SNOW;
+                }
+            case DESERT:
+            case ARID:
+                // No rain or snow in dry zones
+                return weather == WeatherForecast.WeatherType.BLIZZARD || weather == WeatherForecast.WeatherType.SANDSTORM ?
+                        WeatherForecast.WeatherType.SANDSTORM : WeatherForecast.WeatherType.CLEAR;
+            case TEMPERATE:
+            default:
+                switch (weather) {
+                    case LIGHT_RAIN:
+                    case HEAVY_RAIN: return WeatherForecast.WeatherType.LIGHT_RAIN;
+                    case SNOW: return winter ? WeatherForecast.WeatherType.SNOW : WeatherForecast.WeatherType.LIGHT_RAIN;
+                    case BLIZZARD:
+                    case SANDSTORM: return WeatherForecast.WeatherType.HEAVY_RAIN; // Severe storm
+                    default: return weather;
+                }
+        }
+    }
+
+    private static double[] translateWeights(ClimateZoneManager.ClimateZone zone, double[] weights, String season) {
+        double[] translated = new double[WEATHERS.length];
+        for (WeatherForecast.WeatherType weather : WEATHERS) {
+            translated[translate(zone, weather, season).ordinal()] += weights[weather.ordinal()];
+        }
+        return translated;
+    }
+
+    /**
+     * Chain for a zone (null for the world forecast) and season name (null without RealisticSeasons).
+     * Resolve once per generated day, then call {@link Chain#next} per period.
+     */
+    public Chain getChain(ClimateZoneManager.ClimateZone zone, String season) {
+        String seasonKey = season != null ? season.toLowerCase(Locale.ROOT) : DEFAULT_SEASON;
+        Chain chain = chains.get(key(zone, seasonKey));
+        return chain != null ? chain : chains.get(key(zone, DEFAULT_SEASON));
+    }
+
+    private static String key(ClimateZoneManager.ClimateZone zone, String season) {
+        return (zone != null ? zone.name() : "*") + ":" + season;
+    }
+
+    /**
+     * Start row is the season's weights. Each other row mixes them with the persistence chance,
+     * unless transitions.<season>.<FROM> in the given section (world or zone) gives the row explicitly.
+     */
+    private static double[][] buildRows(ConfigurationSection section, String season, double[] weights,
+                                        double persistence, Logger logger) {
+        double total = sum(weights);
+        double[][] rows = new double[START_ROW + 1][];
+        rows[START_ROW] = weights;
+
+        for (WeatherForecast.WeatherType from : WEATHERS) {
+            double[] explicit = readWeights(section, "transitions." + season + "." + from.name(), null, logger);
+            if (explicit != null) {
+                rows[from.ordinal()] = explicit;
+                continue;
+            }
+
+            double[] row = new double[WEATHERS.length];
+            for (int to = 0; to < row.length; to++) {
+                row[to] = (1.0 - persistence) * weights[to] / total;
+            }
+            row[from.ordinal()] += persistence;
+            rows[from.ordinal()] = row;
+        }
+        return rows;
+    }
+
+    private static double[] readWeights(ConfigurationSection section, String path, double[] fallback,
+                                        Logger logger) {
+        ConfigurationSection weightSection = section != null ? section.getConfigurationSection(path) : null;
+        if (weightSection == null) return fallback;
+
+        double[] weights = new double[WEATHERS.length];
+        for (String name : weightSection.getKeys(false)) {
+            try {
+                weights[WeatherForecast.WeatherType.valueOf(name.toUpperCase(Locale.ROOT)).ordinal()] =
+                        Math.max(0.0, weightSection.getDouble(name));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid weather type in weather_model." + path + ": " + name);
+            }
+        }
+
+        if (sum(weights) <= 0) {
+            logger.warning("weather_model." + path + " has no positive weights - using defaults");
+            return fallback;
+        }
+        return weights;
+    }
+
+    /**
+     * Vose's alias method: split the row into equal columns, each holding its own share
+     * and topped up from one larger entry
+     */
+    static void buildAliasTable(double[] weights, float[] probability, byte[] alias) {
+        int n = weights.length;
+        double total = sum(weights);
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = total > 0 ? weights[i] * n / total : 1.0;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = (float) scaled[less];
+            alias[less] = (byte) more;
+
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0f;
+            alias[i] = (byte) i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0f;
+            alias[i] = (byte) i;
+        }
+    }
+
+    /**
+     * Probability of each column that an alias table draws, the inverse of {@link #buildAliasTable}
+     */
+    static double[] aliasWeights(float[] probability, byte[] alias) {
+        int n = probability.length;
+        double[] weights = new double[n];
+        for (int column = 0; column < n; column++) {
+            weights[column] += probability[column] / (double) n;
+            weights[alias[column]] += (1.0 - probability[column]) / n;
+        }
+        return weights;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) total += value;
+        return total;
+    }
+
+    private static double clamp(double persistence) {
+        return Math.max(0.0, Math.min(1.0, persistence));
+    }
+}
\ No newline at end of file
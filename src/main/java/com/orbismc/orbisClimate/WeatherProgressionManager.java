@@ -10,14 +10,37 @@ import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.Color;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * REDESIGNED WeatherProgressionManager that works WITH the forecast system
  * instead of against it. This adds visual/audio enhancements to forecast weather
  * without trying to control the actual weather state.
+ *
+ * Progression is tracked per climate zone and follows that zone's forecast, so warnings,
+ * transitions and hail only reach the players standing in the zone they describe.
  */
 public class WeatherProgressionManager {
 
+    /**
+     * Per-player progression effects, queued and played in batches
+     */
+    private enum ProgressionEffect {
+        LIGHTNING_WARNING, BUILDING_CLOUDS, TRANSITION, HAIL, LIGHTNING_STRIKE
+    }
+
+    private static final class PendingEffect {
+        private final Player player;
+        private final ProgressionEffect effect;
+        private final Object data;
+
+        PendingEffect(Player player, ProgressionEffect effect, Object data) {
+            this.player = player;
+            this.effect = effect;
+            this.data = data;
+        }
+    }
+
     public enum WeatherProgression {
         CLEAR,
         PRE_STORM,      // Visual warnings before storms
@@ -26,7 +49,7 @@ public class WeatherProgressionManager {
         TRANSITION      // During forecast transitions
     }
 
-    public static class WorldProgressionData {
+    public static class ZoneProgressionData {
         private WeatherProgression currentProgression;
         private WeatherForecast.WeatherType lastKnownWeather;
         private WeatherForecast.WeatherType targetWeather;
@@ -34,12 +57,13 @@ public class WeatherProgressionManager {
         private long nextProgressionCheck;
         private boolean hailActive;
         private long hailStartTime;
+        private long hailTimer;
         private int lightningWarningCount;
         private long lastLightningWarning;
         private boolean inTransition;
         private long transitionStartTime;
 
-        public WorldProgressionData() {
+        public ZoneProgressionData() {
             this.currentProgression = WeatherProgression.CLEAR;
             this.lastKnownWeather = WeatherForecast.WeatherType.CLEAR;
             this.targetWeather = WeatherForecast.WeatherType.CLEAR;
@@ -68,6 +92,8 @@ public class WeatherProgressionManager {
         public void setHailActive(boolean active) { this.hailActive = active; }
         public long getHailStartTime() { return hailStartTime; }
         public void setHailStartTime(long time) { this.hailStartTime = time; }
+        public long getHailTimer() { return hailTimer; }
+        public void setHailTimer(long hailTimer) { this.hailTimer = hailTimer; }
         public int getLightningWarningCount() { return lightningWarningCount; }
         public void setLightningWarningCount(int count) { this.lightningWarningCount = count; }
         public long getLastLightningWarning() { return lastLightningWarning; }
@@ -81,8 +107,13 @@ public class WeatherProgressionManager {
     private final OrbisClimate plugin;
     private final WeatherForecast weatherForecast;
     private final ClimateZoneManager climateZoneManager;
+    private final EffectEngine effectEngine;
     private final Random random;
 
+    // Transition swirl colour per weather type
+    private final Map<WeatherForecast.WeatherType, Particle.DustOptions> transitionDust =
+            new EnumMap<>(WeatherForecast.WeatherType.class);
+
     // Configuration
     private boolean progressiveWeatherEnabled;
     private boolean lightningWarningsEnabled;
@@ -93,21 +124,47 @@ public class WeatherProgressionManager {
     private int hailDurationMinutes;
     private boolean enhancedTransitions;
     private int transitionWarningMinutes;
+    private boolean useBatchProcessing;
+    private int batchSize;
+    private int maxPlayersForFullEffects;
+    private double minTpsForEffects;
+    private double performanceModeMultiplier;
 
     // Runtime data
-    private final Map<World, WorldProgressionData> worldProgressionData = new HashMap<>();
+    private final Map<World, Map<ClimateZoneManager.ClimateZone, ZoneProgressionData>> zoneProgressionData = new HashMap<>();
+    // Shared by every delayed thunderclap, so scheduling one allocates no lambda
+    private final BiConsumer<Player, Location> thunderClap = (player, loc) -> {
+        if (player.isOnline()) {
+            plugin.getSoundMixer().play(player, loc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, SoundMixer.Category.STORM, 0.7f, 0.9f + random.nextFloat() * 0.2f);
+        }
+    };
     private BukkitTask progressionTask;
+    private final ArrayDeque<PendingEffect> pendingEffects = new ArrayDeque<>();
+    private BukkitTask batchTask;
+    private long lastBatchNanos;
+    private long peakBatchNanos;
+    private long batchesProcessed;
+    private long droppedEffects;
 
     public WeatherProgressionManager(OrbisClimate plugin, WeatherForecast weatherForecast,
                                      ClimateZoneManager climateZoneManager) {
         this.plugin = plugin;
         this.weatherForecast = weatherForecast;
         this.climateZoneManager = climateZoneManager;
+        this.effectEngine = plugin.getEffectEngine();
         this.random = new Random();
 
+        for (WeatherForecast.WeatherType type : WeatherForecast.WeatherType.values()) {
+            transitionDust.put(type, new Particle.DustOptions(getWeatherColor(type), 1.5f));
+        }
+
         loadConfiguration();
         initializeWorldData();
         startProgressionTask();
+
+        // Zone forecast changes are pushed to us instead of polled every second
+        plugin.getEventBus().subscribe(ClimateEventBus.ZoneWeatherChangedEvent.class, this::onZoneWeatherChanged);
+        plugin.getEventBus().subscribe(ClimateEventBus.TransitionUpcomingEvent.class, this::onTransitionUpcoming);
     }
 
     private void loadConfiguration() {
@@ -120,62 +177,195 @@ public class WeatherProgressionManager {
         hailDurationMinutes = plugin.getConfig().getInt("weather_progression.hail.duration_minutes", 3);
         enhancedTransitions = plugin.getConfig().getBoolean("weather_progression.enhanced_transitions", true);
         transitionWarningMinutes = plugin.getConfig().getInt("weather_progression.transition_warning_minutes", 2);
+
+        // Effect batching and limits
+        useBatchProcessing = plugin.getConfig().getBoolean("performance.weather_progression.use_batch_processing", true);
+        batchSize = Math.max(1, plugin.getConfig().getInt("performance.weather_progression.batch_size", 5));
+        maxPlayersForFullEffects = Math.max(1, plugin.getConfig().getInt("performance.weather_progression.max_players_for_full_effects", 20));
+        minTpsForEffects = plugin.getConfig().getDouble("performance.weather_progression.min_tps_for_effects", 16.0);
+        performanceModeMultiplier = plugin.getConfig().getDouble("performance.weather_progression.performance_mode_multiplier", 0.5);
     }
 
     private void initializeWorldData() {
         for (World world : Bukkit.getWorlds()) {
-            worldProgressionData.put(world, new WorldProgressionData());
+            for (ClimateZoneManager.ClimateZone zone : ClimateZoneManager.ClimateZone.values()) {
+                getOrCreateData(world, zone);
+            }
         }
     }
 
+    private ZoneProgressionData getOrCreateData(World world, ClimateZoneManager.ClimateZone zone) {
+        return zoneProgressionData.computeIfAbsent(world, k -> new EnumMap<>(ClimateZoneManager.ClimateZone.class))
+                .computeIfAbsent(zone, k -> new ZoneProgressionData());
+    }
+
+    private ZoneProgressionData getData(World world, ClimateZoneManager.ClimateZone zone) {
+        Map<ClimateZoneManager.ClimateZone, ZoneProgressionData> zones = zoneProgressionData.get(world);
+        return zones != null ? zones.get(zone) : null;
+    }
+
     private void startProgressionTask() {
         if (!progressiveWeatherEnabled) return;
 
-        progressionTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        progressionTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("progression_tick", () -> {
             for (World world : Bukkit.getWorlds()) {
-                updateWeatherProgression(world);
-                processProgressionEffects(world);
+                Map<ClimateZoneManager.ClimateZone, ZoneProgressionData> zones = zoneProgressionData.get(world);
+                if (zones == null) continue;
+
+                for (Map.Entry<ClimateZoneManager.ClimateZone, ZoneProgressionData> entry : zones.entrySet()) {
+                    updateWeatherProgression(world, entry.getKey(), entry.getValue());
+                    processProgressionEffects(world, entry.getKey(), entry.getValue());
+                }
             }
-        }, 0L, 20L); // Update every second
+        }), 0L, 20L); // Update every second
+
+        batchTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("progression_batch", this::processEffectBatch), 1L, 1L);
     }
 
     /**
-     * NEW: Main progression update that follows forecast instead of controlling it
+     * Queue one progression effect for the players standing in a zone of a world. Above max_players_for_full_effects,
+     * at reduced effect quality and in performance mode, only a matching share of players is picked;
+     * below min_tps_for_effects nothing is queued. With batching off the effects play immediately.
      */
-    private void updateWeatherProgression(World world) {
-        WorldProgressionData data = worldProgressionData.get(world);
-        if (data == null) return;
+    private void queueEffect(World world, ClimateZoneManager.ClimateZone zone, ProgressionEffect effect, Object data) {
+        List<Player> players = getZonePlayers(world, zone);
+        if (players.isEmpty()) return;
+
+        PerformanceMonitor monitor = plugin.getPerformanceMonitor();
+        double share = 1.0;
+        if (monitor != null) {
+            if (monitor.getCurrentTPS() < minTpsForEffects) return;
+            double multiplier = monitor.getPerformanceMultiplier();
+            // Performance mode caps progression effects at their own share on top of the global quality
+            share *= monitor.isPerformanceMode() ? Math.min(multiplier, performanceModeMultiplier) : multiplier;
+        }
+        if (players.size() > maxPlayersForFullEffects) {
+            share *= (double) maxPlayersForFullEffects / players.size();
+        }
+
+        int dropped = 0;
+        for (Player player : players) {
+            if (share < 1.0 && random.nextDouble() >= share) continue;
+
+            if (useBatchProcessing) {
+                // More than a second behind - drop rather than let effects pile up
+                if (pendingEffects.size() >= batchSize * 20) {
+                    dropped++;
+                    continue;
+                }
+                pendingEffects.add(new PendingEffect(player, effect, data));
+            } else {
+                playEffect(player, effect, data);
+            }
+        }
 
-        // Get current weather from forecast (single source of truth)
-        WeatherForecast.WeatherType currentForecastWeather = weatherForecast.getCurrentWeather(world);
-        WeatherForecast.WeatherType lastKnownWeather = data.getLastKnownWeather();
-        
-        long currentTime = System.currentTimeMillis();
+        if (dropped > 0) {
+            droppedEffects += dropped;
+            if (plugin.getConfig().getBoolean("debug.log_performance", false)) {
+                plugin.getLogger().info("Effect queue full, dropped " + dropped + " " + effect + " effects in " +
+                        world.getName() + " (" + zone.getDisplayName() + "), " + droppedEffects + " dropped in total");
+            }
+        }
+    }
+
+    private List<Player> getZonePlayers(World world, ClimateZoneManager.ClimateZone zone) {
+        List<Player> players = new ArrayList<>();
+        for (Player player : world.getPlayers()) {
+            if (climateZoneManager.getPlayerClimateZone(player) == zone) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
 
-        // Check if forecast weather has changed (transition detection)
-        if (currentForecastWeather != lastKnownWeather) {
-            handleForecastWeatherChange(world, data, lastKnownWeather, currentForecastWeather);
+    /**
+     * Play up to batch_size queued effects, spreading a storm front across ticks
+     */
+    private void processEffectBatch() {
+        if (pendingEffects.isEmpty()) return;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < batchSize && !pendingEffects.isEmpty(); i++) {
+            PendingEffect pending = pendingEffects.poll();
+            if (pending.player.isOnline()) {
+                playEffect(pending.player, pending.effect, pending.data);
+            }
         }
 
-        // Update progression based on current forecast weather
-        updateProgressionForCurrentWeather(world, data, currentForecastWeather, currentTime);
+        lastBatchNanos = System.nanoTime() - start;
+        peakBatchNanos = Math.max(peakBatchNanos, lastBatchNanos);
+        batchesProcessed++;
+    }
+
+    private void playEffect(Player player, ProgressionEffect effect, Object data) {
+        switch (effect) {
+            case LIGHTNING_WARNING:
+                playLightningWarning(player);
+                break;
+            case BUILDING_CLOUDS:
+                playBuildingClouds(player);
+                break;
+            case TRANSITION:
+                playTransition(player, (Particle.DustOptions) data);
+                break;
+            case HAIL:
+                playHail(player);
+                break;
+            case LIGHTNING_STRIKE:
+                playLightningStrike(player);
+                break;
+        }
+    }
+
+    /**
+     * Main progression update that follows forecast instead of controlling it.
+     * Weather changes arrive through onZoneWeatherChanged, so this only advances timers.
+     */
+    private void updateWeatherProgression(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
+        long currentTime = System.currentTimeMillis();
+
+        // Update progression based on the last weather the zone forecast published
+        updateProgressionForCurrentWeather(world, zone, data, data.getLastKnownWeather(), currentTime);
+    }
 
-        // Handle ongoing effects
-        handleOngoingEffects(world, data, currentTime);
+    /**
+     * Zone forecast weather changed (single source of truth)
+     */
+    private void onZoneWeatherChanged(ClimateEventBus.ZoneWeatherChangedEvent event) {
+        if (!progressiveWeatherEnabled) return;
 
-        // Update our tracking
-        data.setLastKnownWeather(currentForecastWeather);
+        ZoneProgressionData data = getOrCreateData(event.getWorld(), event.getZone());
+
+        handleForecastWeatherChange(event.getWorld(), event.getZone(), data, data.getLastKnownWeather(), event.getTo());
+        data.setLastKnownWeather(event.getTo());
+    }
+
+    /**
+     * Show pre-storm effects when a zone forecast announces an upcoming storm
+     */
+    private void onTransitionUpcoming(ClimateEventBus.TransitionUpcomingEvent event) {
+        if (!progressiveWeatherEnabled) return;
+
+        ZoneProgressionData data = getData(event.getWorld(), event.getZone());
+        if (data == null) return;
+
+        WeatherForecast.WeatherType upcomingWeather = event.getUpcoming();
+        if (isStormWeather(upcomingWeather) && data.getCurrentProgression() == WeatherProgression.CLEAR) {
+            data.setCurrentProgression(WeatherProgression.PRE_STORM);
+            data.setTargetWeather(upcomingWeather);
+            notifyPlayersOfUpcomingWeather(event.getWorld(), event.getZone(), upcomingWeather, event.getHoursAhead());
+        }
     }
 
     /**
      * Handle when the forecast weather changes - this is where we add transition effects
      */
-    private void handleForecastWeatherChange(World world, WorldProgressionData data, 
+    private void handleForecastWeatherChange(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data,
                                            WeatherForecast.WeatherType from, WeatherForecast.WeatherType to) {
         
         if (plugin.getConfig().getBoolean("debug.log_weather_transitions", false)) {
-            plugin.getLogger().info("Progression Manager detected forecast change in " + world.getName() + 
-                ": " + from.getDisplayName() + " -> " + to.getDisplayName());
+            plugin.getLogger().info("Progression Manager detected forecast change in " + world.getName() +
+                " (" + zone.getDisplayName() + "): " + from.getDisplayName() + " -> " + to.getDisplayName());
         }
 
         // Start transition effects if enabled
@@ -197,11 +387,11 @@ public class WeatherProgressionManager {
 
         // Check for hail during rain
         if (hailEnabled && isRainWeather(to) && random.nextDouble() < hailChanceDuringRain) {
-            startHail(world, data);
+            startHail(world, zone, data);
         }
 
         // Notify players
-        notifyPlayersOfWeatherChange(world, from, to);
+        notifyPlayersOfWeatherChange(world, zone, from, to);
     }
 
     /**
@@ -227,7 +417,7 @@ public class WeatherProgressionManager {
     /**
      * NEW: Update progression effects based on current forecast weather
      */
-    private void updateProgressionForCurrentWeather(World world, WorldProgressionData data, 
+    private void updateProgressionForCurrentWeather(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data,
                                                    WeatherForecast.WeatherType currentWeather, long currentTime) {
         
         // Check if we need to advance within the current weather type
@@ -235,13 +425,12 @@ public class WeatherProgressionManager {
             
             switch (data.getCurrentProgression()) {
                 case CLEAR:
-                    // Check if we should show pre-storm effects before next weather change
-                    checkForUpcomingWeatherTransition(world, data);
+                    // Pre-storm effects start from onTransitionUpcoming
                     break;
                     
                 case ACTIVE_WEATHER:
                     // Weather is active, check for intensity changes or special effects
-                    updateActiveWeatherEffects(world, data, currentWeather);
+                    updateActiveWeatherEffects(world, zone, data, currentWeather);
                     break;
                     
                 case TRANSITION:
@@ -255,38 +444,10 @@ public class WeatherProgressionManager {
         }
     }
 
-    /**
-     * NEW: Check if we should show warning effects for upcoming weather changes
-     */
-    private void checkForUpcomingWeatherTransition(World world, WorldProgressionData data) {
-        // Get detailed forecast to check for upcoming transitions
-        WeatherForecast.DetailedForecast forecast = weatherForecast.getForecast(world);
-        if (forecast == null) return;
-
-        int currentHour = weatherForecast.getCurrentHour(world);
-        
-        // Look ahead for upcoming transitions
-        for (int lookAhead = 1; lookAhead <= 3; lookAhead++) { // Look 1-3 hours ahead
-            int futureHour = (currentHour + lookAhead) % 24;
-            
-            if (forecast.isTransitionHour(futureHour)) {
-                WeatherForecast.WeatherType upcomingWeather = forecast.getWeatherForHour(futureHour);
-                
-                // Show pre-storm effects if a storm is coming
-                if (isStormWeather(upcomingWeather) && data.getCurrentProgression() == WeatherProgression.CLEAR) {
-                    data.setCurrentProgression(WeatherProgression.PRE_STORM);
-                    data.setTargetWeather(upcomingWeather);
-                    notifyPlayersOfUpcomingWeather(world, upcomingWeather, lookAhead);
-                    break;
-                }
-            }
-        }
-    }
-
     /**
      * Start transition effects between weather types
      */
-    private void startTransitionEffects(World world, WorldProgressionData data, 
+    private void startTransitionEffects(World world, ZoneProgressionData data, 
                                       WeatherForecast.WeatherType from, WeatherForecast.WeatherType to) {
         data.setInTransition(true);
         data.setTransitionStartTime(System.currentTimeMillis());
@@ -320,50 +481,37 @@ public class WeatherProgressionManager {
     /**
      * Process ongoing effects for current progression
      */
-    private void processProgressionEffects(World world) {
-        WorldProgressionData data = worldProgressionData.get(world);
-        if (data == null) return;
-
+    private void processProgressionEffects(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
         WeatherProgression progression = data.getCurrentProgression();
 
         switch (progression) {
             case PRE_STORM:
-                processPreStormEffects(world, data);
+                processPreStormEffects(world, zone, data);
                 break;
             case ACTIVE_WEATHER:
-                processActiveWeatherEffects(world, data);
+                processActiveWeatherEffects(world, zone, data);
                 break;
             case TRANSITION:
-                processTransitionEffects(world, data);
+                processTransitionEffects(world, zone, data);
                 break;
         }
     }
 
-    /**
-     * Handle ongoing effects during active weather
-     */
-    private void handleOngoingEffects(World world, WorldProgressionData data, long currentTime) {
-        // Handle hail timing
-        if (data.isHailActive() &&
-                currentTime - data.getHailStartTime() > (hailDurationMinutes * 60 * 1000)) {
-            stopHail(world, data);
-        }
-    }
-
     /**
      * Update effects during active weather
      */
-    private void updateActiveWeatherEffects(World world, WorldProgressionData data, WeatherForecast.WeatherType weather) {
+    private void updateActiveWeatherEffects(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data,
+                                            WeatherForecast.WeatherType weather) {
         // Add intensity variations or special effects during active weather
         switch (weather) {
             case THUNDERSTORM:
                 // Continue lightning warnings during storm
-                processThunderstormEffects(world, data);
+                processThunderstormEffects(world, zone, data);
                 break;
             case HEAVY_RAIN:
                 // Check for hail if not already active
                 if (!data.isHailActive() && hailEnabled && random.nextDouble() < (hailChanceDuringRain * 0.1)) {
-                    startHail(world, data);
+                    startHail(world, zone, data);
                 }
                 break;
         }
@@ -372,96 +520,80 @@ public class WeatherProgressionManager {
     /**
      * Update transition effects
      */
-    private void updateTransitionEffects(World world, WorldProgressionData data) {
+    private void updateTransitionEffects(World world, ZoneProgressionData data) {
         long currentTime = System.currentTimeMillis();
         
         if (currentTime >= data.getNextProgressionCheck()) {
             // Transition complete
             data.setInTransition(false);
-            WeatherForecast.WeatherType currentWeather = weatherForecast.getCurrentWeather(world);
-            data.setCurrentProgression(determineProgressionForWeather(currentWeather));
+            data.setCurrentProgression(determineProgressionForWeather(data.getLastKnownWeather()));
         }
     }
 
     /**
      * Process pre-storm effects (unchanged from original)
      */
-    private void processPreStormEffects(World world, WorldProgressionData data) {
+    private void processPreStormEffects(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
         long currentTime = System.currentTimeMillis();
 
         // Lightning warnings
         if (lightningWarningsEnabled &&
                 currentTime - data.getLastLightningWarning() > (lightningWarningIntervalSeconds * 1000)) {
 
-            createLightningWarning(world);
+            createLightningWarning(world, zone);
             data.setLastLightningWarning(currentTime);
             data.setLightningWarningCount(data.getLightningWarningCount() + 1);
         }
 
         // Building cloud effects
         if (random.nextInt(100) == 0) { // 1% chance per second
-            createBuildingCloudEffects(world);
+            createBuildingCloudEffects(world, zone);
         }
     }
 
     /**
      * Process active weather effects
      */
-    private void processActiveWeatherEffects(World world, WorldProgressionData data) {
+    private void processActiveWeatherEffects(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
         if (data.isHailActive()) {
-            processHailEffects(world);
+            processHailEffects(world, zone);
         }
     }
 
     /**
      * Process transition effects
      */
-    private void processTransitionEffects(World world, WorldProgressionData data) {
+    private void processTransitionEffects(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
         // Add visual effects during transitions
         if (random.nextInt(50) == 0) { // 2% chance per second
-            createTransitionEffects(world, data);
+            createTransitionEffects(world, zone, data);
         }
     }
 
     /**
      * Process thunderstorm effects (unchanged from original)
      */
-    private void processThunderstormEffects(World world, WorldProgressionData data) {
+    private void processThunderstormEffects(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
         // Enhanced lightning effects during storms
         if (random.nextInt(200) == 0) { // Every ~10 seconds on average
-            createEnhancedLightningEffects(world);
+            createEnhancedLightningEffects(world, zone);
         }
     }
 
     /**
      * Create transition effects between weather types
      */
-    private void createTransitionEffects(World world, WorldProgressionData data) {
-        WeatherForecast.WeatherType currentWeather = weatherForecast.getCurrentWeather(world);
-        
-        for (Player player : world.getPlayers()) {
-            if (random.nextInt(3) != 0) continue; // Not every player every time
+    private void createTransitionEffects(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
+        WeatherForecast.WeatherType currentWeather = weatherForecast.getZoneWeather(world, zone);
+        queueEffect(world, zone, ProgressionEffect.TRANSITION, transitionDust.get(currentWeather));
+    }
 
-            Location loc = player.getLocation();
-            
-            // Create swirling particles to indicate change
-            for (int i = 0; i < 10; i++) {
-                double angle = (System.currentTimeMillis() / 100.0 + i * 36) % 360;
-                double radians = Math.toRadians(angle);
-                double radius = 5 + Math.sin(System.currentTimeMillis() / 1000.0) * 2;
-                
-                Location particleLoc = loc.clone().add(
-                    Math.cos(radians) * radius,
-                    10 + Math.sin(System.currentTimeMillis() / 800.0 + i) * 3,
-                    Math.sin(radians) * radius
-                );
-                
-                Color transitionColor = getWeatherColor(currentWeather);
-                Particle.DustOptions dustOptions = new Particle.DustOptions(transitionColor, 1.5f);
-                
-                player.spawnParticle(Particle.DUST, particleLoc, 1, 0.1, 0.1, 0.1, 0, dustOptions);
-            }
-        }
+    private void playTransition(Player player, Particle.DustOptions dustOptions) {
+        if (random.nextInt(3) != 0) return; // Not every player every time
+
+        // Create swirling particles to indicate change, coloured for the incoming weather
+        Location loc = player.getLocation();
+        effectEngine.play("weather_transition", player, loc.getX(), loc.getY(), loc.getZ(), dustOptions);
     }
 
     /**
@@ -500,12 +632,13 @@ public class WeatherProgressionManager {
     }
 
     // Notification methods
-    private void notifyPlayersOfWeatherChange(World world, WeatherForecast.WeatherType from, WeatherForecast.WeatherType to) {
+    private void notifyPlayersOfWeatherChange(World world, ClimateZoneManager.ClimateZone zone,
+                                              WeatherForecast.WeatherType from, WeatherForecast.WeatherType to) {
         if (!plugin.getConfig().getBoolean("notifications.weather_transition_notifications", true)) {
             return;
         }
         
-        for (Player player : world.getPlayers()) {
+        for (Player player : getZonePlayers(world, zone)) {
             if (player.hasPermission("orbisclimate.notifications")) {
                 player.sendMessage("§6[OrbisClimate] §7Weather changing: §f" + 
                     from.getDisplayName() + " §7→ §f" + to.getDisplayName());
@@ -513,10 +646,11 @@ public class WeatherProgressionManager {
         }
     }
 
-    private void notifyPlayersOfUpcomingWeather(World world, WeatherForecast.WeatherType upcoming, int hoursAhead) {
+    private void notifyPlayersOfUpcomingWeather(World world, ClimateZoneManager.ClimateZone zone,
+                                                WeatherForecast.WeatherType upcoming, int hoursAhead) {
         String timeDesc = hoursAhead == 1 ? "within the hour" : "in " + hoursAhead + " hours";
         
-        for (Player player : world.getPlayers()) {
+        for (Player player : getZonePlayers(world, zone)) {
             if (player.hasPermission("orbisclimate.notifications")) {
                 player.sendMessage("§6[OrbisClimate] §7" + upcoming.getDisplayName() + 
                     " approaching " + timeDesc + "...");
@@ -525,89 +659,73 @@ public class WeatherProgressionManager {
     }
 
     // Original effect methods (unchanged)
-    private void createLightningWarning(World world) {
-        for (Player player : world.getPlayers()) {
-            Location loc = player.getLocation();
-
-            // Create distant lightning flash
-            for (int i = 0; i < 5; i++) {
-                Location lightningLoc = loc.clone().add(
-                        (random.nextDouble() - 0.5) * 100, // Far away
-                        20 + random.nextDouble() * 30,     // High in sky
-                        (random.nextDouble() - 0.5) * 100
-                );
-
-                // White flash particles
-                player.spawnParticle(Particle.ELECTRIC_SPARK, lightningLoc, 20,
-                        2, 2, 2, 0.1);
-                player.spawnParticle(Particle.FLASH, lightningLoc, 1,
-                        0, 0, 0, 0);
-            }
+    private void createLightningWarning(World world, ClimateZoneManager.ClimateZone zone) {
+        queueEffect(world, zone, ProgressionEffect.LIGHTNING_WARNING, null);
+    }
+
+    private void playLightningWarning(Player player) {
+        Location loc = player.getLocation();
 
-            // Distant thunder sound
-            player.playSound(loc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.3f, 0.8f);
+        // Create distant lightning flash
+        effectEngine.play("lightning_warning", player);
 
-            // Warning message
-            if (player.hasPermission("orbisclimate.notifications") && random.nextInt(3) == 0) {
-                player.sendMessage("§8§l⚡ Lightning flickers in the distance... A storm approaches.");
-            }
+        // Distant thunder sound
+        plugin.getSoundMixer().play(player, loc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, SoundMixer.Category.STORM, 0.3f, 0.8f);
+
+        // Warning message
+        if (player.hasPermission("orbisclimate.notifications") && random.nextInt(3) == 0) {
+            player.sendMessage("§8§l⚡ Lightning flickers in the distance... A storm approaches.");
         }
     }
 
-    private void createBuildingCloudEffects(World world) {
-        for (Player player : world.getPlayers()) {
-            Location loc = player.getLocation().add(0, 25, 0);
-
-            // Dark cloud particles gathering
-            for (int i = 0; i < 15; i++) {
-                Location cloudLoc = loc.clone().add(
-                        (random.nextDouble() - 0.5) * 30,
-                        random.nextDouble() * 10,
-                        (random.nextDouble() - 0.5) * 30
-                );
-
-                // Dark gray cloud particles
-                Particle.DustOptions darkCloud = new Particle.DustOptions(
-                        Color.fromRGB(64, 64, 64), 2.0f
-                );
-
-                player.spawnParticle(Particle.DUST, cloudLoc, 1,
-                        0.5, 0.2, 0.5, 0, darkCloud);
-            }
-        }
+    private void createBuildingCloudEffects(World world, ClimateZoneManager.ClimateZone zone) {
+        queueEffect(world, zone, ProgressionEffect.BUILDING_CLOUDS, null);
     }
 
-    private void startHail(World world, WorldProgressionData data) {
+    private void playBuildingClouds(Player player) {
+        if (plugin.getDisplayWeatherRenderer().render(player, DisplayWeatherRenderer.Layer.STORM_CLOUDS)) return;
+
+        // Dark cloud particles gathering
+        effectEngine.play("building_clouds", player);
+    }
+
+    private void startHail(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
         data.setHailActive(true);
         data.setHailStartTime(System.currentTimeMillis());
+        data.setHailTimer(plugin.getTimerWheel().schedule(hailDurationMinutes * 60 * 20, () -> {
+            if (data.isHailActive()) stopHail(world, zone, data);
+        }));
 
         // Notify players
-        for (Player player : world.getPlayers()) {
+        for (Player player : getZonePlayers(world, zone)) {
             if (player.hasPermission("orbisclimate.notifications")) {
                 player.sendMessage("§f§l❄ Hail begins to fall from the stormy sky!");
             }
         }
     }
 
-    private void stopHail(World world, WorldProgressionData data) {
+    private void stopHail(World world, ClimateZoneManager.ClimateZone zone, ZoneProgressionData data) {
         data.setHailActive(false);
+        plugin.getTimerWheel().cancel(data.getHailTimer());
 
         // Notify players
-        for (Player player : world.getPlayers()) {
+        for (Player player : getZonePlayers(world, zone)) {
             if (player.hasPermission("orbisclimate.notifications")) {
                 player.sendMessage("§7§l❄ The hail subsides, returning to rain.");
             }
         }
     }
 
-    private void processHailEffects(World world) {
-        for (Player player : world.getPlayers()) {
-            ClimateZoneManager.ClimateZone zone = climateZoneManager.getPlayerClimateZone(player);
+    private void processHailEffects(World world, ClimateZoneManager.ClimateZone zone) {
+        queueEffect(world, zone, ProgressionEffect.HAIL, null);
+    }
 
-            // Hail is more common in temperate zones
-            if (zone == ClimateZoneManager.ClimateZone.TEMPERATE && random.nextInt(20) == 0) {
-                createHailEffects(player);
-            }
+    private void playHail(Player player) {
+        ClimateZoneManager.ClimateZone zone = climateZoneManager.getPlayerClimateZone(player);
+
+        // Hail is more common in temperate zones
+        if (zone == ClimateZoneManager.ClimateZone.TEMPERATE && random.nextInt(20) == 0) {
+            createHailEffects(player);
         }
     }
 
@@ -615,70 +733,79 @@ public class WeatherProgressionManager {
         Location loc = player.getLocation();
 
         // Create hail particles falling around player
-        for (int i = 0; i < 10; i++) {
-            Location hailLoc = loc.clone().add(
-                    (random.nextDouble() - 0.5) * 15,
-                    8 + random.nextDouble() * 5,
-                    (random.nextDouble() - 0.5) * 15
-            );
-
-            // White/ice particles for hail
-            player.spawnParticle(Particle.WHITE_ASH, hailLoc, 1,
-                    0, -1, 0, 0.5);
-            player.spawnParticle(Particle.CLOUD, hailLoc, 1,
-                    0.1, 0, 0.1, 0.02);
-        }
+        effectEngine.play("hail", player);
 
         // Hail impact sounds occasionally
         if (random.nextInt(40) == 0) {
-            player.playSound(loc, Sound.BLOCK_GLASS_BREAK, 0.2f, 1.5f);
+            plugin.getSoundMixer().play(player, loc, Sound.BLOCK_GLASS_BREAK, SoundMixer.Category.WEATHER, 0.2f, 1.5f);
         }
     }
 
-    private void createEnhancedLightningEffects(World world) {
-        for (Player player : world.getPlayers()) {
-            if (random.nextInt(3) != 0) continue; // Not every player every time
+    private void createEnhancedLightningEffects(World world, ClimateZoneManager.ClimateZone zone) {
+        queueEffect(world, zone, ProgressionEffect.LIGHTNING_STRIKE, null);
+    }
 
-            Location loc = player.getLocation();
-            Location lightningLoc = loc.clone().add(
-                    (random.nextDouble() - 0.5) * 50,
-                    15 + random.nextDouble() * 20,
-                    (random.nextDouble() - 0.5) * 50
-            );
+    private void playLightningStrike(Player player) {
+        if (random.nextInt(3) != 0) return; // Not every player every time
 
-            // Bright lightning flash
-            player.spawnParticle(Particle.ELECTRIC_SPARK, lightningLoc, 30,
-                    3, 5, 3, 0.2);
-            player.spawnParticle(Particle.FLASH, lightningLoc, 1,
-                    0, 0, 0, 0);
+        Location loc = player.getLocation();
+        Location lightningLoc = loc.clone().add(
+                (random.nextDouble() - 0.5) * 50,
+                15 + random.nextDouble() * 20,
+                (random.nextDouble() - 0.5) * 50
+        );
 
-            // Thunder sound with delay based on distance
-            double distance = loc.distance(lightningLoc);
-            long delay = (long) (distance / 340.0 * 20); // Speed of sound delay in ticks
+        // Bright lightning flash
+        effectEngine.play("lightning_strike", player,
+                lightningLoc.getX(), lightningLoc.getY(), lightningLoc.getZ(), null);
 
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                player.playSound(loc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER,
-                        0.7f, 0.9f + random.nextFloat() * 0.2f);
-            }, Math.max(1, delay));
-        }
+        // Thunder sound with delay based on distance
+        double distance = loc.distance(lightningLoc);
+        long delay = (long) (distance / 340.0 * 20); // Speed of sound delay in ticks
+
+        plugin.getTimerWheel().schedule((int) Math.max(1, delay), thunderClap, player, loc);
     }
 
-    // Public getters (updated to reflect new system)
-    public WeatherProgression getWorldProgression(World world) {
-        WorldProgressionData data = worldProgressionData.get(world);
+    // Public getters, for the zone the player is standing in
+    public WeatherProgression getProgression(Player player) {
+        ZoneProgressionData data = getPlayerData(player);
         return data != null ? data.getCurrentProgression() : WeatherProgression.CLEAR;
     }
 
-    public boolean isHailActive(World world) {
-        WorldProgressionData data = worldProgressionData.get(world);
+    public boolean isHailActive(Player player) {
+        ZoneProgressionData data = getPlayerData(player);
         return data != null && data.isHailActive();
     }
     
-    public boolean isInTransition(World world) {
-        WorldProgressionData data = worldProgressionData.get(world);
+    public boolean isInTransition(Player player) {
+        ZoneProgressionData data = getPlayerData(player);
         return data != null && data.isInTransition();
     }
 
+    private ZoneProgressionData getPlayerData(Player player) {
+        return getData(player.getWorld(), climateZoneManager.getPlayerClimateZone(player));
+    }
+
+    public int getPendingEffectCount() {
+        return pendingEffects.size();
+    }
+
+    public long getLastBatchNanos() {
+        return lastBatchNanos;
+    }
+
+    public long getPeakBatchNanos() {
+        return peakBatchNanos;
+    }
+
+    public long getBatchesProcessed() {
+        return batchesProcessed;
+    }
+
+    public long getDroppedEffects() {
+        return droppedEffects;
+    }
+
     // Configuration reload
     public void reloadConfig() {
         loadConfiguration();
@@ -689,6 +816,10 @@ public class WeatherProgressionManager {
         if (progressionTask != null) {
             progressionTask.cancel();
         }
-        worldProgressionData.clear();
+        if (batchTask != null) {
+            batchTask.cancel();
+        }
+        pendingEffects.clear();
+        zoneProgressionData.clear();
     }
 }
\ No newline at end of file
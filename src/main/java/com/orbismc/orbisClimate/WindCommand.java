@@ -307,11 +307,11 @@ public class WindCommand implements CommandExecutor, TabCompleter {
         // Weather progression
         if (plugin.getWeatherProgressionManager() != null) {
             WeatherProgressionManager.WeatherProgression progression = 
-                plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+                plugin.getWeatherProgressionManager().getProgression(player);
             player.sendMessage(ChatColor.AQUA + "Weather Progression: " + ChatColor.WHITE + 
                 progression.name().toLowerCase().replace("_", " "));
                 
-            if (plugin.getWeatherProgressionManager().isHailActive(player.getWorld())) {
+            if (plugin.getWeatherProgressionManager().isHailActive(player)) {
                 player.sendMessage(ChatColor.WHITE + "❄ Hail is currently active");
             }
         }
@@ -391,7 +391,7 @@ public class WindCommand implements CommandExecutor, TabCompleter {
 
             if (plugin.getWeatherProgressionManager() != null) {
                 WeatherProgressionManager.WeatherProgression progression = 
-                    plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+                    plugin.getWeatherProgressionManager().getProgression(player);
                 if (progression != WeatherProgressionManager.WeatherProgression.CLEAR) {
                     player.sendMessage(ChatColor.AQUA + "Weather Stage: " + ChatColor.WHITE + 
                         progression.name().toLowerCase().replace("_", " "));
@@ -453,6 +453,11 @@ public class WindCommand implements CommandExecutor, TabCompleter {
         ClimateZoneManager.ClimateZone zone = climateZoneManager.getPlayerClimateZone(player);
         player.sendMessage(ChatColor.AQUA + "Current Zone: " + ChatColor.WHITE + zone.getDisplayName());
 
+        String regionName = climateZoneManager.getClimateRegionName(player.getLocation());
+        if (regionName != null) {
+            player.sendMessage(ChatColor.AQUA + "Climate Region: " + ChatColor.WHITE + regionName);
+        }
+
         // Zone characteristics
         player.sendMessage(ChatColor.AQUA + "Temperature Range: " + ChatColor.WHITE +
             zone.getMinTemp() + "°C to " + zone.getMaxTemp() + "°C");
@@ -529,13 +534,13 @@ public class WindCommand implements CommandExecutor, TabCompleter {
 
         if (plugin.getWeatherProgressionManager() != null) {
             WeatherProgressionManager.WeatherProgression progression = 
-                plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+                plugin.getWeatherProgressionManager().getProgression(player);
             if (progression != WeatherProgressionManager.WeatherProgression.CLEAR) {
                 player.sendMessage(ChatColor.AQUA + "Progression: " + ChatColor.WHITE + 
                     progression.name().toLowerCase().replace("_", " "));
             }
 
-            if (plugin.getWeatherProgressionManager().isHailActive(player.getWorld())) {
+            if (plugin.getWeatherProgressionManager().isHailActive(player)) {
                 player.sendMessage(ChatColor.WHITE + "❄ Hail is currently falling!");
             }
         }
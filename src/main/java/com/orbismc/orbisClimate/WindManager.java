@@ -1,5 +1,6 @@
 package com.orbismc.orbisClimate;
 
+import com.orbismc.orbisClimate.utils.PatternLibrary;
 import me.casperge.realisticseasons.season.Season;
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -24,6 +25,7 @@ public class WindManager {
     private final Random random;
     private final WeatherForecast weatherForecast;
     private PerformanceMonitor performanceMonitor;
+    private final SelfProfiler.Probe exposureProbe;
     private BukkitTask windTask;
 
     // Wind configuration
@@ -56,11 +58,16 @@ public class WindManager {
     private final Map<String, Long> exposureCacheTimestamps = new ConcurrentHashMap<>();
     private static final long EXPOSURE_CACHE_DURATION = 15000; // 15 seconds
 
+    // Particle stream sectors and gust cycle in lookup table steps
+    private static final int STREAM_SECTOR_STEPS = PatternLibrary.TABLE_SIZE / 8;
+    private static final double GUST_CYCLE_STEPS = PatternLibrary.ONE_RADIAN / 60.0;
+
     public WindManager(OrbisClimate plugin, Random random, WeatherForecast weatherForecast) {
         this.plugin = plugin;
         this.random = random;
         this.weatherForecast = weatherForecast;
         this.performanceMonitor = plugin.getPerformanceMonitor();
+        this.exposureProbe = plugin.getProfiler().wallTimeProbe("exposure_check");
 
         loadConfig();
         initializeBannedBlocks();
@@ -234,7 +241,7 @@ public class WindManager {
     private void startWindSystem() {
         if (!windEnabled) return;
 
-        windTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateWind, 0L, 1L);
+        windTask = Bukkit.getScheduler().runTaskTimer(plugin, plugin.getProfiler().wrap("wind_update", this::updateWind), 0L, 1L);
     }
 
     private void updateWind() {
@@ -434,6 +441,16 @@ public class WindManager {
 
     // ENHANCED INDOOR DETECTION with caching
     public boolean isPlayerIndoors(Player player) {
+        SelfProfiler profiler = plugin.getProfiler();
+        long start = profiler.begin(exposureProbe);
+        try {
+            return checkPlayerIndoors(player);
+        } finally {
+            profiler.end(exposureProbe, start);
+        }
+    }
+
+    private boolean checkPlayerIndoors(Player player) {
         Location loc = player.getLocation();
         String locationKey = getLocationKey(loc);
         long currentTime = System.currentTimeMillis();
@@ -583,13 +600,14 @@ public class WindManager {
         Location playerLoc = player.getLocation();
         
         // Create stream starting position
-        double angle = (streamIndex * 360.0 / 8.0) + random.nextDouble() * 45;
+        // Eight sectors of one eighth turn each, jittered within the sector
+        int angle = streamIndex * STREAM_SECTOR_STEPS + random.nextInt(STREAM_SECTOR_STEPS);
         double startDistance = 8 + random.nextDouble() * 4;
         
         Vector startOffset = new Vector(
-            Math.cos(Math.toRadians(angle)) * startDistance,
+            PatternLibrary.cos(angle) * startDistance,
             random.nextDouble() * 3 + 1,
-            Math.sin(Math.toRadians(angle)) * startDistance
+            PatternLibrary.sin(angle) * startDistance
         );
         
         Location streamStart = playerLoc.clone().add(startOffset);
@@ -670,7 +688,7 @@ public class WindManager {
         volume = Math.min(Math.max(volume, 0.1f), 2.0f);
         pitch = Math.min(Math.max(pitch, 0.5f), 2.0f);
 
-        player.playSound(loc, windSound, volume, pitch);
+        plugin.getSoundMixer().play(player, loc, windSound, SoundMixer.Category.WIND, volume, pitch);
     }
 
     private void createWindParticles(Player player, Vector windDirection, double force) {
@@ -1045,8 +1063,7 @@ public class WindManager {
         private void updateWindGusts() {
             gustPhase++;
 
-            double gustCycle = gustPhase / 60.0;
-            double gustStrength = Math.sin(gustCycle) * 0.3;
+            double gustStrength = PatternLibrary.sin(PatternLibrary.phase(gustPhase, GUST_CYCLE_STEPS)) * 0.3;
 
             if (gustPhase % 20 == 0) {
                 gustStrength += (Math.random() - 0.5) * 0.1;
@@ -0,0 +1,272 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Zone border distance fields
+ * For each raster region (512x512 blocks) a worker thread computes, per 4x4 cell, the distance
+ * to the nearest cell of every zone using a two-pass chamfer transform over the zone raster
+ * (with coordinate regions applied). Distances are stored as one byte per zone and cell, in blocks,
+ * so blending a per-zone value at a location costs a few array reads.
+ *
+ * Fields are computed lazily on first lookup. After refresh_seconds a field is recomputed only if
+ * raster cells around its region were filled since, as happens when players reach new chunks.
+ * Until a field is ready, lookups return the discrete zone value.
+ */
+public class ZoneBlendField {
+
+    private static final int CELLS = 128;
+    private static final int CELL_BLOCKS = 4;
+    private static final int MAX_DISTANCE = 255;
+
+    // Chamfer 3-4 weights approximate Euclidean distance in thirds of a cell
+    private static final int ORTHOGONAL = 3;
+    private static final int DIAGONAL = 4;
+    private static final int FAR = Integer.MAX_VALUE / 2;
+
+    // Fields kept in memory (64 KB each)
+    private static final int MAX_FIELDS = 64;
+
+    private static final ClimateZoneManager.ClimateZone[] ZONES = ClimateZoneManager.ClimateZone.values();
+
+    private final OrbisClimate plugin;
+    private final ClimateZoneManager climateZoneManager;
+    private final ZoneRasterStore zoneRaster;
+    private final ClimateRegionIndex regionIndex;
+
+    // Configuration
+    private boolean enabled;
+    private int transitionWidth;
+    private long refreshMillis;
+
+    // Runtime data
+    private final Map<String, Field> fields = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private volatile int generation = 0;
+
+    public ZoneBlendField(OrbisClimate plugin, ClimateZoneManager climateZoneManager,
+                          ZoneRasterStore zoneRaster, ClimateRegionIndex regionIndex) {
+        this.plugin = plugin;
+        this.climateZoneManager = climateZoneManager;
+        this.zoneRaster = zoneRaster;
+        this.regionIndex = regionIndex;
+        loadConfig();
+    }
+
+    private void loadConfig() {
+        enabled = plugin.getConfig().getBoolean("temperature.zone_blending.enabled", true);
+        transitionWidth = Math.max(CELL_BLOCKS, Math.min(MAX_DISTANCE,
+                plugin.getConfig().getInt("temperature.zone_blending.transition_width", 48)));
+        refreshMillis = plugin.getConfig().getInt("temperature.zone_blending.refresh_seconds", 300) * 1000L;
+    }
+
+    /**
+     * Blend a per-zone value (indexed by zone ordinal) across nearby zone borders.
+     * Zones closer than the transition width contribute with linearly falling weight.
+     */
+    public double blend(Location location, double[] zoneValues) {
+        ClimateZoneManager.ClimateZone zone = climateZoneManager.getClimateZone(location);
+        double discrete = zoneValues[zone.ordinal()];
+        if (!enabled) return discrete;
+
+        World world = location.getWorld();
+        int blockX = location.getBlockX();
+        int blockZ = location.getBlockZ();
+        Field field = getField(world, blockX >> 9, blockZ >> 9);
+        if (field == null) return discrete;
+
+        int cell = ((blockZ & 511) >> 2) * CELLS + ((blockX & 511) >> 2);
+        double total = 0;
+        double weightSum = 0;
+        for (int z = 0; z < ZONES.length; z++) {
+            int distance = field.distances[z][cell] & 0xFF;
+            if (distance >= transitionWidth) continue;
+
+            double weight = 1.0 - (double) distance / transitionWidth;
+            total += weight * zoneValues[z];
+            weightSum += weight;
+        }
+
+        // Cell not filled in the raster yet
+        return weightSum > 0 ? total / weightSum : discrete;
+    }
+
+    private Field getField(World world, int regionX, int regionZ) {
+        String key = world.getName() + ":" + regionX + ":" + regionZ;
+        Field field;
+        synchronized (fields) {
+            field = fields.get(key);
+        }
+
+        int currentGeneration = generation;
+        boolean stale = field == null || field.generation != currentGeneration;
+        long now = System.currentTimeMillis();
+        if (!stale && now - field.checkedAt > refreshMillis) {
+            if (rasterStamp(world, regionX, regionZ) != field.rasterStamp) {
+                stale = true;
+            } else {
+                field.checkedAt = now; // Nothing filled in around it - keep it another interval
+            }
+        }
+        if (stale && pending.add(key)) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    Field computed = compute(world, regionX, regionZ, currentGeneration);
+                    synchronized (fields) {
+                        fields.put(key, computed);
+                        if (fields.size() > MAX_FIELDS) {
+                            fields.remove(fields.keySet().iterator().next());
+                        }
+                    }
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Error computing zone blend field " + key + ": " + e.getMessage());
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        }
+
+        // A field past its refresh time is still served while it is recomputed
+        return field != null && field.generation == currentGeneration ? field : null;
+    }
+
+    /**
+     * Combined write stamp of the raster regions a field reads: its own and the eight around it,
+     * which the padding reaches into (the transition width is at most half a region)
+     */
+    private int rasterStamp(World world, int regionX, int regionZ) {
+        int stamp = 0;
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                stamp = 31 * stamp + zoneRaster.getLastWrite(world, regionX + dx, regionZ + dz);
+            }
+        }
+        return stamp;
+    }
+
+    private Field compute(World world, int regionX, int regionZ, int fieldGeneration) {
+        // Pad by the transition width so borders with neighbouring regions blend too
+        int pad = (transitionWidth + CELL_BLOCKS - 1) / CELL_BLOCKS;
+        int size = CELLS + pad * 2;
+        int originCellX = regionX * CELLS - pad;
+        int originCellZ = regionZ * CELLS - pad;
+
+        // Stamp before copying, so cells filled during the copy trigger the next refresh
+        int stamp = rasterStamp(world, regionX, regionZ);
+        byte[][] rasters = new byte[9][];
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                rasters[(dz + 1) * 3 + dx + 1] = zoneRaster.copyCells(world, regionX + dx, regionZ + dz);
+            }
+        }
+
+        byte[] grid = new byte[size * size];
+        for (int gz = 0; gz < size; gz++) {
+            for (int gx = 0; gx < size; gx++) {
+                int cellX = originCellX + gx;
+                int cellZ = originCellZ + gz;
+
+                // Coordinate regions win over the biome raster, as in getClimateZone
+                ClimateZoneManager.ClimateZone zone = regionIndex.getZone(world,
+                        cellX * CELL_BLOCKS + 2, cellZ * CELL_BLOCKS + 2);
+                if (zone != null) {
+                    grid[gz * size + gx] = (byte) (zone.ordinal() + 1);
+                    continue;
+                }
+
+                byte[] cells = rasters[(Math.floorDiv(cellZ, CELLS) - regionZ + 1) * 3 + Math.floorDiv(cellX, CELLS) - regionX + 1];
+                grid[gz * size + gx] = cells != null ? cells[(cellZ & (CELLS - 1)) * CELLS + (cellX & (CELLS - 1))] : 0;
+            }
+        }
+
+        Field field = new Field(fieldGeneration, stamp);
+        int[] distance = new int[size * size];
+        for (ClimateZoneManager.ClimateZone zone : ZONES) {
+            byte value = (byte) (zone.ordinal() + 1);
+            for (int i = 0; i < distance.length; i++) {
+                distance[i] = grid[i] == value ? 0 : FAR;
+            }
+            chamfer(distance, size);
+
+            byte[] out = field.distances[zone.ordinal()];
+            for (int cz = 0; cz < CELLS; cz++) {
+                for (int cx = 0; cx < CELLS; cx++) {
+                    int thirds = distance[(cz + pad) * size + cx + pad];
+                    int blocks = thirds >= FAR ? MAX_DISTANCE : thirds * CELL_BLOCKS / ORTHOGONAL;
+                    out[cz * CELLS + cx] = (byte) Math.min(MAX_DISTANCE, blocks);
+                }
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Two-pass 3-4 chamfer distance transform, in place
+     */
+    private static void chamfer(int[] d, int size) {
+        // Forward pass: top-left to bottom-right
+        for (int z = 0; z < size; z++) {
+            for (int x = 0; x < size; x++) {
+                int i = z * size + x;
+                int best = d[i];
+                if (x > 0) best = Math.min(best, d[i - 1] + ORTHOGONAL);
+                if (z > 0) {
+                    best = Math.min(best, d[i - size] + ORTHOGONAL);
+                    if (x > 0) best = Math.min(best, d[i - size - 1] + DIAGONAL);
+                    if (x < size - 1) best = Math.min(best, d[i - size + 1] + DIAGONAL);
+                }
+                d[i] = best;
+            }
+        }
+
+        // Backward pass: bottom-right to top-left
+        for (int z = size - 1; z >= 0; z--) {
+            for (int x = size - 1; x >= 0; x--) {
+                int i = z * size + x;
+                int best = d[i];
+                if (x < size - 1) best = Math.min(best, d[i + 1] + ORTHOGONAL);
+                if (z < size - 1) {
+                    best = Math.min(best, d[i + size] + ORTHOGONAL);
+                    if (x < size - 1) best = Math.min(best, d[i + size + 1] + DIAGONAL);
+                    if (x > 0) best = Math.min(best, d[i + size - 1] + DIAGONAL);
+                }
+                d[i] = best;
+            }
+        }
+    }
+
+    // Configuration reload - zone mapping, regions or width may have changed
+    public void reloadConfig() {
+        loadConfig();
+        generation++;
+        synchronized (fields) {
+            fields.clear();
+        }
+    }
+
+    public void shutdown() {
+        synchronized (fields) {
+            fields.clear();
+        }
+        pending.clear();
+    }
+
+    private static final class Field {
+        private final int generation;
+        private final int rasterStamp;
+        private volatile long checkedAt = System.currentTimeMillis();
+        private final byte[][] distances = new byte[ZONES.length][CELLS * CELLS];
+
+        Field(int generation, int rasterStamp) {
+            this.generation = generation;
+            this.rasterStamp = rasterStamp;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,343 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Precomputed climate zone raster
+ * One byte per 4x4 column cell, stored per Anvil region (512x512 blocks = 128x128 cells)
+ * in plugins/OrbisClimate/zones/<world>/r.<x>.<z>.zone and memory-mapped. Cells are filled
+ * from chunk snapshots off the main thread when chunks load, so a zone lookup is a single
+ * read from the mapped buffer. Datapack biomes cannot be resolved from a snapshot, so their
+ * cells are left empty and filled by the first lookup on the main thread.
+ *
+ * Open regions are kept per world under a packed region key, so a lookup is a lock-free map read;
+ * only mapping a new region and evicting the least recently used one take the lock.
+ */
+public class ZoneRasterStore implements Listener {
+
+    // File layout
+    private static final int MAGIC = 0x4F435A52; // "OCZR"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int CELLS_PER_REGION = 128;
+    private static final int REGION_BYTES = HEADER_BYTES + CELLS_PER_REGION * CELLS_PER_REGION;
+    private static final byte UNKNOWN = 0;
+
+    // Regions kept mapped at once before the least recently used is flushed
+    private static final int MAX_OPEN_REGIONS = 64;
+
+    private final OrbisClimate plugin;
+    private final BiomeZoneTable biomeTable;
+    private final File rasterFolder;
+    private final ClimateZoneManager.ClimateZone[] zones = ClimateZoneManager.ClimateZone.values();
+
+    // Runtime data
+    private final Map<UUID, Map<Long, Region>> worldRegions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> mappingHashes = new ConcurrentHashMap<>();
+    private final Object openLock = new Object();
+    private final AtomicInteger writeClock = new AtomicInteger();
+    private int openCount; // Guarded by openLock
+
+    public ZoneRasterStore(OrbisClimate plugin, BiomeZoneTable biomeTable) {
+        this.plugin = plugin;
+        this.biomeTable = biomeTable;
+        this.rasterFolder = new File(plugin.getDataFolder(), "zones");
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+
+        // Chunks that loaded before we were listening
+        for (World world : Bukkit.getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                queueChunk(chunk, false);
+            }
+        }
+    }
+
+    /**
+     * Hash of a world's biome to zone mapping. Raster files written with a different mapping are discarded.
+     */
+    private int computeMappingHash(World world) {
+        return 31 * VERSION + biomeTable.getMappingHash(world);
+    }
+
+    private int getMappingHash(World world) {
+        return mappingHashes.computeIfAbsent(world.getName(), name -> computeMappingHash(world));
+    }
+
+    /**
+     * Zone at a location - one mapped read, with a direct biome lookup for cells not filled yet
+     */
+    public ClimateZoneManager.ClimateZone getZone(Location location) {
+        World world = location.getWorld();
+        int blockX = location.getBlockX();
+        int blockZ = location.getBlockZ();
+
+        Region region = getRegion(world, blockX >> 9, blockZ >> 9, true);
+        if (region != null) {
+            byte value = region.buffer.get(cellIndex(blockX, blockZ));
+            if (value != UNKNOWN) {
+                return zones[value - 1];
+            }
+        }
+
+        ClimateZoneManager.ClimateZone zone = biomeTable.getZone(location);
+        if (region != null) {
+            region.buffer.put(cellIndex(blockX, blockZ), (byte) (zone.ordinal() + 1));
+            region.lastWrite = writeClock.incrementAndGet();
+        }
+        return zone;
+    }
+
+    /**
+     * Copy of a region's cells, row by row (zone ordinal + 1, or 0 where not filled yet), for worker
+     * threads. Returns null for regions that were never rasterised; never touches the world.
+     */
+    public byte[] copyCells(World world, int regionX, int regionZ) {
+        Region region = getRegion(world, regionX, regionZ, false);
+        if (region == null) return null;
+
+        byte[] cells = new byte[CELLS_PER_REGION * CELLS_PER_REGION];
+        region.buffer.get(HEADER_BYTES, cells);
+        return cells;
+    }
+
+    /**
+     * Stamp of the last write into a region, increasing across all regions, to tell whether a copy
+     * is out of date; -1 for regions that were never rasterised
+     */
+    public int getLastWrite(World world, int regionX, int regionZ) {
+        Region region = getRegion(world, regionX, regionZ, false);
+        return region != null ? region.lastWrite : -1;
+    }
+
+    private static int cellIndex(int blockX, int blockZ) {
+        int cellX = (blockX & 511) >> 2;
+        int cellZ = (blockZ & 511) >> 2;
+        return HEADER_BYTES + cellZ * CELLS_PER_REGION + cellX;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        // Freshly generated (or regenerated) chunks always overwrite their cells
+        queueChunk(event.getChunk(), event.isNewChunk());
+    }
+
+    private void queueChunk(Chunk chunk, boolean force) {
+        World world = chunk.getWorld();
+        int chunkX = chunk.getX();
+        int chunkZ = chunk.getZ();
+
+        Region region = getRegion(world, chunkX >> 5, chunkZ >> 5, true);
+        if (region == null || (!force && isChunkFilled(region.buffer, chunkX, chunkZ))) {
+            return;
+        }
+
+        // Snapshot on the main thread, classify off it
+        ChunkSnapshot snapshot = chunk.getChunkSnapshot(true, true, false);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> fillChunk(world, region, snapshot));
+    }
+
+    private boolean isChunkFilled(MappedByteBuffer region, int chunkX, int chunkZ) {
+        int baseX = chunkX << 4;
+        int baseZ = chunkZ << 4;
+        for (int x = 0; x < 16; x += 4) {
+            for (int z = 0; z < 16; z += 4) {
+                if (region.get(cellIndex(baseX + x, baseZ + z)) == UNKNOWN) return false;
+            }
+        }
+        return true;
+    }
+
+    private void fillChunk(World world, Region region, ChunkSnapshot snapshot) {
+        int baseX = snapshot.getX() << 4;
+        int baseZ = snapshot.getZ() << 4;
+
+        // Sample each cell at its centre column, at the surface
+        for (int x = 0; x < 16; x += 4) {
+            for (int z = 0; z < 16; z += 4) {
+                int sampleX = x + 2;
+                int sampleZ = z + 2;
+                int y = snapshot.getHighestBlockYAt(sampleX, sampleZ);
+                Biome biome = snapshot.getBiome(sampleX, y, sampleZ);
+                if (biomeTable.isCustom(biome)) continue;
+
+                region.buffer.put(cellIndex(baseX + x, baseZ + z), (byte) (biomeTable.getZone(world, biome).ordinal() + 1));
+            }
+        }
+        region.lastWrite = writeClock.incrementAndGet();
+    }
+
+    private Region getRegion(World world, int regionX, int regionZ, boolean create) {
+        Map<Long, Region> regions = worldRegions.get(world.getUID());
+        if (regions == null) {
+            regions = worldRegions.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+        }
+
+        long key = regionKey(regionX, regionZ);
+        Region region = regions.get(key);
+        if (region == null) {
+            region = openRegion(world, regions, regionX, regionZ, key, create);
+            if (region == null) return null;
+        }
+        int now = Bukkit.getCurrentTick();
+        if (region.lastUsed != now) {
+            region.lastUsed = now;
+        }
+        return region;
+    }
+
+    private Region openRegion(World world, Map<Long, Region> regions, int regionX, int regionZ, long key, boolean create) {
+        synchronized (openLock) {
+            // Another thread may have mapped it while we waited
+            Region region = regions.get(key);
+            if (region != null) {
+                return region;
+            }
+
+            File folder = new File(rasterFolder, world.getName());
+            File file = new File(folder, "r." + regionX + "." + regionZ + ".zone");
+            if (!create && !file.exists()) {
+                return null;
+            }
+
+            MappedByteBuffer buffer;
+            try {
+                if (!folder.exists() && !folder.mkdirs()) {
+                    return null;
+                }
+
+                try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                     FileChannel channel = raf.getChannel()) {
+                    // The mapping stays valid after the channel closes
+                    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, REGION_BYTES);
+                }
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not map zone raster " + file.getName() + ": " + e.getMessage());
+                return null;
+            }
+
+            validateHeader(buffer, getMappingHash(world));
+
+            region = new Region(buffer);
+            regions.put(key, region);
+            if (++openCount > MAX_OPEN_REGIONS) {
+                evictLeastRecentlyUsed();
+            }
+            return region;
+        }
+    }
+
+    /**
+     * Flush and drop the region used longest ago. Readers still holding its buffer keep a valid mapping.
+     */
+    private void evictLeastRecentlyUsed() {
+        Map<Long, Region> eldestWorld = null;
+        long eldestKey = 0;
+        Region eldest = null;
+        for (Map<Long, Region> regions : worldRegions.values()) {
+            for (Map.Entry<Long, Region> entry : regions.entrySet()) {
+                if (eldest == null || entry.getValue().lastUsed < eldest.lastUsed) {
+                    eldestWorld = regions;
+                    eldestKey = entry.getKey();
+                    eldest = entry.getValue();
+                }
+            }
+        }
+        if (eldest != null && eldestWorld.remove(eldestKey, eldest)) {
+            openCount--;
+            eldest.buffer.force();
+        }
+    }
+
+    private static long regionKey(int regionX, int regionZ) {
+        return ((long) regionX << 32) | (regionZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * New files and files written with another version or zone mapping start empty
+     */
+    private void validateHeader(MappedByteBuffer region, int mappingHash) {
+        if (region.getInt(0) == MAGIC && region.getInt(4) == VERSION && region.getInt(8) == mappingHash) {
+            return;
+        }
+        clearCells(region, mappingHash);
+    }
+
+    private void clearCells(MappedByteBuffer region, int mappingHash) {
+        for (int i = HEADER_BYTES; i < REGION_BYTES; i++) {
+            region.put(i, UNKNOWN);
+        }
+        region.putInt(0, MAGIC);
+        region.putInt(4, VERSION);
+        region.putInt(8, mappingHash);
+    }
+
+    /**
+     * Re-check each world's zone mapping after a config reload. Worlds whose mapping changed are rebuilt.
+     */
+    public void reload() {
+        for (World world : Bukkit.getWorlds()) {
+            int newHash = computeMappingHash(world);
+            Integer oldHash = mappingHashes.put(world.getName(), newHash);
+            if (oldHash == null || oldHash == newHash) continue;
+
+            Map<Long, Region> regions = worldRegions.get(world.getUID());
+            if (regions != null) {
+                synchronized (openLock) {
+                    for (Region region : regions.values()) {
+                        clearCells(region.buffer, newHash);
+                    }
+                }
+            }
+
+            for (Chunk chunk : world.getLoadedChunks()) {
+                queueChunk(chunk, true);
+            }
+            plugin.getLogger().info("Climate zone mapping changed - rebuilding zone rasters for " + world.getName());
+        }
+    }
+
+    public void shutdown() {
+        HandlerList.unregisterAll(this);
+        synchronized (openLock) {
+            for (Map<Long, Region> regions : worldRegions.values()) {
+                for (Region region : regions.values()) {
+                    region.buffer.force();
+                }
+            }
+            worldRegions.clear();
+            openCount = 0;
+        }
+    }
+
+    // A mapped region file, when it was last looked up (server tick, for eviction) and last written
+    private static final class Region {
+        private final MappedByteBuffer buffer;
+        private volatile int lastUsed;
+        private volatile int lastWrite;
+
+        Region(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
\ No newline at end of file
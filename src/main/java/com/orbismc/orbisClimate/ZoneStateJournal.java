@@ -0,0 +1,415 @@
+package com.orbismc.orbisClimate;
+
+import org.bukkit.World;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent climate zone state
+ * Each world has a snapshot file and an append-only journal under plugins/OrbisClimate/state.
+ * Every change to a zone's drought counters or temperature appends one fixed-size, checksummed
+ * record. A background writer drains all queued records per fsync (group commit) and folds the
+ * journal into a fresh snapshot once it grows past the configured size.
+ *
+ * Recovery reads the snapshot and replays the journal, latest record per zone winning, and
+ * stops at the first torn or corrupt record. A world that was never recovered (the journal was
+ * switched on by a reload) is recovered by the writer before its first write, so compaction
+ * always folds the full persisted state.
+ */
+public class ZoneStateJournal {
+
+    // File layout
+    private static final int SNAPSHOT_MAGIC = 0x4F435A53; // "OCZS"
+    private static final int VERSION = 1;
+    private static final byte RECORD_MAGIC = 0x5A;
+    // magic, zone, weather, drought, clear days, temperature, day, crc
+    private static final int RECORD_BYTES = 1 + 1 + 1 + 1 + 4 + 8 + 8 + 4;
+    private static final int PAYLOAD_BYTES = RECORD_BYTES - 4;
+
+    private static final ClimateZoneManager.ClimateZone[] ZONES = ClimateZoneManager.ClimateZone.values();
+    private static final WeatherForecast.WeatherType[] WEATHERS = WeatherForecast.WeatherType.values();
+
+    /**
+     * Persisted state of one zone, as recovered from disk
+     */
+    public static final class ZoneState {
+        private final WeatherForecast.WeatherType weather;
+        private final boolean droughtActive;
+        private final int consecutiveClearDays;
+        private final double temperature;
+        private final long day;
+
+        ZoneState(WeatherForecast.WeatherType weather, boolean droughtActive, int consecutiveClearDays,
+                  double temperature, long day) {
+            this.weather = weather;
+            this.droughtActive = droughtActive;
+            this.consecutiveClearDays = consecutiveClearDays;
+            this.temperature = temperature;
+            this.day = day;
+        }
+
+        public WeatherForecast.WeatherType getWeather() { return weather; }
+        public boolean isDroughtActive() { return droughtActive; }
+        public int getConsecutiveClearDays() { return consecutiveClearDays; }
+        public double getTemperature() { return temperature; }
+        public long getDay() { return day; }
+    }
+
+    private final OrbisClimate plugin;
+    private final File stateFolder;
+
+    // Configuration
+    private boolean enabled;
+    private int compactAfterRecords;
+
+    // Runtime data
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    // Latest encoded record per world and zone - the content of the next snapshot
+    private final Map<String, byte[][]> latestRecords = new ConcurrentHashMap<>();
+    private Thread writerThread;
+    private volatile boolean running;
+
+    // Owned by the writer thread
+    private final Map<String, FileChannel> journals = new HashMap<>();
+    private final Map<String, Integer> journalRecordCounts = new HashMap<>();
+
+    public ZoneStateJournal(OrbisClimate plugin) {
+        this.plugin = plugin;
+        this.stateFolder = new File(plugin.getDataFolder(), "state");
+        loadConfig();
+
+        if (enabled) {
+            startWriter();
+        }
+    }
+
+    private void loadConfig() {
+        enabled = plugin.getConfig().getBoolean("zone_state.enabled", true);
+        compactAfterRecords = Math.max(16, plugin.getConfig().getInt("zone_state.compact_after_records", 512));
+    }
+
+    private void startWriter() {
+        if (!stateFolder.exists() && !stateFolder.mkdirs()) {
+            plugin.getLogger().warning("Could not create zone state folder - zone state will not be saved");
+            enabled = false;
+            return;
+        }
+
+        running = true;
+        writerThread = new Thread(this::writerLoop, "OrbisClimate-ZoneJournal");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Recovery
+
+    /**
+     * Read a world's persisted zone states. Missing zones are absent from the map.
+     * Must be called before the first append for that world.
+     */
+    public Map<ClimateZoneManager.ClimateZone, ZoneState> recover(World world) {
+        Map<ClimateZoneManager.ClimateZone, ZoneState> states = new HashMap<>();
+        if (!enabled) return states;
+
+        byte[][] latest = readLatest(world.getName());
+        for (int i = 0; i < latest.length; i++) {
+            if (latest[i] != null) {
+                states.put(ZONES[i], decode(latest[i]));
+            }
+        }
+        latestRecords.put(world.getName(), latest);
+        return states;
+    }
+
+    /**
+     * Latest valid record per zone from a world's snapshot and journal, truncating a damaged journal tail
+     */
+    private byte[][] readLatest(String worldName) {
+        byte[][] latest = new byte[ZONES.length][];
+
+        try {
+            File snapshot = snapshotFile(worldName);
+            if (snapshot.exists()) {
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshot.toPath()));
+                if (buffer.remaining() >= 8 && buffer.getInt() == SNAPSHOT_MAGIC && buffer.getInt() == VERSION) {
+                    replay(buffer, latest);
+                }
+            }
+
+            File journal = journalFile(worldName);
+            if (journal.exists()) {
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journal.toPath()));
+                int records = replay(buffer, latest);
+
+                // Drop a torn tail so new records append after the last good one
+                if (buffer.position() < buffer.limit()) {
+                    plugin.getLogger().warning("Zone state journal for " + worldName + " had a damaged tail - truncated");
+                    try (FileChannel channel = FileChannel.open(journal.toPath(), StandardOpenOption.WRITE)) {
+                        channel.truncate((long) records * RECORD_BYTES);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not read zone state for " + worldName + ": " + e.getMessage());
+        }
+        return latest;
+    }
+
+    /**
+     * Apply valid records in order; stops at the first invalid one, leaving the buffer positioned there
+     */
+    private static int replay(ByteBuffer buffer, byte[][] latest) {
+        int count = 0;
+        while (buffer.remaining() >= RECORD_BYTES) {
+            int start = buffer.position();
+            byte[] record = new byte[RECORD_BYTES];
+            buffer.get(record);
+
+            if (!isValid(record)) {
+                buffer.position(start);
+                break;
+            }
+            int zone = record[1];
+            if (zone >= 0 && zone < latest.length) {
+                latest[zone] = record;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    // Encoding
+
+    private static byte[] encode(ClimateZoneManager.ZoneWeatherData data, long day) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        buffer.put(RECORD_MAGIC);
+        buffer.put((byte) data.getZone().ordinal());
+        buffer.put((byte) data.getCurrentWeather().ordinal());
+        buffer.put((byte) (data.isDroughtActive() ? 1 : 0));
+        buffer.putInt(data.getConsecutiveClearDays());
+        buffer.putDouble(data.getCurrentTemperature());
+        buffer.putLong(day);
+        buffer.putInt(checksum(buffer.array()));
+        return buffer.array();
+    }
+
+    private static ZoneState decode(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        buffer.position(2);
+        int weather = buffer.get();
+        boolean drought = buffer.get() != 0;
+        int clearDays = buffer.getInt();
+        double temperature = buffer.getDouble();
+        long day = buffer.getLong();
+        return new ZoneState(weather >= 0 && weather < WEATHERS.length ? WEATHERS[weather] : WeatherForecast.WeatherType.CLEAR,
+                drought, clearDays, temperature, day);
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, PAYLOAD_BYTES);
+        return (int) crc.getValue();
+    }
+
+    private static boolean isValid(byte[] record) {
+        return record[0] == RECORD_MAGIC &&
+                ByteBuffer.wrap(record, PAYLOAD_BYTES, 4).getInt() == checksum(record);
+    }
+
+    // Writing
+
+    /**
+     * Queue a zone's current state. Encoded on the calling thread, written in the background.
+     */
+    public void append(World world, ClimateZoneManager.ZoneWeatherData data, long day) {
+        if (!enabled || !running) return;
+        queue.offer(new PendingRecord(world.getName(), encode(data, day)));
+    }
+
+    private void writerLoop() {
+        List<PendingRecord> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRecord first = queue.take();
+                if (first.isStop()) continue;
+                batch.add(first);
+                queue.drainTo(batch);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not write zone state journal: " + e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Group commit: one write and one fsync per world for everything queued since the last batch
+     */
+    private void writeBatch(List<PendingRecord> batch) throws IOException {
+        Map<String, List<byte[]>> byWorld = new HashMap<>();
+        for (PendingRecord record : batch) {
+            if (record.isStop()) continue;
+            byWorld.computeIfAbsent(record.worldName, w -> new ArrayList<>()).add(record.data);
+        }
+
+        for (Map.Entry<String, List<byte[]>> entry : byWorld.entrySet()) {
+            String worldName = entry.getKey();
+            List<byte[]> records = entry.getValue();
+            byte[][] latest = latestRecords.computeIfAbsent(worldName, this::readLatest);
+
+            ByteBuffer buffer = ByteBuffer.allocate(records.size() * RECORD_BYTES);
+            for (byte[] record : records) {
+                buffer.put(record);
+                latest[record[1]] = record;
+            }
+            buffer.flip();
+
+            FileChannel channel = getJournal(worldName);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+
+            int count = journalRecordCounts.merge(worldName, records.size(), Integer::sum);
+            if (count >= compactAfterRecords) {
+                compact(worldName);
+            }
+        }
+    }
+
+    private FileChannel getJournal(String worldName) throws IOException {
+        FileChannel channel = journals.get(worldName);
+        if (channel == null) {
+            channel = FileChannel.open(journalFile(worldName).toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            journals.put(worldName, channel);
+            journalRecordCounts.put(worldName, (int) (channel.size() / RECORD_BYTES));
+        }
+        return channel;
+    }
+
+    /**
+     * Fold the journal into a new snapshot, then empty the journal.
+     * Replaying a journal over a newer snapshot is harmless, so a crash in between loses nothing.
+     */
+    private void compact(String worldName) throws IOException {
+        byte[][] latest = latestRecords.get(worldName);
+        if (latest == null) return;
+
+        ByteBuffer buffer = ByteBuffer.allocate(8 + ZONES.length * RECORD_BYTES);
+        buffer.putInt(SNAPSHOT_MAGIC);
+        buffer.putInt(VERSION);
+        for (byte[] record : latest) {
+            if (record != null) buffer.put(record);
+        }
+        buffer.flip();
+
+        File snapshot = snapshotFile(worldName);
+        File temp = new File(stateFolder, worldName + ".snapshot.tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        FileChannel journal = getJournal(worldName);
+        journal.truncate(0);
+        journal.force(true);
+        journalRecordCounts.put(worldName, 0);
+    }
+
+    private File snapshotFile(String worldName) {
+        return new File(stateFolder, worldName + ".snapshot");
+    }
+
+    private File journalFile(String worldName) {
+        return new File(stateFolder, worldName + ".journal");
+    }
+
+    /**
+     * Reload the configuration. Returns true when this reload switched the journal on; nothing was
+     * journaled while it was off, so the caller should queue every zone's current state again.
+     */
+    public boolean reloadConfig() {
+        boolean wasEnabled = enabled;
+        loadConfig();
+        if (enabled && writerThread == null) {
+            startWriter();
+        }
+        return enabled && !wasEnabled;
+    }
+
+    /**
+     * Flush everything queued, compact each world and close the journals
+     */
+    public void shutdown() {
+        if (writerThread == null) return;
+
+        running = false;
+        queue.offer(PendingRecord.STOP);
+        try {
+            writerThread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Still writing: the journals belong to the writer, and replaying them on the next start is enough
+        if (writerThread.isAlive()) {
+            plugin.getLogger().warning("Zone state writer did not finish in time - skipping compaction");
+            writerThread = null;
+            return;
+        }
+
+        for (String worldName : new ArrayList<>(journals.keySet())) {
+            try {
+                compact(worldName);
+                journals.get(worldName).close();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not compact zone state for " + worldName + ": " + e.getMessage());
+            }
+        }
+        journals.clear();
+        writerThread = null;
+    }
+
+    private static final class PendingRecord {
+        static final PendingRecord STOP = new PendingRecord(null, null);
+
+        final String worldName;
+        final byte[] data;
+
+        PendingRecord(String worldName, byte[] data) {
+            this.worldName = worldName;
+            this.data = data;
+        }
+
+        boolean isStop() {
+            return this == STOP;
+        }
+    }
+}
\ No newline at end of file
@@ -47,14 +47,20 @@ public class DebugCommand extends BaseSubCommand {
             player.sendMessage(ChatColor.AQUA + "Weather Progression:");
             
             WeatherProgressionManager.WeatherProgression progression = 
-                plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+                plugin.getWeatherProgressionManager().getProgression(player);
             player.sendMessage(ChatColor.WHITE + "  Current Stage: " + progression.name());
             
-            boolean inTransition = plugin.getWeatherProgressionManager().isInTransition(player.getWorld());
+            boolean inTransition = plugin.getWeatherProgressionManager().isInTransition(player);
             player.sendMessage(ChatColor.WHITE + "  In Transition: " + inTransition);
             
-            boolean hailActive = plugin.getWeatherProgressionManager().isHailActive(player.getWorld());
+            boolean hailActive = plugin.getWeatherProgressionManager().isHailActive(player);
             player.sendMessage(ChatColor.WHITE + "  Hail Active: " + hailActive);
+
+            WeatherProgressionManager progressionManager = plugin.getWeatherProgressionManager();
+            player.sendMessage(ChatColor.WHITE + "  Effect Batches: " + progressionManager.getBatchesProcessed() +
+                    " (" + progressionManager.getPendingEffectCount() + " queued, " + progressionManager.getDroppedEffects() + " dropped, last " +
+                    String.format("%.3fms, peak %.3fms)", progressionManager.getLastBatchNanos() / 1_000_000.0,
+                            progressionManager.getPeakBatchNanos() / 1_000_000.0));
             
             // Show forecast integration info
             WeatherForecast.DetailedForecast forecast = plugin.getWeatherForecast().getForecast(player.getWorld());
@@ -94,6 +100,10 @@ public class DebugCommand extends BaseSubCommand {
         player.sendMessage(ChatColor.AQUA + "System:");
         player.sendMessage(ChatColor.WHITE + "  Online Players: " + player.getServer().getOnlinePlayers().size());
         player.sendMessage(ChatColor.WHITE + "  World: " + player.getWorld().getName());
+        if (plugin.getSoundMixer() != null) {
+            player.sendMessage(ChatColor.WHITE + "  Sounds Played: " + plugin.getSoundMixer().getPlayedCount() +
+                    "/" + plugin.getSoundMixer().getSubmittedCount() + " submitted");
+        }
 
         Runtime runtime = Runtime.getRuntime();
         long maxMemory = runtime.maxMemory() / 1024 / 1024;
@@ -1,5 +1,6 @@
 package com.orbismc.orbisClimate.commands.subcommands;
 
+import com.orbismc.orbisClimate.ClimateZoneManager;
 import com.orbismc.orbisClimate.OrbisClimate;
 import com.orbismc.orbisClimate.WeatherForecast;
 import com.orbismc.orbisClimate.WeatherProgressionManager;
@@ -26,10 +27,13 @@ public class ForecastCommand extends BaseSubCommand {
         Player player = getPlayer(sender);
         WeatherForecast weatherForecast = plugin.getWeatherForecast();
         
-        // Check for detailed forecast argument
+        // Check for detailed or weekly forecast argument
         boolean showDetailed = args.length > 0 && args[0].equalsIgnoreCase("detailed");
+        boolean showWeek = args.length > 0 && args[0].equalsIgnoreCase("week");
         
-        if (showDetailed) {
+        if (showWeek) {
+            return showWeeklyForecast(player, weatherForecast);
+        } else if (showDetailed) {
             return showDetailedForecast(player, weatherForecast);
         } else {
             return showStandardForecast(player, weatherForecast);
@@ -84,14 +88,18 @@ public class ForecastCommand extends BaseSubCommand {
 
         MessageUtils.send(player, header);
 
+        // Each zone has its own forecast - show the player's
+        ClimateZoneManager.ClimateZone zone = plugin.getClimateZoneManager().getPlayerClimateZone(player);
+        MessageUtils.send(player, MessageUtils.infoLine("Climate Zone", zone.getDisplayName(), MessageUtils.ACCENT));
+
         // Show enhanced forecast periods with weather symbols and colors
-        showForecastPeriod(player, "Morning (6AM-12PM)", forecast.getMorningWeather());
-        showForecastPeriod(player, "Afternoon (12PM-6PM)", forecast.getAfternoonWeather());
-        showForecastPeriod(player, "Evening (6PM-12AM)", forecast.getEveningWeather());
-        showForecastPeriod(player, "Night (12AM-6AM)", forecast.getNightWeather());
+        showForecastPeriod(player, "Morning (6AM-12PM)", forecast.getZoneWeather(zone, 9));
+        showForecastPeriod(player, "Afternoon (12PM-6PM)", forecast.getZoneWeather(zone, 15));
+        showForecastPeriod(player, "Evening (6PM-12AM)", forecast.getZoneWeather(zone, 21));
+        showForecastPeriod(player, "Night (12AM-6AM)", forecast.getZoneWeather(zone, 3));
 
         // Show current status with enhanced formatting
-        WeatherForecast.WeatherType currentWeather = weatherForecast.getCurrentWeather(player.getWorld());
+        WeatherForecast.WeatherType currentWeather = weatherForecast.getZoneWeather(player.getWorld(), zone);
         int currentHour = getCurrentHour(player, weatherForecast);
         
         MessageUtils.send(player, MessageUtils.infoLine("Current Time", 
@@ -109,14 +117,14 @@ public class ForecastCommand extends BaseSubCommand {
         // Enhanced weather progression status
         if (plugin.getWeatherProgressionManager() != null) {
             WeatherProgressionManager.WeatherProgression progression =
-                    plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+                    plugin.getWeatherProgressionManager().getProgression(player);
             if (progression != WeatherProgressionManager.WeatherProgression.CLEAR) {
                 String progressionName = progression.name().toLowerCase().replace("_", " ");
                 MessageUtils.send(player, MessageUtils.infoLine("Weather Stage", progressionName, MessageUtils.ACCENT));
             }
             
             // Show transition status with enhanced formatting
-            if (plugin.getWeatherProgressionManager().isInTransition(player.getWorld())) {
+            if (plugin.getWeatherProgressionManager().isInTransition(player)) {
                 Component transitionMsg = Component.text()
                         .append(Component.text("Status: ", MessageUtils.INFO))
                         .append(Component.text("⚡ ", MessageUtils.WARNING))
@@ -126,7 +134,7 @@ public class ForecastCommand extends BaseSubCommand {
             }
 
             // Show special effects with enhanced formatting
-            if (plugin.getWeatherProgressionManager().isHailActive(player.getWorld())) {
+            if (plugin.getWeatherProgressionManager().isHailActive(player)) {
                 Component hailMsg = Component.text()
                         .append(Component.text("❄ ", NamedTextColor.WHITE))
                         .append(MessageUtils.text("Hail is currently falling!", NamedTextColor.WHITE).style(Style.style(TextDecoration.BOLD)))
@@ -136,9 +144,9 @@ public class ForecastCommand extends BaseSubCommand {
         }
         
         // Show next transition with enhanced display
-        WeatherForecast.WeatherType nextWeather = getNextTransition(forecast, currentHour);
+        WeatherForecast.WeatherType nextWeather = getNextTransition(forecast, zone, currentHour);
         if (nextWeather != null && !nextWeather.equals(currentWeather)) {
-            int nextTransitionHour = getNextTransitionHour(forecast, currentHour);
+            int nextTransitionHour = getNextTransitionHour(forecast, zone, currentHour);
             int hoursUntil = nextTransitionHour > currentHour ? 
                 nextTransitionHour - currentHour : 
                 (24 - currentHour) + nextTransitionHour;
@@ -180,7 +188,9 @@ public class ForecastCommand extends BaseSubCommand {
         Component detailedOption = Component.text()
                 .append(MessageUtils.text("Use ", MessageUtils.MUTED))
                 .append(MessageUtils.clickableCommand("detailed forecast", "/climate forecast detailed", MessageUtils.ACCENT))
-                .append(MessageUtils.text(" for hour-by-hour forecast", MessageUtils.MUTED))
+                .append(MessageUtils.text(" for hour-by-hour forecast, or ", MessageUtils.MUTED))
+                .append(MessageUtils.clickableCommand("week", "/climate forecast week", MessageUtils.ACCENT))
+                .append(MessageUtils.text(" for the outlook", MessageUtils.MUTED))
                 .build();
         MessageUtils.send(player, detailedOption);
 
@@ -231,6 +241,8 @@ public class ForecastCommand extends BaseSubCommand {
         MessageUtils.send(player, header);
         
         int currentHour = getCurrentHour(player, weatherForecast);
+        ClimateZoneManager.ClimateZone zone = plugin.getClimateZoneManager().getPlayerClimateZone(player);
+        MessageUtils.send(player, MessageUtils.infoLine("Climate Zone", zone.getDisplayName(), MessageUtils.ACCENT));
         
         // Show enhanced hour-by-hour forecast
         MessageUtils.send(player, MessageUtils.text("Hour-by-Hour Forecast:", MessageUtils.ACCENT).style(Style.style(TextDecoration.BOLD)));
@@ -240,8 +252,8 @@ public class ForecastCommand extends BaseSubCommand {
             Component lineBuilder = Component.text();
             
             for (int hour = startHour; hour < Math.min(startHour + 6, 24); hour++) {
-                WeatherForecast.WeatherType weather = forecast.getWeatherForHour(hour);
-                boolean isTransition = forecast.isTransitionHour(hour);
+                WeatherForecast.WeatherType weather = forecast.getZoneWeather(zone, hour);
+                boolean isTransition = forecast.isZoneTransitionHour(zone, hour);
                 boolean isCurrent = (hour == currentHour);
                 
                 // Enhanced formatting with icons and colors
@@ -304,7 +316,7 @@ public class ForecastCommand extends BaseSubCommand {
         MessageUtils.send(player, symbolsLegend);
         
         // Current status with enhanced formatting
-        WeatherForecast.WeatherType currentWeather = weatherForecast.getCurrentWeather(player.getWorld());
+        WeatherForecast.WeatherType currentWeather = weatherForecast.getZoneWeather(player.getWorld(), zone);
         Component currentStatus = Component.text()
                 .append(MessageUtils.text("Currently: ", MessageUtils.INFO))
                 .append(MessageUtils.weatherSymbol(currentWeather.getDisplayName()))
@@ -319,12 +331,12 @@ public class ForecastCommand extends BaseSubCommand {
         // Enhanced progression status for detailed forecast
         if (plugin.getWeatherProgressionManager() != null) {
             WeatherProgressionManager.WeatherProgression progression = 
-                plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+                plugin.getWeatherProgressionManager().getProgression(player);
                 
             String progressionName = progression.name().toLowerCase().replace("_", " ");
             MessageUtils.send(player, MessageUtils.infoLine("Progression Stage", progressionName, MessageUtils.ACCENT));
             
-            if (plugin.getWeatherProgressionManager().isInTransition(player.getWorld())) {
+            if (plugin.getWeatherProgressionManager().isInTransition(player)) {
                 Component transitionStatus = Component.text()
                         .append(MessageUtils.text("Status: ", MessageUtils.INFO))
                         .append(Component.text("⚡ ", MessageUtils.WARNING))
@@ -337,8 +349,8 @@ public class ForecastCommand extends BaseSubCommand {
             for (int lookAhead = 1; lookAhead <= 3; lookAhead++) {
                 int futureHour = (currentHour + lookAhead) % 24;
                 
-                if (forecast.isTransitionHour(futureHour)) {
-                    WeatherForecast.WeatherType upcomingWeather = forecast.getWeatherForHour(futureHour);
+                if (forecast.isZoneTransitionHour(zone, futureHour)) {
+                    WeatherForecast.WeatherType upcomingWeather = forecast.getZoneWeather(zone, futureHour);
                     boolean isStormWeather = upcomingWeather == WeatherForecast.WeatherType.THUNDERSTORM ||
                                            upcomingWeather == WeatherForecast.WeatherType.BLIZZARD ||
                                            upcomingWeather == WeatherForecast.WeatherType.SANDSTORM;
@@ -363,34 +375,66 @@ public class ForecastCommand extends BaseSubCommand {
         return true;
     }
     
-    private WeatherForecast.WeatherType getNextTransition(WeatherForecast.DetailedForecast forecast, int currentHour) {
-        for (int hour = currentHour + 1; hour < 24; hour++) {
-            if (forecast.isTransitionHour(hour)) {
-                return forecast.getWeatherForHour(hour);
-            }
+    private boolean showWeeklyForecast(Player player, WeatherForecast weatherForecast) {
+        List<WeatherForecast.DetailedForecast> days = weatherForecast.getForecastHorizon(player.getWorld());
+
+        if (days.isEmpty()) {
+            MessageUtils.send(player, MessageUtils.error("No forecast available for this world yet!"));
+            return true;
         }
-        // Check next day (hour 0-5)
-        for (int hour = 0; hour <= currentHour; hour++) {
-            if (forecast.isTransitionHour(hour)) {
-                return forecast.getWeatherForHour(hour);
-            }
+
+        Component header = Component.text()
+                .append(Component.text("=== ", MessageUtils.ACCENT))
+                .append(Component.text(weatherForecast.getHorizonDays() + "-Day Outlook", MessageUtils.PRIMARY).style(Style.style(TextDecoration.BOLD)))
+                .append(Component.text(" ===", MessageUtils.ACCENT))
+                .build();
+        MessageUtils.send(player, header);
+
+        ClimateZoneManager.ClimateZone zone = plugin.getClimateZoneManager().getPlayerClimateZone(player);
+        MessageUtils.send(player, MessageUtils.infoLine("Climate Zone", zone.getDisplayName(), MessageUtils.ACCENT));
+
+        // One line per day: morning, afternoon, evening, night
+        for (int i = 0; i < days.size(); i++) {
+            WeatherForecast.DetailedForecast day = days.get(i);
+            String label = i == 0 ? "Today" : i == 1 ? "Tomorrow" : "Day " + (i + 1);
+
+            Component line = Component.text()
+                    .append(MessageUtils.text(String.format("%-9s", label + ":"), MessageUtils.ACCENT))
+                    .append(outlookPeriod(day.getZoneWeather(zone, 9)))
+                    .append(outlookPeriod(day.getZoneWeather(zone, 15)))
+                    .append(outlookPeriod(day.getZoneWeather(zone, 21)))
+                    .append(outlookPeriod(day.getZoneWeather(zone, 3)))
+                    .append(MessageUtils.text(" (" + Integer.bitCount(day.getZoneTransitionMask(zone)) + " changes)", MessageUtils.MUTED))
+                    .build();
+            MessageUtils.send(player, line);
         }
-        return null;
+
+        if (days.size() < weatherForecast.getHorizonDays()) {
+            MessageUtils.send(player, MessageUtils.text("Later days are still being forecast...", MessageUtils.MUTED));
+        }
+        MessageUtils.send(player, MessageUtils.text("Periods: morning, afternoon, evening, night", MessageUtils.MUTED));
+        return true;
+    }
+
+    private Component outlookPeriod(WeatherForecast.WeatherType weather) {
+        return Component.text()
+                .append(Component.text(" "))
+                .append(MessageUtils.weatherSymbol(weather.getDisplayName()))
+                .append(MessageUtils.text(" " + weather.getDisplayName(), MessageUtils.getWeatherColor(weather.getDisplayName())))
+                .build();
+    }
+
+    private WeatherForecast.WeatherType getNextTransition(WeatherForecast.DetailedForecast forecast,
+                                                          ClimateZoneManager.ClimateZone zone, int currentHour) {
+        int hour = getNextTransitionHour(forecast, zone, currentHour);
+        return hour != -1 ? forecast.getZoneWeather(zone, hour) : null;
     }
     
-    private int getNextTransitionHour(WeatherForecast.DetailedForecast forecast, int currentHour) {
-        for (int hour = currentHour + 1; hour < 24; hour++) {
-            if (forecast.isTransitionHour(hour)) {
-                return hour;
-            }
-        }
-        // Check next day
-        for (int hour = 0; hour <= currentHour; hour++) {
-            if (forecast.isTransitionHour(hour)) {
-                return hour;
-            }
-        }
-        return -1;
+    private int getNextTransitionHour(WeatherForecast.DetailedForecast forecast,
+                                      ClimateZoneManager.ClimateZone zone, int currentHour) {
+        int hour = forecast.getNextZoneTransitionHour(zone, currentHour);
+        // Wrap around to the start of the day
+        return hour != -1 ? hour : forecast.getNextZoneTransitionHour(zone, -1);
     }
     
     private int getCurrentHour(Player player, WeatherForecast weatherForecast) {
@@ -405,18 +449,18 @@ public class ForecastCommand extends BaseSubCommand {
     @Override
     public List<String> getTabCompletions(CommandSender sender, String[] args) {
         if (args.length == 1) {
-            return Arrays.asList("detailed");
+            return Arrays.asList("detailed", "week");
         }
         return super.getTabCompletions(sender, args);
     }
 
     @Override
     public String getDescription() {
-        return "Show the weather forecast (use 'detailed' for hour-by-hour)";
+        return "Show the weather forecast (use 'detailed' for hour-by-hour, 'week' for the outlook)";
     }
 
     @Override
     public String getUsage() {
-        return "/climate forecast [detailed]";
+        return "/climate forecast [detailed|week]";
     }
 }
\ No newline at end of file
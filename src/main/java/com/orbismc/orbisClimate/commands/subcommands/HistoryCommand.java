@@ -0,0 +1,224 @@
+package com.orbismc.orbisClimate.commands.subcommands;
+
+import com.orbismc.orbisClimate.ClimateZoneManager;
+import com.orbismc.orbisClimate.OrbisClimate;
+import com.orbismc.orbisClimate.WeatherForecast;
+import com.orbismc.orbisClimate.WeatherHistoryArchive;
+import com.orbismc.orbisClimate.utils.MessageUtils;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public class HistoryCommand extends BaseSubCommand {
+
+    private static final int DEFAULT_HOURS = 24;
+    private static final long HOUR_MILLIS = 60L * 60L * 1000L;
+
+    public HistoryCommand(OrbisClimate plugin) {
+        super(plugin, "orbisclimate.debug", false);
+    }
+
+    @Override
+    protected boolean executeCommand(CommandSender sender, String[] args) {
+        WeatherHistoryArchive archive = plugin.getHistoryArchive();
+        if (archive == null || !archive.isEnabled()) {
+            MessageUtils.send(sender, MessageUtils.error("Weather history is disabled! Enable history.enabled in config.yml."));
+            return true;
+        }
+
+        World world = isPlayer(sender) ? getPlayer(sender).getWorld() : Bukkit.getWorlds().get(0);
+        boolean export = args.length > 0 && args[0].equalsIgnoreCase("export");
+        String hoursArg = export ? (args.length > 1 ? args[1] : null) : (args.length > 0 ? args[0] : null);
+
+        int hours = DEFAULT_HOURS;
+        if (hoursArg != null) {
+            try {
+                hours = Math.max(1, Integer.parseInt(hoursArg));
+            } catch (NumberFormatException e) {
+                MessageUtils.send(sender, MessageUtils.error("Invalid number of hours: " + hoursArg));
+                return true;
+            }
+        }
+
+        long to = System.currentTimeMillis();
+        long from = to - hours * HOUR_MILLIS;
+        String worldName = world.getName();
+        int rangeHours = hours;
+
+        // Segment reads happen off the main thread; replies go back to it
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            if (export) {
+                String result = exportCsv(archive, worldName, from, to);
+                Bukkit.getScheduler().runTask(plugin, () -> MessageUtils.send(sender, result != null ?
+                        MessageUtils.success("Exported weather history to " + result) :
+                        MessageUtils.error("Could not export weather history - see console")));
+            } else {
+                HistoryStats stats = collectStats(archive, worldName, from, to);
+                Bukkit.getScheduler().runTask(plugin, () -> showStats(sender, worldName, rangeHours, stats));
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Aggregates for one scan of the archive
+     */
+    private static final class HistoryStats {
+        private final long[] weatherMillis = new long[WeatherForecast.WeatherType.values().length];
+        private final int[] stormCounts = new int[WeatherForecast.WeatherType.values().length];
+        private final double[] temperatureSums = new double[ClimateZoneManager.ClimateZone.values().length];
+        private final int[] temperatureSamples = new int[ClimateZoneManager.ClimateZone.values().length];
+        private int weatherChanges;
+        private int droughts;
+        private int records;
+
+        private WeatherForecast.WeatherType currentWeather;
+        private long currentSince;
+    }
+
+    private HistoryStats collectStats(WeatherHistoryArchive archive, String worldName, long from, long to) {
+        HistoryStats stats = new HistoryStats();
+        stats.currentSince = from;
+
+        archive.scan(worldName, from, to, record -> {
+            stats.records++;
+            switch (record.getType()) {
+                case WEATHER_CHANGE:
+                    // Time before the first change belongs to the weather it changed from
+                    WeatherForecast.WeatherType previous = stats.currentWeather != null ? stats.currentWeather : record.getFrom();
+                    if (previous != null) {
+                        stats.weatherMillis[previous.ordinal()] += record.getTime() - stats.currentSince;
+                    }
+                    stats.currentWeather = record.getTo();
+                    stats.currentSince = record.getTime();
+                    stats.weatherChanges++;
+                    break;
+                case STORM_START:
+                    if (record.getTo() != null) stats.stormCounts[record.getTo().ordinal()]++;
+                    break;
+                case DROUGHT_START:
+                    stats.droughts++;
+                    break;
+                case ZONE_TEMPERATURE:
+                    if (record.getZone() != null) {
+                        stats.temperatureSums[record.getZone().ordinal()] += record.getValue();
+                        stats.temperatureSamples[record.getZone().ordinal()]++;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        });
+
+        if (stats.currentWeather != null) {
+            stats.weatherMillis[stats.currentWeather.ordinal()] += to - stats.currentSince;
+        }
+        return stats;
+    }
+
+    private void showStats(CommandSender sender, String worldName, int hours, HistoryStats stats) {
+        MessageUtils.send(sender, MessageUtils.header("Weather History - " + worldName));
+        MessageUtils.send(sender, MessageUtils.infoLine("Range", "last " + hours + "h"));
+        MessageUtils.send(sender, MessageUtils.infoLine("Records", String.valueOf(stats.records)));
+
+        if (stats.records == 0) {
+            MessageUtils.send(sender, MessageUtils.text("No history recorded in this range yet.", MessageUtils.MUTED));
+            return;
+        }
+
+        MessageUtils.send(sender, MessageUtils.infoLine("Weather Changes", String.valueOf(stats.weatherChanges)));
+
+        long total = Arrays.stream(stats.weatherMillis).sum();
+        if (total > 0) {
+            MessageUtils.send(sender, MessageUtils.text("Weather Share:", MessageUtils.INFO));
+            for (WeatherForecast.WeatherType weather : WeatherForecast.WeatherType.values()) {
+                long millis = stats.weatherMillis[weather.ordinal()];
+                if (millis <= 0) continue;
+
+                Component line = Component.text()
+                        .append(MessageUtils.text("  ", MessageUtils.MUTED))
+                        .append(MessageUtils.weatherSymbol(weather.name()))
+                        .append(MessageUtils.text(" " + weather.getDisplayName() + ": ", MessageUtils.getWeatherColor(weather.name())))
+                        .append(MessageUtils.text(String.format("%.1f%%", millis * 100.0 / total), MessageUtils.ACCENT))
+                        .build();
+                MessageUtils.send(sender, line);
+            }
+        }
+
+        MessageUtils.send(sender, MessageUtils.infoLine("Blizzards",
+                String.valueOf(stats.stormCounts[WeatherForecast.WeatherType.BLIZZARD.ordinal()])));
+        MessageUtils.send(sender, MessageUtils.infoLine("Sandstorms",
+                String.valueOf(stats.stormCounts[WeatherForecast.WeatherType.SANDSTORM.ordinal()])));
+        MessageUtils.send(sender, MessageUtils.infoLine("Droughts", String.valueOf(stats.droughts)));
+
+        MessageUtils.send(sender, MessageUtils.text("Average Zone Temperature:", MessageUtils.INFO));
+        for (ClimateZoneManager.ClimateZone zone : ClimateZoneManager.ClimateZone.values()) {
+            int samples = stats.temperatureSamples[zone.ordinal()];
+            if (samples == 0) continue;
+
+            Component line = Component.text()
+                    .append(MessageUtils.text("  " + zone.getDisplayName() + ": ", MessageUtils.getZoneColor(zone.name())))
+                    .append(MessageUtils.temperatureDisplay(stats.temperatureSums[zone.ordinal()] / samples))
+                    .build();
+            MessageUtils.send(sender, line);
+        }
+    }
+
+    /**
+     * Write the range as CSV next to the world's segments. Returns the file name, or null on failure.
+     */
+    private String exportCsv(WeatherHistoryArchive archive, String worldName, long from, long to) {
+        File folder = archive.getExportFolder(worldName);
+        if (!folder.exists() && !folder.mkdirs()) return null;
+
+        File file = new File(folder, "export-" + to + ".csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("time,game_time,type,zone,from,to,value");
+            archive.scan(worldName, from, to, record -> writer.printf(Locale.ROOT, "%d,%d,%s,%s,%s,%s,%.2f%n",
+                    record.getTime(), record.getGameTime(), record.getType(),
+                    record.getZone() != null ? record.getZone() : "",
+                    record.getFrom() != null ? record.getFrom() : "",
+                    record.getTo() != null ? record.getTo() : "",
+                    record.getValue()));
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not export weather history: " + e.getMessage());
+            return null;
+        }
+        return folder.getName() + "/" + file.getName();
+    }
+
+    @Override
+    public List<String> getTabCompletions(CommandSender sender, String[] args) {
+        if (args.length == 1) {
+            List<String> completions = new ArrayList<>();
+            for (String option : Arrays.asList("export", "24", "168")) {
+                if (option.startsWith(args[0].toLowerCase())) {
+                    completions.add(option);
+                }
+            }
+            return completions;
+        }
+        return super.getTabCompletions(sender, args);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Show or export recorded weather history";
+    }
+
+    @Override
+    public String getUsage() {
+        return "/climate history [export] [hours]";
+    }
+}
\ No newline at end of file
@@ -179,14 +179,14 @@ public class InfoCommand extends BaseSubCommand {
             // Weather progression information with enhanced display
             if (plugin.getWeatherProgressionManager() != null) {
                 WeatherProgressionManager.WeatherProgression progression =
-                        plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+                        plugin.getWeatherProgressionManager().getProgression(player);
                 if (progression != WeatherProgressionManager.WeatherProgression.CLEAR) {
                     String progressionName = progression.name().toLowerCase().replace("_", " ");
                     MessageUtils.send(sender, MessageUtils.infoLine("Weather Stage", progressionName, MessageUtils.ACCENT));
                 }
 
                 // Show if in transition
-                if (plugin.getWeatherProgressionManager().isInTransition(player.getWorld())) {
+                if (plugin.getWeatherProgressionManager().isInTransition(player)) {
                     Component transitionMsg = Component.text()
                             .append(Component.text("⚡ ", MessageUtils.WARNING))
                             .append(MessageUtils.text("Weather is transitioning...", MessageUtils.WARNING))
@@ -195,7 +195,7 @@ public class InfoCommand extends BaseSubCommand {
                 }
 
                 // Show special effects
-                if (plugin.getWeatherProgressionManager().isHailActive(player.getWorld())) {
+                if (plugin.getWeatherProgressionManager().isHailActive(player)) {
                     Component hailMsg = Component.text()
                             .append(Component.text("❄ ", NamedTextColor.WHITE))
                             .append(MessageUtils.text("Hail is currently falling!", NamedTextColor.WHITE).style(Style.style(TextDecoration.BOLD)))
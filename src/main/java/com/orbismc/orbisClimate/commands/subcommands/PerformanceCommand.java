@@ -2,6 +2,9 @@ package com.orbismc.orbisClimate.commands.subcommands;
 
 import com.orbismc.orbisClimate.OrbisClimate;
 import com.orbismc.orbisClimate.PerformanceMonitor;
+import com.orbismc.orbisClimate.QualityController;
+import com.orbismc.orbisClimate.SelfProfiler;
+import com.orbismc.orbisClimate.TickTimeHistogram;
 import com.orbismc.orbisClimate.utils.MessageUtils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.Style;
@@ -35,6 +38,8 @@ public class PerformanceCommand extends BaseSubCommand {
         switch (args[0].toLowerCase()) {
             case "report":
                 return handleReport(sender, monitor);
+            case "profile":
+                return handleProfile(sender);
             case "mode":
                 return handleMode(sender, monitor, args);
             case "optimize":
@@ -57,6 +62,13 @@ public class PerformanceCommand extends BaseSubCommand {
                 .append(MessageUtils.text(" - Show performance report", MessageUtils.MUTED))
                 .build();
         MessageUtils.send(sender, reportCmd);
+
+        Component profileCmd = Component.text()
+                .append(MessageUtils.clickableCommand("/climate performance profile",
+                    "/climate performance profile", MessageUtils.ACCENT))
+                .append(MessageUtils.text(" - Show cost per subsystem", MessageUtils.MUTED))
+                .build();
+        MessageUtils.send(sender, profileCmd);
         
         Component modeCmd = Component.text()
                 .append(MessageUtils.clickableCommand("/climate performance mode [on|off]", 
@@ -94,6 +106,12 @@ public class PerformanceCommand extends BaseSubCommand {
                 .append(MessageUtils.text(" (threshold: 18.0)", MessageUtils.MUTED))
                 .build();
         MessageUtils.send(sender, tpsLine);
+
+        // Tick time percentiles per window, with this plugin's share of the tick
+        MessageUtils.send(sender, MessageUtils.text("MSPT (p50 / p95 / p99 / max):", MessageUtils.INFO));
+        showTickStats(sender, "5s", monitor.getTickStats(5));
+        showTickStats(sender, "1m", monitor.getTickStats(60));
+        showTickStats(sender, "5m", monitor.getTickStats(300));
         
         // Memory usage
         Runtime runtime = Runtime.getRuntime();
@@ -128,12 +146,25 @@ public class PerformanceCommand extends BaseSubCommand {
         double multiplier = monitor.getPerformanceMultiplier();
         Component multiplierLine = Component.text()
                 .append(MessageUtils.text("Effect Multiplier: ", MessageUtils.INFO))
-                .append(MessageUtils.text(String.format("%.1fx", multiplier), 
+                .append(MessageUtils.text(String.format("%.2fx", multiplier), 
                     multiplier >= 1.0 ? MessageUtils.SUCCESS : 
                     multiplier >= 0.5 ? MessageUtils.WARNING : MessageUtils.ERROR))
                 .build();
         MessageUtils.send(sender, multiplierLine);
 
+        // Plugin time against the quality controller's budget
+        QualityController controller = monitor.getQualityController();
+        if (monitor.isQualityControlled()) {
+            double used = controller.getLastMeasuredMillis();
+            Component budgetLine = Component.text()
+                    .append(MessageUtils.text("Plugin Budget: ", MessageUtils.INFO))
+                    .append(MessageUtils.text(String.format("%.2f", used),
+                        used <= controller.getBudgetMillis() ? MessageUtils.SUCCESS : MessageUtils.WARNING))
+                    .append(MessageUtils.text(String.format(" / %.2f ms per tick", controller.getBudgetMillis()), MessageUtils.MUTED))
+                    .build();
+            MessageUtils.send(sender, budgetLine);
+        }
+
         // Additional server info
         MessageUtils.send(sender, Component.text(""));
         MessageUtils.send(sender, MessageUtils.text("Server Information:", MessageUtils.INFO, 
@@ -148,6 +179,70 @@ public class PerformanceCommand extends BaseSubCommand {
         return true;
     }
 
+    private void showTickStats(CommandSender sender, String window, TickTimeHistogram.Snapshot stats) {
+        if (stats.getTicks() == 0) {
+            MessageUtils.send(sender, MessageUtils.text("  " + window + ": no data yet", MessageUtils.MUTED));
+            return;
+        }
+
+        Component line = Component.text()
+                .append(MessageUtils.text("  " + window + ": ", MessageUtils.MUTED))
+                .append(MessageUtils.text(String.format("%.1f", stats.getP50()), getMsptColor(stats.getP50())))
+                .append(MessageUtils.text(" / ", MessageUtils.MUTED))
+                .append(MessageUtils.text(String.format("%.1f", stats.getP95()), getMsptColor(stats.getP95())))
+                .append(MessageUtils.text(" / ", MessageUtils.MUTED))
+                .append(MessageUtils.text(String.format("%.1f", stats.getP99()), getMsptColor(stats.getP99())))
+                .append(MessageUtils.text(" / ", MessageUtils.MUTED))
+                .append(MessageUtils.text(String.format("%.1f", stats.getMax()), getMsptColor(stats.getMax())))
+                .append(MessageUtils.text(String.format(" ms (plugin %.1f%%)", stats.getPluginShare() * 100), MessageUtils.MUTED))
+                .build();
+        MessageUtils.send(sender, line);
+    }
+
+    private boolean handleProfile(CommandSender sender) {
+        SelfProfiler profiler = plugin.getProfiler();
+        if (profiler == null || !profiler.isEnabled()) {
+            MessageUtils.send(sender, MessageUtils.error("Profiler is disabled! Enable monitoring.profiler.enabled in config.yml."));
+            return true;
+        }
+
+        MessageUtils.send(sender, MessageUtils.header("Subsystem Profile"));
+        MessageUtils.send(sender, MessageUtils.text("Last " + profiler.getWindowSeconds() + "s, nested probes included in their parent",
+            MessageUtils.MUTED));
+        MessageUtils.send(sender, MessageUtils.text(String.format("%-20s %7s %8s %8s %8s %6s %9s",
+            "probe", "calls", "avg µs", "max ms", "ms/tick", "cpu%", "alloc/t"), MessageUtils.INFO));
+
+        boolean any = false;
+        for (SelfProfiler.ProbeStats stats : profiler.getStats()) {
+            if (stats.getCalls() == 0) continue;
+            any = true;
+
+            String cpu = profiler.isTrackingCpuTime() && !stats.isWallTimeOnly() && stats.getTotalNanos() > 0 ?
+                String.format("%.0f", stats.getCpuNanos() * 100.0 / stats.getTotalNanos()) : "-";
+            String alloc = profiler.isTrackingAllocations() && !stats.isWallTimeOnly() ? formatBytes(stats.getBytesPerTick()) : "-";
+
+            Component line = Component.text()
+                    .append(MessageUtils.text(String.format("%-20s ", stats.getName()), MessageUtils.ACCENT))
+                    .append(MessageUtils.text(String.format("%7d %8.1f %8.2f ", stats.getCalls(), stats.getAverageMicros(),
+                        stats.getMaxNanos() / 1_000_000.0), MessageUtils.MUTED))
+                    .append(MessageUtils.text(String.format("%8.3f", stats.getMillisPerTick()), getPluginMsptColor(stats.getMillisPerTick())))
+                    .append(MessageUtils.text(String.format(" %6s %9s", cpu, alloc), MessageUtils.MUTED))
+                    .build();
+            MessageUtils.send(sender, line);
+        }
+
+        if (!any) {
+            MessageUtils.send(sender, MessageUtils.text("No samples yet - the first window is still running.", MessageUtils.MUTED));
+        }
+        return true;
+    }
+
+    private static String formatBytes(double bytes) {
+        if (bytes >= 1024 * 1024) return String.format("%.1fMB", bytes / 1024 / 1024);
+        if (bytes >= 1024) return String.format("%.1fKB", bytes / 1024);
+        return String.format("%.0fB", bytes);
+    }
+
     private boolean handleMode(CommandSender sender, PerformanceMonitor monitor, String[] args) {
         if (args.length < 2) {
             boolean isActive = monitor.isPerformanceMode();
@@ -271,6 +366,18 @@ public class PerformanceCommand extends BaseSubCommand {
         return MessageUtils.ERROR;
     }
     
+    private net.kyori.adventure.text.format.TextColor getMsptColor(double mspt) {
+        if (mspt <= 40.0) return MessageUtils.SUCCESS;
+        if (mspt <= 50.0) return MessageUtils.WARNING;
+        return MessageUtils.ERROR;
+    }
+    
+    private net.kyori.adventure.text.format.TextColor getPluginMsptColor(double mspt) {
+        if (mspt <= 0.5) return MessageUtils.SUCCESS;
+        if (mspt <= 2.0) return MessageUtils.WARNING;
+        return MessageUtils.ERROR;
+    }
+    
     private net.kyori.adventure.text.format.TextColor getMemoryColor(double percentage) {
         if (percentage <= 70) return MessageUtils.SUCCESS;
         if (percentage <= 85) return MessageUtils.WARNING;
@@ -280,7 +387,7 @@ public class PerformanceCommand extends BaseSubCommand {
     @Override
     public List<String> getTabCompletions(CommandSender sender, String[] args) {
         if (args.length == 1) {
-            return Arrays.asList("report", "mode", "optimize", "clear");
+            return Arrays.asList("report", "profile", "mode", "optimize", "clear");
         } else if (args.length == 2 && args[0].equalsIgnoreCase("mode")) {
             return Arrays.asList("on", "off");
         }
@@ -294,6 +401,6 @@ public class PerformanceCommand extends BaseSubCommand {
 
     @Override
     public String getUsage() {
-        return "/climate performance <report|mode|optimize|clear>";
+        return "/climate performance <report|profile|mode|optimize|clear>";
     }
 }
\ No newline at end of file
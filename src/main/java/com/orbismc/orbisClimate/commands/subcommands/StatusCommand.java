@@ -223,7 +223,7 @@ public class StatusCommand extends BaseSubCommand {
         }
 
         if (plugin.getWeatherProgressionManager() != null && 
-            plugin.getWeatherProgressionManager().isHailActive(player.getWorld())) {
+            plugin.getWeatherProgressionManager().isHailActive(player)) {
             activeSystemsBuilder.append(Component.text("❄ Hail ", NamedTextColor.WHITE));
             hasActiveWeather = true;
         }
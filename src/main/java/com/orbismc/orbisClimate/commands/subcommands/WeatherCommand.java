@@ -279,12 +279,12 @@ public class WeatherCommand extends BaseSubCommand {
     
     private void showProgressionStatus(Player player) {
         WeatherProgressionManager.WeatherProgression progression =
-            plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+            plugin.getWeatherProgressionManager().getProgression(player);
         String progressionName = progression.name().toLowerCase().replace("_", " ");
         
         MessageUtils.send(player, MessageUtils.infoLine("Weather Progression", progressionName, MessageUtils.ACCENT));
 
-        if (plugin.getWeatherProgressionManager().isInTransition(player.getWorld())) {
+        if (plugin.getWeatherProgressionManager().isInTransition(player)) {
             Component transitionMsg = Component.text()
                     .append(Component.text("⚡ ", MessageUtils.WARNING))
                     .append(MessageUtils.text("Progression transition active", MessageUtils.WARNING))
@@ -292,7 +292,7 @@ public class WeatherCommand extends BaseSubCommand {
             MessageUtils.send(player, transitionMsg);
         }
 
-        if (plugin.getWeatherProgressionManager().isHailActive(player.getWorld())) {
+        if (plugin.getWeatherProgressionManager().isHailActive(player)) {
             Component hailMsg = Component.text()
                     .append(Component.text("❄ ", NamedTextColor.WHITE))
                     .append(MessageUtils.text("Hail is currently active", NamedTextColor.WHITE, 
@@ -330,7 +330,7 @@ public class WeatherCommand extends BaseSubCommand {
         MessageUtils.send(player, MessageUtils.header("Weather Progression Information"));
         
         WeatherProgressionManager.WeatherProgression progression = 
-            plugin.getWeatherProgressionManager().getWorldProgression(player.getWorld());
+            plugin.getWeatherProgressionManager().getProgression(player);
         String progressionName = progression.name().toLowerCase().replace("_", " ");
         
         Component stageDisplay = Component.text()
@@ -341,7 +341,7 @@ public class WeatherCommand extends BaseSubCommand {
                 .build();
         MessageUtils.send(player, stageDisplay);
         
-        boolean inTransition = plugin.getWeatherProgressionManager().isInTransition(player.getWorld());
+        boolean inTransition = plugin.getWeatherProgressionManager().isInTransition(player);
         if (inTransition) {
             Component transitionStatus = Component.text()
                     .append(MessageUtils.text("Status: ", MessageUtils.INFO))
@@ -351,7 +351,7 @@ public class WeatherCommand extends BaseSubCommand {
             MessageUtils.send(player, transitionStatus);
         }
         
-        boolean hailActive = plugin.getWeatherProgressionManager().isHailActive(player.getWorld());
+        boolean hailActive = plugin.getWeatherProgressionManager().isHailActive(player);
         if (hailActive) {
             Component hailStatus = Component.text()
                     .append(Component.text("❄ ", NamedTextColor.WHITE))
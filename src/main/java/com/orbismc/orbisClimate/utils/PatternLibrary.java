@@ -0,0 +1,153 @@
+package com.orbismc.orbisClimate.utils;
+
+/**
+ * Shared lookup tables and precomputed shape templates for animated particle effects.
+ * Angles are expressed as table steps (TABLE_SIZE steps per full turn) and shapes are
+ * animated by a tick-derived phase index, so per-particle work is table reads and adds
+ * instead of Math.sin/Math.cos calls against the wall clock.
+ */
+public final class PatternLibrary {
+
+    // 1024 steps per turn keeps wrap-around a single mask operation
+    public static final int TABLE_SIZE = 1024;
+    public static final int TABLE_MASK = TABLE_SIZE - 1;
+
+    // Handy step counts for converting old radian/degree based animations
+    public static final int QUARTER_TURN = TABLE_SIZE / 4;
+    public static final int ONE_RADIAN = (int) Math.round(TABLE_SIZE / (2 * Math.PI)); // ~163 steps
+
+    private static final double[] SIN = new double[TABLE_SIZE];
+    private static final double[] COS = new double[TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            double radians = (i * 2.0 * Math.PI) / TABLE_SIZE;
+            SIN[i] = Math.sin(radians);
+            COS[i] = Math.cos(radians);
+        }
+    }
+
+    private PatternLibrary() {
+    }
+
+    // Table lookups - any int is valid, it is wrapped into the table
+    public static double sin(int step) {
+        return SIN[step & TABLE_MASK];
+    }
+
+    public static double cos(int step) {
+        return COS[step & TABLE_MASK];
+    }
+
+    /**
+     * Phase index for an animation advancing at a fixed number of table steps per tick
+     */
+    public static int phase(long tick, double stepsPerTick) {
+        return (int) (tick * stepsPerTick) & TABLE_MASK;
+    }
+
+    /**
+     * Convert degrees to table steps (load-time helper, not for hot paths)
+     */
+    public static int degreesToSteps(double degrees) {
+        return (int) Math.round(degrees * TABLE_SIZE / 360.0) & TABLE_MASK;
+    }
+
+    /**
+     * Evenly spaced points on a horizontal unit circle
+     */
+    public static Pattern ring(int points) {
+        int[] angles = new int[points];
+        double[] radial = new double[points];
+        double[] heights = new double[points];
+        for (int i = 0; i < points; i++) {
+            angles[i] = (i * TABLE_SIZE) / points;
+            radial[i] = 1.0;
+        }
+        return new Pattern(angles, radial, heights);
+    }
+
+    /**
+     * Points climbing a unit-radius helix from y=0 to y=1 over the given number of turns
+     */
+    public static Pattern spiral(int points, double turns) {
+        int[] angles = new int[points];
+        double[] radial = new double[points];
+        double[] heights = new double[points];
+        for (int i = 0; i < points; i++) {
+            double progress = points > 1 ? (double) i / (points - 1) : 0.0;
+            angles[i] = (int) Math.round(progress * turns * TABLE_SIZE) & TABLE_MASK;
+            radial[i] = 1.0;
+            heights[i] = progress;
+        }
+        return new Pattern(angles, radial, heights);
+    }
+
+    /**
+     * A vertical sheet one unit wide and one unit tall, columns spread along X.
+     * The per-point angle is used as the wave offset so the sheet ripples when animated.
+     */
+    public static Pattern curtain(int columns, int rows) {
+        int points = columns * rows;
+        int[] angles = new int[points];
+        double[] radial = new double[points];
+        double[] heights = new double[points];
+        int index = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                double across = columns > 1 ? (double) column / (columns - 1) : 0.5;
+                angles[index] = (column * TABLE_SIZE) / Math.max(1, columns) + row * (TABLE_SIZE / 16);
+                radial[index] = across - 0.5;
+                heights[index] = rows > 1 ? (double) row / (rows - 1) : 0.0;
+                index++;
+            }
+        }
+        return new Pattern(angles, radial, heights);
+    }
+
+    /**
+     * Immutable unit offset table for one shape. Coordinates are resolved per point with a
+     * phase index, which rotates rings/spirals or ripples curtains.
+     */
+    public static final class Pattern {
+        private final int[] angles;
+        private final double[] radial;
+        private final double[] heights;
+
+        private Pattern(int[] angles, double[] radial, double[] heights) {
+            this.angles = angles;
+            this.radial = radial;
+            this.heights = heights;
+        }
+
+        public int size() {
+            return angles.length;
+        }
+
+        public int angle(int i) {
+            return angles[i];
+        }
+
+        public double height(int i) {
+            return heights[i];
+        }
+
+        // Rotating shapes (ring, spiral)
+        public double x(int i, int phase) {
+            return COS[(angles[i] + phase) & TABLE_MASK] * radial[i];
+        }
+
+        public double z(int i, int phase) {
+            return SIN[(angles[i] + phase) & TABLE_MASK] * radial[i];
+        }
+
+        // Sheet shapes (curtain): position along the sheet and its ripple displacement
+        public double across(int i) {
+            return radial[i];
+        }
+
+        public double ripple(int i, int phase) {
+            return SIN[(angles[i] + phase) & TABLE_MASK];
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.orbismc.orbisClimate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EffectTimerWheelTest {
+
+    private EffectTimerWheel wheel;
+    private long tick;
+    private List<Long> fired;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new EffectTimerWheel(Logger.getLogger("EffectTimerWheelTest"));
+        tick = 0;
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    void oneShotFiresAtItsDeadline() {
+        long handle = wheel.schedule(5, () -> fired.add(tick));
+        assertTrue(wheel.isScheduled(handle));
+
+        advance(20);
+        assertEquals(List.of(5L), fired);
+        assertFalse(wheel.isScheduled(handle));
+        assertEquals(0, wheel.getScheduledCount());
+    }
+
+    @Test
+    void deadlinesBeyondOneRotationWaitForTheirTurn() {
+        wheel.schedule(1000, () -> fired.add(tick));
+        wheel.schedule(1536, () -> fired.add(tick));
+        // Same slot as 1536, three rotations earlier
+        wheel.schedule(512, () -> fired.add(tick));
+
+        advance(2000);
+        assertEquals(List.of(512L, 1000L, 1536L), fired);
+    }
+
+    @Test
+    void timerScheduledFromAnActionIntoTheSameSlotWaitsARotation() {
+        wheel.schedule(3, () -> {
+            fired.add(tick);
+            wheel.schedule(512, () -> fired.add(tick));
+        });
+
+        advance(1000);
+        assertEquals(List.of(3L, 515L), fired);
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        long handle = wheel.schedule(10, () -> fired.add(tick));
+        advance(4);
+
+        assertTrue(wheel.cancel(handle));
+        assertFalse(wheel.cancel(handle));
+        assertFalse(wheel.isScheduled(handle));
+        assertEquals(0, wheel.getScheduledCount());
+
+        advance(20);
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    void staleHandleCannotTouchReusedSlot() {
+        long stale = wheel.schedule(2, () -> fired.add(-1L));
+        wheel.cancel(stale);
+        // The drain reclaims the cancelled slot, which the next schedule then reuses
+        advance(2);
+
+        long fresh = wheel.schedule(3, () -> fired.add(tick));
+        assertEquals((int) stale, (int) fresh);
+        assertFalse(wheel.isScheduled(stale));
+        assertFalse(wheel.cancel(stale));
+        assertTrue(wheel.isScheduled(fresh));
+
+        advance(10);
+        assertEquals(List.of(5L), fired);
+    }
+
+    @Test
+    void repeatingTimerFiresEveryPeriod() {
+        long handle = wheel.scheduleRepeating(2, 3, () -> fired.add(tick));
+
+        advance(12);
+        assertEquals(List.of(2L, 5L, 8L, 11L), fired);
+        assertTrue(wheel.isScheduled(handle));
+        assertEquals(1, wheel.getScheduledCount());
+
+        assertTrue(wheel.cancel(handle));
+        advance(12);
+        assertEquals(4, fired.size());
+    }
+
+    @Test
+    void repeatingTimerCanCancelItself() {
+        long[] handle = new long[1];
+        handle[0] = wheel.scheduleRepeating(1, 1, () -> {
+            fired.add(tick);
+            if (fired.size() == 3) wheel.cancel(handle[0]);
+        });
+
+        advance(10);
+        assertEquals(List.of(1L, 2L, 3L), fired);
+        assertFalse(wheel.isScheduled(handle[0]));
+        assertEquals(0, wheel.getScheduledCount());
+    }
+
+    @Test
+    void failingActionDoesNotStopTheDrain() {
+        wheel.schedule(1, () -> {
+            throw new IllegalStateException("boom");
+        });
+        wheel.schedule(1, () -> fired.add(tick));
+
+        advance(2);
+        assertEquals(List.of(1L), fired);
+        assertEquals(0, wheel.getScheduledCount());
+    }
+
+    @Test
+    void poolGrowsPastInitialCapacity() {
+        int initial = wheel.getCapacity();
+        int count = initial * 4 + 1;
+        long[] handles = new long[count];
+        int[] late = new int[1];
+        for (int i = 0; i < count; i++) {
+            long delay = 1 + i % 700;
+            handles[i] = wheel.schedule((int) delay, () -> {
+                fired.add(tick);
+                if (tick != delay) late[0]++;
+            });
+        }
+
+        assertTrue(wheel.getCapacity() >= count, "capacity " + wheel.getCapacity());
+        assertEquals(count, wheel.getScheduledCount());
+        for (long handle : handles) {
+            assertTrue(wheel.isScheduled(handle));
+        }
+
+        advance(700);
+        assertEquals(count, fired.size());
+        assertEquals(0, wheel.getScheduledCount());
+        assertEquals(0, late[0], "timers fired off their deadline");
+    }
+
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick++;
+            wheel.tick();
+        }
+    }
+}
\ No newline at end of file
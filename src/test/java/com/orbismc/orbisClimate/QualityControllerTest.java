@@ -0,0 +1,90 @@
+package com.orbismc.orbisClimate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QualityControllerTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private QualityController controller;
+
+    @BeforeEach
+    void setUp() {
+        // The shipped defaults: 2 ms budget, kp 0.3, ki 0.1, 10% deadband, 0.2 floor, -0.25/+0.05 slew
+        controller = new QualityController();
+        controller.configure(true, 2.0, 0.3, 0.1, 0.1, 0.2, 0.25, 0.05);
+    }
+
+    @Test
+    void idlePluginKeepsFullQuality() {
+        for (int second = 0; second < 30; second++) {
+            controller.update(0.0);
+        }
+        assertEquals(1.0, controller.getQuality(), EPSILON);
+    }
+
+    @Test
+    void loadInsideDeadbandHoldsQuality() {
+        for (int second = 0; second < 30; second++) {
+            controller.update(2.1);
+        }
+        assertEquals(1.0, controller.getQuality(), EPSILON);
+    }
+
+    @Test
+    void overBudgetDropsAtMostTheSlewLimit() {
+        // Twice the budget: error -1, integral 0.9, target 0.6, limited to one 0.25 step
+        controller.update(4.0);
+        assertEquals(0.75, controller.getQuality(), EPSILON);
+
+        controller.update(4.0);
+        assertEquals(0.5, controller.getQuality(), EPSILON);
+    }
+
+    @Test
+    void sustainedOverloadSettlesAtMinQuality() {
+        for (int second = 0; second < 30; second++) {
+            controller.update(10.0);
+        }
+        assertEquals(0.2, controller.getQuality(), EPSILON);
+    }
+
+    @Test
+    void recoveryRisesAtMostTheSlewLimit() {
+        for (int second = 0; second < 30; second++) {
+            controller.update(10.0);
+        }
+
+        double previous = controller.getQuality();
+        for (int second = 0; second < 30; second++) {
+            controller.update(0.0);
+            double quality = controller.getQuality();
+            assertTrue(quality - previous <= 0.05 + EPSILON, "rose " + (quality - previous) + " in one second");
+            previous = quality;
+        }
+        assertEquals(1.0, previous, EPSILON);
+    }
+
+    @Test
+    void integralDoesNotWindUpWhileSaturated() {
+        // A long idle stretch must not bank headroom that delays the response to overload
+        for (int second = 0; second < 600; second++) {
+            controller.update(0.0);
+        }
+        controller.update(4.0);
+        assertEquals(0.75, controller.getQuality(), EPSILON);
+    }
+
+    @Test
+    void disabledControllerReportsFullQuality() {
+        controller.configure(false, 2.0, 0.3, 0.1, 0.1, 0.2, 0.25, 0.05);
+        controller.update(10.0);
+
+        assertEquals(1.0, controller.getQuality(), EPSILON);
+        assertEquals(10.0, controller.getLastMeasuredMillis(), EPSILON);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.orbismc.orbisClimate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TickTimeHistogramTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private TickTimeHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new TickTimeHistogram();
+    }
+
+    @Test
+    void bucketUpperBoundCoversItsDurations() {
+        for (long micros = 1; micros < 10_000_000L; micros = micros * 5 / 4 + 1) {
+            long upper = TickTimeHistogram.bucketUpperMicros(TickTimeHistogram.bucketFor(micros));
+            assertTrue(upper >= micros, micros + "us reported as " + upper + "us");
+            // Four buckets per octave: never more than a quarter octave above
+            assertTrue(upper <= micros * 5 / 4 + 1, micros + "us reported as " + upper + "us");
+        }
+    }
+
+    @Test
+    void bucketsAreMonotonic() {
+        int previous = TickTimeHistogram.bucketFor(1);
+        for (long micros = 2; micros < 1_000_000L; micros++) {
+            int bucket = TickTimeHistogram.bucketFor(micros);
+            assertTrue(bucket >= previous, micros + "us fell back to bucket " + bucket);
+            previous = bucket;
+        }
+    }
+
+    @Test
+    void outOfRangeDurationsAreClamped() {
+        assertEquals(TickTimeHistogram.bucketFor(1), TickTimeHistogram.bucketFor(0));
+        assertEquals(TickTimeHistogram.bucketFor(1), TickTimeHistogram.bucketFor(-5));
+        assertEquals(TickTimeHistogram.BUCKETS - 1, TickTimeHistogram.bucketFor(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentileReturnsBucketHoldingTheRank() {
+        long[] merged = new long[TickTimeHistogram.BUCKETS];
+        int fast = TickTimeHistogram.bucketFor(1_000);   // 1 ms
+        int slow = TickTimeHistogram.bucketFor(50_000);  // 50 ms
+        merged[fast] = 95;
+        merged[slow] = 5;
+
+        double fastMillis = TickTimeHistogram.bucketUpperMicros(fast) / 1000.0;
+        double slowMillis = TickTimeHistogram.bucketUpperMicros(slow) / 1000.0;
+        assertEquals(fastMillis, TickTimeHistogram.percentile(merged, 100, 0.50), EPSILON);
+        assertEquals(fastMillis, TickTimeHistogram.percentile(merged, 100, 0.95), EPSILON);
+        assertEquals(slowMillis, TickTimeHistogram.percentile(merged, 100, 0.96), EPSILON);
+        assertEquals(slowMillis, TickTimeHistogram.percentile(merged, 100, 0.99), EPSILON);
+    }
+
+    @Test
+    void snapshotCoversOnlyTheWindow() {
+        // 10 ms ticks five seconds ago, 40 ms ticks in the current second
+        for (int i = 0; i < 20; i++) histogram.record(100, 10_000_000L, 1_000_000L);
+        for (int i = 0; i < 20; i++) histogram.record(105, 40_000_000L, 4_000_000L);
+
+        TickTimeHistogram.Snapshot recent = histogram.snapshot(105, 1);
+        assertEquals(20, recent.getTicks());
+        assertEquals(40.0, recent.getMean(), EPSILON);
+        assertEquals(40.0, recent.getMax(), EPSILON);
+
+        TickTimeHistogram.Snapshot all = histogram.snapshot(105, 10);
+        assertEquals(40, all.getTicks());
+        assertEquals(25.0, all.getMean(), EPSILON);
+        assertEquals(0.1, all.getPluginShare(), EPSILON);
+        // Percentiles never exceed the slowest tick actually recorded
+        assertTrue(all.getP99() <= all.getMax(), "p99 above max");
+    }
+
+    @Test
+    void recycledSlotForgetsItsOldSecond() {
+        histogram.record(7, 10_000_000L, 0);
+        histogram.record(7 + TickTimeHistogram.SLOTS, 20_000_000L, 0);
+
+        TickTimeHistogram.Snapshot snapshot = histogram.snapshot(7 + TickTimeHistogram.SLOTS, TickTimeHistogram.SLOTS);
+        assertEquals(1, snapshot.getTicks());
+        assertEquals(20.0, snapshot.getMax(), EPSILON);
+    }
+
+    @Test
+    void emptyWindowReportsNothing() {
+        assertEquals(0, histogram.snapshot(0, 60).getTicks());
+
+        // Second 0 is a real second, not the unused slot marker
+        histogram.record(0, 10_000_000L, 0);
+        assertEquals(1, histogram.snapshot(0, 60).getTicks());
+        assertEquals(0, histogram.snapshot(400, 60).getTicks());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.orbismc.orbisClimate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WeatherMarkovModelTest {
+
+    private static final WeatherForecast.WeatherType[] WEATHERS = WeatherForecast.WeatherType.values();
+    private static final int SAMPLES = 200_000;
+
+    private WeatherMarkovModel model;
+
+    @BeforeEach
+    void setUp() {
+        // No weather_model section: built-in season weights, persistence 0.5
+        model = new WeatherMarkovModel(null, Logger.getLogger("WeatherMarkovModelTest"));
+    }
+
+    @Test
+    void aliasTableReproducesWeights() {
+        double[][] rows = {
+                {45, 25, 15, 10, 5, 0, 0},
+                {1, 1, 1, 1, 1, 1, 1},
+                {0, 0, 0, 0, 0, 0, 3},
+                {55, 15, 10, 15, 1.5, 0, 3.5},
+                {0.001, 1000, 0, 0.5, 0, 7, 0}
+        };
+
+        for (double[] weights : rows) {
+            float[] probability = new float[weights.length];
+            byte[] alias = new byte[weights.length];
+            WeatherMarkovModel.buildAliasTable(weights, probability, alias);
+
+            double total = 0;
+            for (double weight : weights) total += weight;
+            double[] drawn = WeatherMarkovModel.aliasWeights(probability, alias);
+            for (int i = 0; i < weights.length; i++) {
+                assertEquals(weights[i] / total, drawn[i], 1e-6, "column " + i);
+            }
+        }
+    }
+
+    @Test
+    void persistenceRowsKeepTheSeasonWeightsStationary() {
+        // Rows of the form p * I + (1 - p) * w have w itself as the stationary vector
+        double[] winter = {25, 12, 15, 5, 28, 15, 0};
+        double[] stationary = model.getChain(null, "winter").stationaryDistribution();
+
+        for (int i = 0; i < WEATHERS.length; i++) {
+            assertEquals(winter[i] / 100.0, stationary[i], 1e-6, WEATHERS[i].name());
+        }
+    }
+
+    @Test
+    void worldChainSamplesMatchStationaryDistribution() {
+        assertSamplesMatchStationary(model.getChain(null, "summer"), 42L);
+    }
+
+    @Test
+    void zoneChainSamplesMatchStationaryDistribution() {
+        WeatherMarkovModel.Chain chain = model.getChain(ClimateZoneManager.ClimateZone.ARCTIC, "winter");
+
+        // Winter folded into the arctic: thunderstorms and blizzards become blizzards, rain becomes snow
+        double[] stationary = chain.stationaryDistribution();
+        assertEquals(0.25, stationary[WeatherForecast.WeatherType.CLEAR.ordinal()], 1e-6);
+        assertEquals(0.55, stationary[WeatherForecast.WeatherType.SNOW.ordinal()], 1e-6);
+        assertEquals(0.20, stationary[WeatherForecast.WeatherType.BLIZZARD.ordinal()], 1e-6);
+
+        assertSamplesMatchStationary(chain, 7L);
+    }
+
+    @Test
+    void sameSeedReproducesSequence() {
+        WeatherMarkovModel.Chain chain = model.getChain(null, "spring");
+        SplittableRandom first = new SplittableRandom(1234L);
+        SplittableRandom second = new SplittableRandom(1234L);
+
+        WeatherForecast.WeatherType a = null;
+        WeatherForecast.WeatherType b = null;
+        for (int i = 0; i < 1000; i++) {
+            a = chain.next(a, first);
+            b = chain.next(b, second);
+            assertEquals(a, b);
+        }
+    }
+
+    private static void assertSamplesMatchStationary(WeatherMarkovModel.Chain chain, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] counts = new int[WEATHERS.length];
+
+        WeatherForecast.WeatherType weather = null;
+        for (int i = 0; i < SAMPLES; i++) {
+            weather = chain.next(weather, random);
+            counts[weather.ordinal()]++;
+        }
+
+        double[] stationary = chain.stationaryDistribution();
+        for (int i = 0; i < WEATHERS.length; i++) {
+            // Consecutive draws are correlated, so allow a few standard errors more than independent ones
+            assertEquals(stationary[i], (double) counts[i] / SAMPLES, 0.01, WEATHERS[i].name());
+        }
+    }
+}
\ No newline at end of file